@@ -8,7 +8,7 @@ export default async function handler(req, res) {
     res.setHeader('Access-Control-Allow-Credentials', 'true');
     res.setHeader('Access-Control-Allow-Origin', '*');
     res.setHeader('Access-Control-Allow-Methods', 'GET,POST,PUT,DELETE,OPTIONS');
-    res.setHeader('Access-Control-Allow-Headers', 'Content-Type, Authorization');
+    res.setHeader('Access-Control-Allow-Headers', 'Content-Type, Authorization, Idempotency-Key');
 
     // OPTIONS 요청 (preflight) 처리
     if (req.method === 'OPTIONS') {
@@ -27,6 +27,10 @@ export default async function handler(req, res) {
             headers: {
                 'Content-Type': 'application/json',
                 ...(req.headers.authorization && { 'Authorization': req.headers.authorization }),
+                // 백엔드가 로그인 시도 제한에 실제 클라이언트 IP를 쓰도록 원래 주소를 전달합니다
+                ...(req.headers['x-forwarded-for'] && { 'X-Forwarded-For': req.headers['x-forwarded-for'] }),
+                // 재전송된 변경 요청을 백엔드가 한 번만 처리하도록 멱등 키를 전달합니다
+                ...(req.headers['idempotency-key'] && { 'Idempotency-Key': req.headers['idempotency-key'] }),
             },
             ...(req.method !== 'GET' && req.method !== 'HEAD' && { body: JSON.stringify(req.body) }),
         });
@@ -41,6 +45,13 @@ export default async function handler(req, res) {
         if (contentType) {
             res.setHeader('Content-Type', contentType);
         }
+        // 재전송 응답 여부와 재시도 대기 시간도 그대로 전달합니다
+        for (const name of ['Idempotent-Replayed', 'Retry-After']) {
+            const value = response.headers.get(name);
+            if (value) {
+                res.setHeader(name, value);
+            }
+        }
 
         res.send(data);
     } catch (error) {
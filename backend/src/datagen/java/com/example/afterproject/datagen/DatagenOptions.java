@@ -0,0 +1,85 @@
+package com.example.afterproject.datagen;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 데이터 생성기 옵션 (--이름=값)
+ * 접속 정보를 지정하지 않으면 애플리케이션과 같은 환경 변수(MYSQLHOST, MYSQLPORT, MYSQLDATABASE, MYSQLUSER, MYSQLPASSWORD)를 사용합니다.
+ */
+final class DatagenOptions {
+
+    final String url;
+    final String user;
+    final String password;
+    final String tag;
+    final long seed;
+    final int threads;
+    final int batchSize;
+
+    final int students;
+    final int teachers;
+    final int courses;
+    final int coursesPerStudent;
+    final double courseSkew;
+    final int classDays;
+    final LocalDate termStart;
+    final int surveys;
+    final double globalSurveyRatio;
+    final double responseRate;
+    final double surveySkew;
+    final LocalDate today;
+
+    private DatagenOptions(Map<String, String> values) {
+        Map<String, String> env = System.getenv();
+        url = values.getOrDefault("url", "jdbc:mysql://" + env.getOrDefault("MYSQLHOST", "localhost") + ":"
+                + env.getOrDefault("MYSQLPORT", "3306") + "/" + env.getOrDefault("MYSQLDATABASE", "afterproject")
+                + "?useSSL=false&serverTimezone=Asia/Seoul&characterEncoding=UTF-8&allowPublicKeyRetrieval=true");
+        user = values.getOrDefault("user", env.getOrDefault("MYSQLUSER", "root"));
+        password = values.getOrDefault("password", env.getOrDefault("MYSQLPASSWORD", ""));
+        tag = values.getOrDefault("tag", "dg");
+        seed = Long.parseLong(values.getOrDefault("seed", "20240901"));
+        threads = Integer.parseInt(values.getOrDefault("threads", "8"));
+        batchSize = Integer.parseInt(values.getOrDefault("batch-size", "1000"));
+
+        students = Integer.parseInt(values.getOrDefault("students", "20000"));
+        teachers = Integer.parseInt(values.getOrDefault("teachers", String.valueOf(Math.max(1, students / 100))));
+        courses = Integer.parseInt(values.getOrDefault("courses", "1000"));
+        coursesPerStudent = Integer.parseInt(values.getOrDefault("courses-per-student", "4"));
+        courseSkew = Double.parseDouble(values.getOrDefault("course-skew", "1.0"));
+        classDays = Integer.parseInt(values.getOrDefault("class-days", "180"));
+        termStart = LocalDate.parse(values.getOrDefault("term-start", "2026-03-02"));
+        surveys = Integer.parseInt(values.getOrDefault("surveys", String.valueOf(courses * 2)));
+        globalSurveyRatio = Double.parseDouble(values.getOrDefault("global-survey-ratio", "0.1"));
+        responseRate = Double.parseDouble(values.getOrDefault("response-rate", "0.8"));
+        surveySkew = Double.parseDouble(values.getOrDefault("survey-skew", "0.7"));
+        today = LocalDate.parse(values.getOrDefault("today", LocalDate.now().toString()));
+
+        if (students < 1 || courses < 1 || teachers < 1 || coursesPerStudent < 1 || threads < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("students, teachers, courses, courses-per-student, threads, batch-size는 1 이상이어야 합니다.");
+        }
+    }
+
+    static DatagenOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("옵션 형식은 --이름=값 입니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new DatagenOptions(values);
+    }
+
+    /**
+     * MySQL이면 JDBC 배치를 다중 행 INSERT로 보내도록 rewriteBatchedStatements를 켭니다.
+     */
+    String jdbcUrl() {
+        if (!url.startsWith("jdbc:mysql:") || url.contains("rewriteBatchedStatements")) {
+            return url;
+        }
+        return url + (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true";
+    }
+}
@@ -0,0 +1,570 @@
+package com.example.afterproject.datagen;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * 성능 테스트용 대규모 학교 데이터 생성기 (src/datagen/java)
+ * 실행: ./mvnw -Pdatagen test-compile exec:exec -Ddatagen.args="--url=jdbc:mysql://localhost:3306/afterproject --user=root --password=secret --students=20000"
+ *
+ * - 사용자/강좌/수강/출결/설문/설문 문항/설문 응답을 채웁니다. 기본값은 학생 2만, 강좌 1천, 출결 약 5백만 행입니다.
+ * - 전체 계획은 고정 seed로 단일 스레드에서 세우고, 저장만 여러 스레드의 JDBC 배치로 나눠 합니다. (스레드 수와 무관하게 같은 데이터)
+ * - 인기 강좌 쏠림: 학생의 강좌 선택은 Zipf 분포(course-skew)를 따르고, 정원이 차면 대기자가 되며 대기열이 길면 다른 강좌를 고릅니다.
+ * - 설문 롱테일: 설문별 응답률이 인기 순위에 따라 줄어듭니다. (survey-skew)
+ * - 수강 정보의 출결 카운터, 강좌의 좌석/대기 번호 카운터는 생성한 행과 일치하게 저장합니다.
+ * - 스키마는 Flyway로 맞추고, 기존 데이터 뒤에 명시적 ID로 이어 붙입니다. 같은 DB에 다시 넣을 때는 --tag를 바꿔야 합니다. (이메일/학번 중복)
+ */
+public final class DatasetGenerator {
+
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권"};
+    private static final String[] GIVEN_NAMES = {"민준", "서연", "도윤", "하은", "시우", "지우", "서준", "하윤", "예준", "지아",
+            "주원", "수아", "지호", "서윤", "건우", "채원", "현우", "지민", "유준", "다은"};
+    private static final String[] CATEGORIES = {"학습", "예체능", "코딩", "과학", "언어", "진로"};
+    private static final String[] SUBJECTS = {"수학 심화", "영어 회화", "파이썬 기초", "로봇 공학", "미술 드로잉", "축구",
+            "밴드 합주", "과학 실험", "독서 토론", "중국어", "진로 탐색", "웹 개발"};
+    private static final String[] COURSE_DAYS = {"월", "화", "수", "목", "금", "월,수", "화,목"};
+    private static final String[] COURSE_TIMES = {"15:30-17:00", "16:00-17:30", "17:00-18:30"};
+    private static final String[] CHOICES = {"매우 그렇다", "그렇다", "보통", "아니다", "매우 아니다"};
+    private static final String[] TEXT_ANSWERS = {"좋았습니다.", "조금 어려웠어요.", "시간이 더 있었으면 좋겠어요.", "다음에도 듣고 싶어요.", "없음"};
+    private static final int MAX_WAITLIST_FACTOR = 2;
+
+    private final DatagenOptions options;
+    private final HikariDataSource dataSource;
+    private final ExecutorService executor;
+    private final Random random;
+
+    // 기존 데이터 뒤에 이어 붙일 ID 기준값
+    private long userBase;
+    private long courseBase;
+    private long enrollmentBase;
+    private long surveyBase;
+    private long questionBase;
+
+    // 강좌 계획
+    private int[] courseTeacher;
+    private int[] courseCapacity;
+    private String[] courseStatus;
+    private int[] enrolledCount;
+    private long[] waitlistSequence;
+    private int[] approvedCourses;
+
+    // 수강 계획 (신청 순서 = enrollment_id 순서)
+    private int enrollmentTotal;
+    private int[] enrollmentStudent;
+    private int[] enrollmentCourse;
+    private long[] enrollmentWaitlist; // 0이면 ACTIVE
+    private int[][] activeStudentsByCourse;
+    private double[] studentAttendance;
+    private LocalDate[] classDates;
+
+    // 설문 계획
+    private int[] surveyCourse; // -1이면 전체 설문
+    private int[] surveyQuestions;
+    private long[] surveyFirstQuestion;
+    private LocalDate[] surveyStart;
+    private LocalDate[] surveyEnd;
+    private double[] surveyParticipation;
+
+    private DatasetGenerator(DatagenOptions options) {
+        this.options = options;
+        this.random = new Random(options.seed);
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(options.jdbcUrl());
+        config.setUsername(options.user);
+        config.setPassword(options.password);
+        config.setMaximumPoolSize(options.threads + 1); // Flyway는 잠금용 커넥션을 하나 더 씁니다.
+        config.setPoolName("datagen");
+        this.dataSource = new HikariDataSource(config);
+        this.executor = Executors.newFixedThreadPool(options.threads);
+    }
+
+    public static void main(String[] args) throws Exception {
+        DatasetGenerator generator = new DatasetGenerator(DatagenOptions.parse(args));
+        try {
+            generator.run();
+        } finally {
+            generator.executor.shutdownNow();
+            generator.dataSource.close();
+        }
+    }
+
+    private void run() throws Exception {
+        long started = System.nanoTime();
+        Flyway.configure().dataSource(dataSource).baselineOnMigrate(true).baselineVersion("1").load().migrate();
+        loadIdBases();
+
+        planCourses();
+        planEnrollments();
+        planSurveys();
+        System.out.printf("계획: 사용자 %,d / 강좌 %,d / 수강 %,d / 설문 %,d (seed=%d, threads=%d)%n",
+                userCount(), options.courses, enrollmentTotal, options.surveys, options.seed, options.threads);
+
+        String password = new BCryptPasswordEncoder().encode("password");
+        parallel("사용자", userCount(), 5_000, (connection, from, to) -> insertUsers(connection, from, to, password));
+        parallel("강좌", options.courses, 500, this::insertCourses);
+        parallel("수강/출결", enrollmentTotal, 500, this::insertEnrollmentsWithAttendance);
+        parallel("설문/문항", options.surveys, 200, this::insertSurveys);
+        parallel("설문 응답", options.surveys, 20, this::insertResponses);
+
+        System.out.printf("완료: %.1f초%n", (System.nanoTime() - started) / 1e9);
+    }
+
+    // ===== 계획 (단일 스레드) =====
+
+    private int userCount() {
+        return 1 + options.teachers + options.students; // 관리자 1명 + 교사 + 학생
+    }
+
+    private long adminId() {
+        return userBase + 1;
+    }
+
+    private long teacherId(int teacher) {
+        return userBase + 2 + teacher;
+    }
+
+    private long studentId(int student) {
+        return userBase + 2 + options.teachers + student;
+    }
+
+    private void planCourses() {
+        int courses = options.courses;
+        courseTeacher = new int[courses];
+        courseCapacity = new int[courses];
+        courseStatus = new String[courses];
+        enrolledCount = new int[courses];
+        waitlistSequence = new long[courses];
+        List<Integer> approved = new ArrayList<>();
+        for (int course = 0; course < courses; course++) {
+            courseTeacher[course] = course % options.teachers;
+            courseCapacity[course] = 20 + random.nextInt(26);
+            double status = random.nextDouble();
+            courseStatus[course] = status < 0.9 ? "APPROVED" : status < 0.97 ? "PENDING" : "REJECTED";
+            if ("APPROVED".equals(courseStatus[course])) {
+                approved.add(course);
+            }
+        }
+        if (approved.isEmpty()) {
+            approved.add(0);
+            courseStatus[0] = "APPROVED";
+        }
+        // 인기 순위는 강좌 번호와 무관하게 섞습니다.
+        approvedCourses = shuffle(approved.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private void planEnrollments() {
+        int students = options.students;
+        SkewedSampler courseSampler = new SkewedSampler(approvedCourses.length, options.courseSkew);
+        int perStudent = Math.min(options.coursesPerStudent, approvedCourses.length);
+
+        // 1. 학생별 희망 강좌 (평균 courses-per-student개)
+        Set<Long> taken = new HashSet<>();
+        List<long[]> requests = new ArrayList<>();
+        for (int student = 0; student < students; student++) {
+            int wanted = Math.min(approvedCourses.length, 1 + random.nextInt(2 * perStudent - 1));
+            for (int attempt = 0, picked = 0; picked < wanted && attempt < wanted * 10; attempt++) {
+                int course = approvedCourses[courseSampler.next(random)];
+                if (taken.add(pairKey(student, course))) {
+                    requests.add(new long[]{student, course});
+                    picked++;
+                }
+            }
+        }
+
+        // 2. 신청 순서를 섞어 선착순으로 배정. 대기열이 정원의 2배를 넘으면 다른 강좌를 고릅니다.
+        for (int i = requests.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long[] swap = requests.get(i);
+            requests.set(i, requests.get(j));
+            requests.set(j, swap);
+        }
+        enrollmentStudent = new int[requests.size()];
+        enrollmentCourse = new int[requests.size()];
+        enrollmentWaitlist = new long[requests.size()];
+        List<List<Integer>> activeStudents = new ArrayList<>();
+        for (int course = 0; course < options.courses; course++) {
+            activeStudents.add(new ArrayList<>());
+        }
+        for (long[] request : requests) {
+            int student = (int) request[0];
+            int course = (int) request[1];
+            for (int attempt = 0; isWaitlistFull(course) && attempt < 20; attempt++) {
+                int alternative = approvedCourses[courseSampler.next(random)];
+                if (!taken.contains(pairKey(student, alternative))) {
+                    taken.remove(pairKey(student, course));
+                    taken.add(pairKey(student, alternative));
+                    course = alternative;
+                }
+            }
+            if (isWaitlistFull(course)) {
+                continue;
+            }
+            int index = enrollmentTotal++;
+            enrollmentStudent[index] = student;
+            enrollmentCourse[index] = course;
+            if (enrolledCount[course] < courseCapacity[course]) {
+                enrolledCount[course]++;
+                activeStudents.get(course).add(student);
+            } else {
+                enrollmentWaitlist[index] = ++waitlistSequence[course];
+            }
+        }
+        activeStudentsByCourse = activeStudents.stream()
+                .map(list -> list.stream().mapToInt(Integer::intValue).toArray())
+                .toArray(int[][]::new);
+
+        // 3. 학생별 출석 성향: 대부분 성실, 일부는 출석률 기준(70%) 근처이거나 미달
+        studentAttendance = new double[students];
+        for (int student = 0; student < students; student++) {
+            double group = random.nextDouble();
+            studentAttendance[student] = group < 0.8 ? 0.85 + random.nextDouble() * 0.14
+                    : group < 0.95 ? 0.65 + random.nextDouble() * 0.2
+                    : 0.3 + random.nextDouble() * 0.35;
+        }
+
+        // 4. 수업일: 학기 시작일부터 평일만
+        classDates = new LocalDate[options.classDays];
+        LocalDate date = options.termStart;
+        for (int day = 0; day < options.classDays; date = date.plusDays(1)) {
+            if (date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                classDates[day++] = date;
+            }
+        }
+    }
+
+    private boolean isWaitlistFull(int course) {
+        return enrolledCount[course] >= courseCapacity[course]
+                && waitlistSequence[course] >= (long) courseCapacity[course] * MAX_WAITLIST_FACTOR;
+    }
+
+    private void planSurveys() {
+        int surveys = options.surveys;
+        SkewedSampler courseSampler = new SkewedSampler(approvedCourses.length, options.courseSkew);
+        surveyCourse = new int[surveys];
+        surveyQuestions = new int[surveys];
+        surveyFirstQuestion = new long[surveys];
+        surveyStart = new LocalDate[surveys];
+        surveyEnd = new LocalDate[surveys];
+        surveyParticipation = new double[surveys];
+        long nextQuestionId = questionBase + 1;
+        int termDays = Math.max(1, options.classDays * 7 / 5);
+        for (int survey = 0; survey < surveys; survey++) {
+            surveyCourse[survey] = random.nextDouble() < options.globalSurveyRatio ? -1 : approvedCourses[courseSampler.next(random)];
+            surveyQuestions[survey] = 3 + random.nextInt(6);
+            surveyFirstQuestion[survey] = nextQuestionId;
+            nextQuestionId += surveyQuestions[survey];
+            // 20%는 오늘 기준 진행 중, 나머지는 학기 중 임의 기간
+            if (random.nextDouble() < 0.2) {
+                surveyStart[survey] = options.today.minusDays(random.nextInt(7));
+                surveyEnd[survey] = options.today.plusDays(1 + random.nextInt(14));
+            } else {
+                surveyStart[survey] = options.termStart.plusDays(random.nextInt(termDays));
+                surveyEnd[survey] = surveyStart[survey].plusDays(7 + random.nextInt(14));
+            }
+        }
+        // 응답률 롱테일: 섞은 순위 r의 응답률 = response-rate / (r + 1)^survey-skew
+        int[] ranks = shuffle(IntStream.range(0, surveys).toArray());
+        for (int rank = 0; rank < surveys; rank++) {
+            surveyParticipation[ranks[rank]] = options.responseRate * SkewedSampler.weight(rank, options.surveySkew);
+        }
+    }
+
+    private int[] shuffle(int[] values) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+        return values;
+    }
+
+    private static long pairKey(int student, int course) {
+        return ((long) student << 32) | course;
+    }
+
+    // ===== 저장 (여러 스레드, 청크마다 하나의 트랜잭션) =====
+
+    private int insertUsers(Connection connection, int from, int to, String password) throws SQLException {
+        try (Batch batch = new Batch(connection, "INSERT INTO after_users (user_id, email, password, name, role, student_id_no) " +
+                "VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int user = from; user < to; user++) {
+                Random names = new Random(options.seed + user);
+                String name = SURNAMES[names.nextInt(SURNAMES.length)] + GIVEN_NAMES[names.nextInt(GIVEN_NAMES.length)];
+                String role;
+                String email;
+                String studentIdNo = null;
+                if (user == 0) {
+                    role = "ADMIN";
+                    email = options.tag + "-admin@datagen.local";
+                } else if (user <= options.teachers) {
+                    role = "TEACHER";
+                    email = options.tag + "-teacher" + user + "@datagen.local";
+                } else {
+                    int student = user - options.teachers - 1;
+                    role = "STUDENT";
+                    email = options.tag + "-student" + student + "@datagen.local";
+                    studentIdNo = String.format("%s-%06d", options.tag, student);
+                }
+                batch.add(userBase + 1 + user, email, password, name, role, studentIdNo);
+            }
+            return batch.rows();
+        }
+    }
+
+    private int insertCourses(Connection connection, int from, int to) throws SQLException {
+        Timestamp createdAt = Timestamp.valueOf(options.termStart.minusDays(30).atStartOfDay());
+        try (Batch batch = new Batch(connection, "INSERT INTO after_courses (course_id, teacher_id, course_name, category, " +
+                "description, course_days, course_time, location, capacity, enrolled_count, waitlist_sequence, status, " +
+                "allocation_mode, quarter, quarter_label, after_school_end_date, is_ended, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int course = from; course < to; course++) {
+                String subject = SUBJECTS[course % SUBJECTS.length];
+                batch.add(courseBase + 1 + course, teacherId(courseTeacher[course]), subject + " " + (course + 1) + "반",
+                        CATEGORIES[course % CATEGORIES.length], subject + " 방과후 강좌입니다.",
+                        COURSE_DAYS[course % COURSE_DAYS.length], COURSE_TIMES[course % COURSE_TIMES.length],
+                        "본관 " + (100 + course % 40) + "호", courseCapacity[course], enrolledCount[course],
+                        waitlistSequence[course], courseStatus[course], "FCFS", 1, "1분기 · 1학기",
+                        Date.valueOf(classDates.length > 0 ? classDates[classDates.length - 1] : options.termStart),
+                        false, createdAt);
+            }
+            return batch.rows();
+        }
+    }
+
+    /**
+     * 수강 정보와 그 출결 기록을 같은 트랜잭션에서 저장합니다.
+     * 출결 상태는 수강 ID로 만든 난수로 정해지므로 어느 스레드가 저장해도 같습니다.
+     */
+    private int insertEnrollmentsWithAttendance(Connection connection, int from, int to) throws SQLException {
+        LocalDateTime registrationStart = options.termStart.minusDays(14).atStartOfDay();
+        long secondsPerEnrollment = Math.max(1, 14L * 24 * 3600 / Math.max(1, enrollmentTotal));
+        String[][] statuses = new String[to - from][];
+        try (Batch batch = new Batch(connection, "INSERT INTO after_enrollments (enrollment_id, student_id, course_id, status, " +
+                "waitlist_position, enrolled_at, present_count, absent_count, late_count) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int index = from; index < to; index++) {
+                long enrollmentId = enrollmentBase + 1 + index;
+                boolean active = enrollmentWaitlist[index] == 0;
+                int present = 0;
+                int absent = 0;
+                int late = 0;
+                if (active) {
+                    String[] days = attendanceOf(enrollmentId, studentAttendance[enrollmentStudent[index]]);
+                    statuses[index - from] = days;
+                    for (String status : days) {
+                        switch (status) {
+                            case "PRESENT" -> present++;
+                            case "ABSENT" -> absent++;
+                            default -> late++;
+                        }
+                    }
+                }
+                batch.add(enrollmentId, studentId(enrollmentStudent[index]), courseBase + 1 + enrollmentCourse[index],
+                        active ? "ACTIVE" : "WAITLISTED", active ? null : enrollmentWaitlist[index],
+                        Timestamp.valueOf(registrationStart.plusSeconds(index * secondsPerEnrollment)), present, absent, late);
+            }
+        }
+        int rows = to - from;
+        try (Batch batch = new Batch(connection, "INSERT INTO after_attendance (enrollment_id, class_date, status) VALUES (?, ?, ?)")) {
+            for (int index = from; index < to; index++) {
+                String[] days = statuses[index - from];
+                if (days == null) {
+                    continue;
+                }
+                for (int day = 0; day < days.length; day++) {
+                    batch.add(enrollmentBase + 1 + index, Date.valueOf(classDates[day]), days[day]);
+                }
+            }
+            return rows + batch.rows();
+        }
+    }
+
+    private String[] attendanceOf(long enrollmentId, double attendanceRate) {
+        Random days = new Random(options.seed * 1_000_003L + enrollmentId);
+        String[] statuses = new String[classDates.length];
+        for (int day = 0; day < statuses.length; day++) {
+            double roll = days.nextDouble();
+            statuses[day] = roll >= attendanceRate ? "ABSENT" : roll < attendanceRate * 0.05 ? "LATE" : "PRESENT";
+        }
+        return statuses;
+    }
+
+    private int insertSurveys(Connection connection, int from, int to) throws SQLException {
+        try (Batch surveys = new Batch(connection, "INSERT INTO after_surveys (survey_id, author_id, course_id, title, " +
+                "start_date, end_date, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int survey = from; survey < to; survey++) {
+                int course = surveyCourse[survey];
+                surveys.add(surveyBase + 1 + survey,
+                        course < 0 ? adminId() : teacherId(courseTeacher[course]),
+                        course < 0 ? null : courseBase + 1 + course,
+                        (course < 0 ? "전체 설문 " : "강좌 만족도 설문 ") + (survey + 1),
+                        Date.valueOf(surveyStart[survey]), Date.valueOf(surveyEnd[survey]),
+                        Timestamp.valueOf(surveyStart[survey].minusDays(1).atStartOfDay()));
+            }
+        }
+        try (Batch questions = new Batch(connection, "INSERT INTO after_survey_questions (question_id, survey_id, question_text, " +
+                "question_type, options) VALUES (?, ?, ?, ?, ?)")) {
+            for (int survey = from; survey < to; survey++) {
+                for (int question = 0; question < surveyQuestions[survey]; question++) {
+                    boolean choice = isMultipleChoice(question);
+                    questions.add(surveyFirstQuestion[survey] + question, surveyBase + 1 + survey,
+                            (question + 1) + "번 문항", choice ? "MULTIPLE_CHOICE" : "TEXT",
+                            choice ? String.join(",", CHOICES) : null);
+                }
+            }
+            return (to - from) + questions.rows();
+        }
+    }
+
+    /**
+     * 응답자는 강좌 설문이면 그 강좌의 수강생, 전체 설문이면 전체 학생 중에서 설문별 응답률로 뽑습니다.
+     * 응답자는 모든 문항에 답합니다.
+     */
+    private int insertResponses(Connection connection, int from, int to) throws SQLException {
+        try (Batch batch = new Batch(connection, "INSERT INTO after_survey_responses (question_id, respondent_id, " +
+                "response_content, submitted_at) VALUES (?, ?, ?, ?)")) {
+            for (int survey = from; survey < to; survey++) {
+                Random responses = new Random(options.seed * 31 + surveyBase + 1 + survey);
+                double participation = surveyParticipation[survey];
+                int course = surveyCourse[survey];
+                int candidates = course < 0 ? options.students : activeStudentsByCourse[course].length;
+                Timestamp submittedAt = Timestamp.valueOf(surveyStart[survey].atTime(18, 0));
+                for (int candidate = 0; candidate < candidates; candidate++) {
+                    if (responses.nextDouble() >= participation) {
+                        continue;
+                    }
+                    long respondentId = studentId(course < 0 ? candidate : activeStudentsByCourse[course][candidate]);
+                    for (int question = 0; question < surveyQuestions[survey]; question++) {
+                        String content = isMultipleChoice(question)
+                                ? CHOICES[responses.nextInt(CHOICES.length)]
+                                : TEXT_ANSWERS[responses.nextInt(TEXT_ANSWERS.length)];
+                        batch.add(surveyFirstQuestion[survey] + question, respondentId, content, submittedAt);
+                    }
+                }
+            }
+            return batch.rows();
+        }
+    }
+
+    private static boolean isMultipleChoice(int question) {
+        return question % 4 != 3; // 네 문항 중 하나는 서술형
+    }
+
+    // ===== 공통 =====
+
+    private void loadIdBases() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            userBase = maxId(statement, "user_id", "after_users");
+            courseBase = maxId(statement, "course_id", "after_courses");
+            enrollmentBase = maxId(statement, "enrollment_id", "after_enrollments");
+            surveyBase = maxId(statement, "survey_id", "after_surveys");
+            questionBase = maxId(statement, "question_id", "after_survey_questions");
+        }
+    }
+
+    private static long maxId(Statement statement, String column, String table) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(" + column + "), 0) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    /**
+     * [0, total)을 chunk 단위로 나눠 스레드 풀에서 저장합니다. 청크마다 커넥션 하나, 트랜잭션 하나를 씁니다.
+     */
+    private void parallel(String label, int total, int chunk, ChunkWriter writer) throws Exception {
+        long started = System.nanoTime();
+        AtomicLong rows = new AtomicLong();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int from = 0; from < total; from += chunk) {
+            int start = from;
+            int end = Math.min(total, from + chunk);
+            futures.add(executor.submit(() -> {
+                try (Connection connection = dataSource.getConnection()) {
+                    connection.setAutoCommit(false);
+                    rows.addAndGet(writer.write(connection, start, end));
+                    connection.commit();
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+        System.out.printf("%s: %,d행 %.1f초 (%,.0f행/초)%n", label, rows.get(), seconds, rows.get() / Math.max(seconds, 0.001));
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter {
+        int write(Connection connection, int from, int to) throws SQLException;
+    }
+
+    /**
+     * batch-size 행마다 executeBatch를 보내는 PreparedStatement 래퍼
+     */
+    private final class Batch implements AutoCloseable {
+
+        private final PreparedStatement statement;
+        private int pending;
+        private int rows;
+
+        Batch(Connection connection, String sql) throws SQLException {
+            this.statement = connection.prepareStatement(sql);
+        }
+
+        void add(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                statement.setObject(i + 1, values[i]);
+            }
+            statement.addBatch();
+            rows++;
+            if (++pending == options.batchSize) {
+                flush();
+            }
+        }
+
+        int rows() {
+            return rows;
+        }
+
+        private void flush() throws SQLException {
+            if (pending > 0) {
+                statement.executeBatch();
+                pending = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                flush();
+            } finally {
+                statement.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.afterproject.datagen;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Zipf 분포 표본 추출기: 순위 r(0부터)의 가중치는 1 / (r + 1)^skew 입니다.
+ * skew가 클수록 소수의 인기 항목에 선택이 몰립니다. (0이면 균등)
+ */
+final class SkewedSampler {
+
+    private final double[] cumulative;
+
+    SkewedSampler(int size, double skew) {
+        cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += weight(rank, skew);
+            cumulative[rank] = sum;
+        }
+    }
+
+    static double weight(int rank, double skew) {
+        return 1.0 / Math.pow(rank + 1, skew);
+    }
+
+    /**
+     * 가중치에 따라 순위 하나를 뽑습니다.
+     */
+    int next(Random random) {
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        int index = Arrays.binarySearch(cumulative, target);
+        return index >= 0 ? index : Math.min(-index - 1, cumulative.length - 1);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.afterproject.benchmark;
+
+import com.example.afterproject.dto.CourseSummaryDto;
+import com.example.afterproject.dto.student.StudentDto.CourseListResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 강좌 목록(GET /api/students/courses) 응답 생성 비용
+ * - mapToResponse: 캐시된 CourseSummaryDto 목록을 학생별 CourseListResponseDto로 변환 (StudentService.getAllCourses와 같은 방식)
+ * - serialize: 변환된 목록의 JSON 직렬화 (Spring Boot 기본 설정과 같은 ObjectMapper)
+ * - mapAndSerialize: 요청 하나에서 일어나는 두 단계를 합친 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CourseCatalogBenchmark {
+
+    @Param({"50", "500"})
+    private int courses;
+
+    private List<CourseSummaryDto> catalog;
+    private Set<Long> enrolledCourseIds;
+    private List<CourseListResponseDto> response;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        catalog = new ArrayList<>(courses);
+        Instant createdAt = Instant.parse("2026-02-01T00:00:00Z");
+        for (int i = 0; i < courses; i++) {
+            long courseId = i + 1;
+            catalog.add(new CourseSummaryDto(courseId, "방과후 강좌 " + courseId, "과학", "강좌 소개 " + courseId,
+                    "월,수", "15:30-17:00", "과학실 " + (i % 10), 30, "APPROVED", 1 + i % 4, (1 + i % 4) + "분기",
+                    LocalDate.of(2026, 7, 17), false, null, createdAt, "교사 " + (i % 40), i % 31));
+        }
+        enrolledCourseIds = new HashSet<>(List.of(1L, 7L, 13L, 42L));
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        response = mapToResponse();
+    }
+
+    @Benchmark
+    public List<CourseListResponseDto> mapToResponse() {
+        return catalog.stream()
+                .map(course -> new CourseListResponseDto(course, course.getEnrolledCount(),
+                        enrolledCourseIds.contains(course.getCourseId())))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(mapToResponse());
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.afterproject.benchmark;
+
+import com.example.afterproject.AfterProjectApplication;
+import com.example.afterproject.entity.UserEntity;
+import com.example.afterproject.repository.UserRepository;
+import com.example.afterproject.security.JwtAuthenticationFilter;
+import com.example.afterproject.security.JwtTokenProvider;
+import com.example.afterproject.security.TokenRevocationRegistry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter의 요청당 인증 비용 비교와 로그인 시 토큰 발급 비용
+ * - legacyDoubleParse: 변경 전 방식 (validateToken + getUserEmail에서 파서를 각각 생성해 두 번 검증)
+ * - filterVerifyEveryRequest: 싱글턴 파서로 한 번만 검증 (검증 캐시 비활성)
+ * - filterCachedToken: 검증된 토큰 캐시 적중 + 토큰 버전 캐시 적중 (일반적인 요청)
+ * - revocationCheckVersionMiss: 토큰 버전 캐시를 비운 뒤 확인 (primary에서 버전을 읽는 경로, 무효화 직후/ttl 만료 시)
+ * - createToken: JwtTokenProvider의 토큰 생성 (클레임 구성 + HS256 서명)
+ * 무효화 확인은 test 프로필(H2)로 띄운 애플리케이션의 TokenRevocationRegistry를 그대로 사용합니다.
+ * 버전 캐시 미스 비용은 인메모리 H2 기준이므로, MySQL에서는 네트워크 왕복만큼 더 듭니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private String secret;
+    private Key key;
+    private String token;
+    private Long userId;
+    private int tokenVersion;
+    private JwtTokenProvider provider;
+    private TokenRevocationRegistry registry;
+    private JwtAuthenticationFilter uncachedFilter;
+    private JwtAuthenticationFilter cachedFilter;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(AfterProjectApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run();
+        secret = context.getEnvironment().getRequiredProperty("jwt.secret");
+        key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        registry = context.getBean(TokenRevocationRegistry.class);
+
+        UserEntity user = new UserEntity();
+        user.setEmail("jwt-benchmark-" + System.nanoTime() + "@example.com");
+        user.setPassword("{noop}password");
+        user.setName("벤치마크 학생");
+        user.setRole("STUDENT");
+        user = context.getBean(UserRepository.class).save(user);
+        userId = user.getUserId();
+        tokenVersion = user.getTokenVersion();
+
+        JwtTokenProvider cachedProvider = context.getBean(JwtTokenProvider.class);
+        JwtTokenProvider uncachedProvider = newUncachedProvider();
+        provider = uncachedProvider;
+        token = cachedProvider.createToken(userId, user.getEmail(), user.getRole(), tokenVersion);
+
+        uncachedFilter = new JwtAuthenticationFilter(uncachedProvider);
+        cachedFilter = new JwtAuthenticationFilter(cachedProvider);
+        request = new MockHttpServletRequest("GET", "/api/students/courses");
+        request.addHeader("Authorization", "Bearer " + token);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object legacyDoubleParse() {
+        Jws<Claims> claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        if (claims.getBody().getExpiration().before(new Date())) {
+            return null;
+        }
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getSubject();
+    }
+
+    @Benchmark
+    public Object filterVerifyEveryRequest() throws Exception {
+        return runFilter(uncachedFilter);
+    }
+
+    @Benchmark
+    public Object filterCachedToken() throws Exception {
+        return runFilter(cachedFilter);
+    }
+
+    @Benchmark
+    public boolean revocationCheckVersionMiss() {
+        registry.evictAfterCommit(userId);
+        return registry.isRevoked(userId, tokenVersion);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return provider.createToken(userId, "student@example.com", "STUDENT", tokenVersion);
+    }
+
+    private Object runFilter(JwtAuthenticationFilter filter) throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    private JwtTokenProvider newUncachedProvider() {
+        JwtTokenProvider uncached = new JwtTokenProvider(registry);
+        ReflectionTestUtils.setField(uncached, "secretKey", secret);
+        ReflectionTestUtils.setField(uncached, "tokenValidityInMilliseconds", 1_800_000L);
+        ReflectionTestUtils.setField(uncached, "verifiedCacheSize", 0);
+        ReflectionTestUtils.invokeMethod(uncached, "init");
+        return uncached;
+    }
+}
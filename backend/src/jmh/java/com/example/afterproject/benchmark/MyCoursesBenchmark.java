@@ -0,0 +1,56 @@
+package com.example.afterproject.benchmark;
+
+import com.example.afterproject.dto.student.StudentDto.MyCoursesResponseDto;
+import com.example.afterproject.dto.student.StudentDto.MyCoursesResponseDto.MyCourseDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 나의 학습 관리(GET /api/students/my-courses) 응답의 출석률 계산 비용
+ * - 조회 결과 행마다 MyCourseDto를 만들며 강좌별 출석률을 계산하고, MyCoursesResponseDto에서 전체 출석률을 평균냅니다.
+ * - 대기 중인 강좌(waitlistRank != null)는 전체 출석률에서 빠지므로 일부 섞어 둡니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MyCoursesBenchmark {
+
+    @Param({"4", "12"})
+    private int courses;
+
+    private int[][] counters;
+    private String[] courseNames;
+    private String[] teacherNames;
+
+    @Setup
+    public void setUp() {
+        counters = new int[courses][];
+        courseNames = new String[courses];
+        teacherNames = new String[courses];
+        for (int i = 0; i < courses; i++) {
+            counters[i] = new int[]{40 + i, i % 5, i % 3};
+            courseNames[i] = "방과후 강좌 " + i;
+            teacherNames[i] = "교사 " + i;
+        }
+    }
+
+    @Benchmark
+    public MyCoursesResponseDto buildResponse() {
+        List<MyCourseDto> rows = new ArrayList<>(courses);
+        for (int i = 0; i < courses; i++) {
+            int[] c = counters[i];
+            boolean waitlisted = i % 4 == 3;
+            rows.add(new MyCourseDto((long) i + 1, courseNames[i], teacherNames[i],
+                    waitlisted ? "WAITLISTED" : "ACTIVE",
+                    waitlisted ? 0 : c[0], waitlisted ? 0 : c[1], waitlisted ? 0 : c[2],
+                    waitlisted ? (long) i : null));
+        }
+        return new MyCoursesResponseDto(rows);
+    }
+}
@@ -0,0 +1,316 @@
+package com.example.afterproject.loadtest;
+
+import com.example.afterproject.dto.AttendanceUpdateDto;
+import com.example.afterproject.dto.student.SubmitSurveyRequestDto;
+import com.example.afterproject.entity.CourseEntity;
+import com.example.afterproject.entity.SurveyEntity;
+import com.example.afterproject.entity.SurveyQuestionEntity;
+import com.example.afterproject.entity.UserEntity;
+import com.example.afterproject.repository.CourseRepository;
+import com.example.afterproject.repository.EnrollmentRepository;
+import com.example.afterproject.repository.SurveyRepository;
+import com.example.afterproject.repository.UserRepository;
+import com.example.afterproject.security.JwtTokenProvider;
+import com.example.afterproject.service.CourseSeatLedger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 실제 HTTP 스택(보안 필터, 컨트롤러, 서비스, DB)을 대상으로 하는 부하 테스트 (-Ploadtest 에서만 실행)
+ * 1. 수강 신청 러시: 모든 학생이 인기 강좌 몇 개에 동시에 신청합니다. (정원 초과분은 대기자 명단으로)
+ * 2. 아침 출석 체크: 교사들이 수업일마다 출결부를 조회하고 반 전체의 출결을 저장합니다.
+ * 3. 전체 설문 응답: 모든 학생이 설문 목록을 조회하고 전체 공개 설문에 응답합니다.
+ *
+ * 엔드포인트별 처리량과 p50/p99/p999를 출력하고 target/loadtest-result.json에 기록한 뒤,
+ * 기준선(src/loadtest/loadtest-baseline.json)보다 느려졌으면 실패합니다.
+ * 기준선은 실행 환경에 따라 다르므로, 환경이 바뀌면 -Dloadtest.update-baseline=true로 다시 기록합니다.
+ *
+ * 규모/동시성 옵션(-D): loadtest.students, loadtest.teachers, loadtest.roster-size, loadtest.class-days,
+ * loadtest.hot-courses, loadtest.concurrency, loadtest.warmup, loadtest.tolerance, loadtest.tail-tolerance
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+class ControllerLoadTest {
+
+    private static final int STUDENTS = Integer.getInteger("loadtest.students", 3000);
+    private static final int TEACHERS = Integer.getInteger("loadtest.teachers", 100);
+    private static final int ROSTER_SIZE = Integer.getInteger("loadtest.roster-size", 30);
+    private static final int CLASS_DAYS = Integer.getInteger("loadtest.class-days", 10);
+    private static final int HOT_COURSES = Integer.getInteger("loadtest.hot-courses", 10);
+    private static final int HOT_COURSE_CAPACITY = 100;
+    private static final int SURVEY_QUESTIONS = 5;
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 32);
+    private static final int WARMUP_REQUESTS = Integer.getInteger("loadtest.warmup", 2000);
+    private static final double TOLERANCE = Double.parseDouble(System.getProperty("loadtest.tolerance", "0.5"));
+    private static final double TAIL_TOLERANCE = Double.parseDouble(System.getProperty("loadtest.tail-tolerance", "1.0"));
+    private static final boolean UPDATE_BASELINE = Boolean.getBoolean("loadtest.update-baseline");
+    private static final Path BASELINE = Path.of(System.getProperty("loadtest.baseline", "src/loadtest/loadtest-baseline.json"));
+    private static final Path RESULT = Path.of("target", "loadtest-result.json");
+    private static final LocalDate FIRST_CLASS_DATE = LocalDate.of(2026, 3, 2);
+    private static final String[] ROLL_CALL = {"PRESENT", "PRESENT", "PRESENT", "LATE", "ABSENT"};
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+    @Autowired
+    private SurveyRepository surveyRepository;
+    @Autowired
+    private CourseSeatLedger courseSeatLedger;
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    void registrationRushRollCallAndSurveyWave() throws Exception {
+        Dataset d = seed("lt" + System.currentTimeMillis());
+        warmUp(d);
+
+        Map<String, EndpointStats> results = new LinkedHashMap<>();
+        List<String> failures = new ArrayList<>();
+        results.putAll(registrationRush(d, failures));
+        results.putAll(morningRollCall(d, failures));
+        results.putAll(surveyWave(d, failures));
+
+        print(results);
+        LoadBaseline.write(RESULT, results);
+        assertTrue(failures.isEmpty(), "기대한 응답을 받지 못한 요청이 있습니다:\n" + String.join("\n", failures));
+
+        if (UPDATE_BASELINE || !Files.exists(BASELINE)) {
+            LoadBaseline.write(BASELINE, results);
+            System.out.println("[loadtest] 기준선을 기록했습니다: " + BASELINE.toAbsolutePath());
+            return;
+        }
+        List<String> regressions = LoadBaseline.regressions(LoadBaseline.read(BASELINE), results, TOLERANCE, TAIL_TOLERANCE);
+        assertTrue(regressions.isEmpty(), "기준선(" + BASELINE + ") 대비 성능이 나빠졌습니다. (허용 " + TOLERANCE
+                + ", p999 허용 " + TAIL_TOLERANCE + ")\n" + String.join("\n", regressions));
+    }
+
+    // 1. 수강 신청 러시: 학생마다 인기 강좌 하나에 신청합니다. 정원 초과 신청도 대기자 등록으로 200 응답입니다.
+    private Map<String, EndpointStats> registrationRush(Dataset d, List<String> failures) throws Exception {
+        List<Integer> order = IntStream.range(0, d.rushStudents.size()).boxed().collect(Collectors.toList());
+        Collections.shuffle(order, new Random(42));
+        LoadClient client = client();
+        Map<String, EndpointStats> stats = client.run(order, i -> {
+            Long courseId = d.hotCourses.get(i % d.hotCourses.size());
+            client.post("POST /api/students/courses/{id}/enroll", "/api/students/courses/" + courseId + "/enroll",
+                    d.rushStudents.get(i).token(), null, 200);
+        }, CONCURRENCY);
+        collectFailures("수강 신청 러시", client, failures);
+        return stats;
+    }
+
+    // 2. 아침 출석 체크: 수업일마다 모든 교사가 출결부를 조회한 뒤 반 전체 출결을 저장합니다.
+    private Map<String, EndpointStats> morningRollCall(Dataset d, List<String> failures) throws Exception {
+        List<int[]> rollCalls = new ArrayList<>();
+        for (int day = 0; day < CLASS_DAYS; day++) {
+            for (int teacher = 0; teacher < d.rosters.size(); teacher++) {
+                rollCalls.add(new int[]{day, teacher});
+            }
+        }
+        LoadClient client = client();
+        Map<String, EndpointStats> stats = client.run(rollCalls, rollCall -> {
+            LocalDate classDate = FIRST_CLASS_DATE.plusDays(rollCall[0]);
+            Roster roster = d.rosters.get(rollCall[1]);
+            String path = "/api/teachers/courses/" + roster.courseId() + "/attendance";
+            client.get("GET /api/teachers/courses/{id}/attendance", path + "?classDate=" + classDate,
+                    roster.teacher().token(), 200);
+            client.post("POST /api/teachers/courses/{id}/attendance", path, roster.teacher().token(),
+                    attendance(classDate, roster.enrollmentIds(), rollCall[0]), 204);
+        }, CONCURRENCY);
+        collectFailures("아침 출석 체크", client, failures);
+        return stats;
+    }
+
+    // 3. 전체 설문 응답: 모든 학생이 설문 목록을 조회하고 전체 공개 설문에 응답합니다.
+    private Map<String, EndpointStats> surveyWave(Dataset d, List<String> failures) throws Exception {
+        List<Account> respondents = new ArrayList<>(d.rushStudents);
+        respondents.addAll(d.rosterStudents);
+        Collections.shuffle(respondents, new Random(7));
+        SubmitSurveyRequestDto answers = answers(d.surveyQuestions);
+        LoadClient client = client();
+        Map<String, EndpointStats> stats = client.run(respondents, student -> {
+            client.get("GET /api/students/surveys", "/api/students/surveys", student.token(), 200);
+            client.post("POST /api/students/surveys/{id}/responses", "/api/students/surveys/" + d.survey + "/responses",
+                    student.token(), answers, 200);
+        }, CONCURRENCY);
+        collectFailures("전체 설문 응답", client, failures);
+        return stats;
+    }
+
+    /**
+     * JIT 컴파일과 커넥션 풀이 안정되도록 측정 전에 읽기 요청을 미리 보냅니다. (결과는 버림)
+     */
+    private void warmUp(Dataset d) throws Exception {
+        LoadClient client = client();
+        client.run(IntStream.range(0, WARMUP_REQUESTS).boxed().toList(), i -> {
+            Roster roster = d.rosters.get(i % d.rosters.size());
+            client.get("warmup", "/api/students/surveys", d.rosterStudents.get(i % d.rosterStudents.size()).token(), 200);
+            client.get("warmup", "/api/teachers/courses/" + roster.courseId() + "/attendance?classDate="
+                    + FIRST_CLASS_DATE.minusDays(1), roster.teacher().token(), 200);
+        }, CONCURRENCY);
+    }
+
+    private LoadClient client() {
+        return new LoadClient(http, "http://localhost:" + port, objectMapper);
+    }
+
+    private static void collectFailures(String scenario, LoadClient client, List<String> failures) {
+        client.failures().forEach((endpoint, failure) -> failures.add("[" + scenario + "] " + endpoint + ": " + failure));
+    }
+
+    private static void print(Map<String, EndpointStats> results) {
+        System.out.println("[loadtest] 동시성 " + CONCURRENCY);
+        System.out.printf("%-48s %8s %6s %10s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)");
+        results.forEach((endpoint, s) -> System.out.printf("%-48s %8d %6d %10.1f %9.2f %9.2f %9.2f%n",
+                endpoint, s.requests(), s.errors(), s.throughputPerSecond(), s.p50Millis(), s.p99Millis(), s.p999Millis()));
+    }
+
+    private static AttendanceUpdateDto attendance(LocalDate classDate, List<Long> enrollmentIds, int day) {
+        AttendanceUpdateDto update = new AttendanceUpdateDto();
+        update.setClassDate(classDate);
+        List<AttendanceUpdateDto.StudentAttendanceDto> students = new ArrayList<>(enrollmentIds.size());
+        for (int i = 0; i < enrollmentIds.size(); i++) {
+            AttendanceUpdateDto.StudentAttendanceDto student = new AttendanceUpdateDto.StudentAttendanceDto();
+            student.setEnrollmentId(enrollmentIds.get(i));
+            student.setStatus(ROLL_CALL[(i + day) % ROLL_CALL.length]);
+            students.add(student);
+        }
+        update.setStudents(students);
+        return update;
+    }
+
+    private static SubmitSurveyRequestDto answers(List<Long> questionIds) {
+        SubmitSurveyRequestDto request = new SubmitSurveyRequestDto();
+        request.setResponses(questionIds.stream().map(questionId -> {
+            SubmitSurveyRequestDto.ResponseItemDto item = new SubmitSurveyRequestDto.ResponseItemDto();
+            item.setQuestionId(questionId);
+            item.setContent("만족합니다.");
+            return item;
+        }).collect(Collectors.toList()));
+        return request;
+    }
+
+    /**
+     * 실행마다 다른 tag로 데이터를 만들어, 로컬 MySQL처럼 데이터가 남는 DB에서도 반복 실행할 수 있게 합니다.
+     */
+    private Dataset seed(String tag) {
+        Dataset d = new Dataset();
+        d.rushStudents = insertUsers(tag + "-rush", STUDENTS, "STUDENT");
+        d.rosterStudents = insertUsers(tag + "-roster", TEACHERS * ROSTER_SIZE, "STUDENT");
+        List<Account> teachers = insertUsers(tag + "-teacher", TEACHERS, "TEACHER");
+
+        for (int i = 0; i < teachers.size(); i++) {
+            Account teacher = teachers.get(i);
+            Long courseId = saveCourse(teacher, tag + " 담임 강좌 " + i, ROSTER_SIZE);
+            List<Long> students = d.rosterStudents.subList(i * ROSTER_SIZE, (i + 1) * ROSTER_SIZE).stream()
+                    .map(Account::userId)
+                    .toList();
+            enrollmentRepository.insertAllocation(courseId, students, List.of(), 0);
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    courseSeatLedger.forceReserve(courseId, students.size()));
+            List<Long> enrollmentIds = jdbcTemplate.queryForList(
+                    "SELECT enrollment_id FROM after_enrollments WHERE course_id = ? ORDER BY enrollment_id", Long.class, courseId);
+            d.rosters.add(new Roster(teacher, courseId, enrollmentIds));
+        }
+        for (int i = 0; i < HOT_COURSES; i++) {
+            d.hotCourses.add(saveCourse(teachers.get(i % teachers.size()), tag + " 인기 강좌 " + i, HOT_COURSE_CAPACITY));
+        }
+
+        LocalDate today = LocalDate.now();
+        SurveyEntity survey = SurveyEntity.builder()
+                .author(userRepository.getReferenceById(teachers.get(0).userId()))
+                .title(tag + " 전체 만족도 설문")
+                .startDate(today.minusDays(1))
+                .endDate(today.plusDays(7))
+                .build();
+        for (int i = 0; i < SURVEY_QUESTIONS; i++) {
+            survey.addQuestion(SurveyQuestionEntity.builder().questionText("문항 " + i).questionType("TEXT").build());
+        }
+        survey = surveyRepository.save(survey);
+        d.survey = survey.getSurveyId();
+        d.surveyQuestions = survey.getQuestions().stream().map(SurveyQuestionEntity::getQuestionId).toList();
+        return d;
+    }
+
+    private List<Account> insertUsers(String prefix, int count, String role) {
+        List<UserEntity> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            UserEntity user = new UserEntity();
+            user.setEmail(prefix + i + "@loadtest.local");
+            user.setPassword("{noop}password");
+            user.setName(prefix + i);
+            user.setRole(role);
+            user.setStudentIdNo("STUDENT".equals(role) ? prefix + i : null);
+            users.add(user);
+        }
+        userRepository.insertAll(users);
+        return jdbcTemplate.query("SELECT user_id, email, token_version FROM after_users WHERE email LIKE ? ORDER BY user_id",
+                (rs, rowNum) -> new Account(rs.getLong("user_id"),
+                        jwtTokenProvider.createToken(rs.getLong("user_id"), rs.getString("email"), role, rs.getInt("token_version"))),
+                prefix + "%@loadtest.local");
+    }
+
+    private Long saveCourse(Account teacher, String name, int capacity) {
+        return courseRepository.save(CourseEntity.builder()
+                .teacher(userRepository.getReferenceById(teacher.userId()))
+                .courseName(name)
+                .category("loadtest")
+                .capacity(capacity)
+                .status("APPROVED")
+                .build()).getCourseId();
+    }
+
+    private record Account(Long userId, String token) {
+    }
+
+    private record Roster(Account teacher, Long courseId, List<Long> enrollmentIds) {
+    }
+
+    private static class Dataset {
+        List<Account> rushStudents;
+        List<Account> rosterStudents;
+        List<Roster> rosters = new ArrayList<>();
+        List<Long> hotCourses = new ArrayList<>();
+        Long survey;
+        List<Long> surveyQuestions;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.afterproject.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 한 엔드포인트의 응답 시간 분포(HdrHistogram, 마이크로초 단위)와 실패 수를 여러 작업 스레드에서 함께 기록합니다.
+ */
+final class EndpointLatency {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicReference<String> firstError = new AtomicReference<>();
+
+    /**
+     * 응답을 받은 요청의 소요 시간을 기록합니다. (기대한 상태 코드가 아니어도 기록하고, 실패는 recordError로 따로 셉니다)
+     */
+    void record(long elapsedNanos) {
+        requests.incrementAndGet();
+        histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    /**
+     * 실패한 요청을 셉니다. 응답 없이 끝난 요청(연결 오류 등)은 이 메서드만 호출됩니다.
+     */
+    void recordError(String description, boolean responded) {
+        if (!responded) {
+            requests.incrementAndGet();
+        }
+        errors.incrementAndGet();
+        firstError.compareAndSet(null, description);
+    }
+
+    long errors() {
+        return errors.get();
+    }
+
+    String firstError() {
+        return firstError.get();
+    }
+
+    EndpointStats summarize(Duration elapsed) {
+        long total = requests.get();
+        double seconds = Math.max(elapsed.toNanos(), 1) / 1e9;
+        return new EndpointStats(total, errors.get(), round(total / seconds),
+                millis(50), millis(99), millis(99.9));
+    }
+
+    private double millis(double percentile) {
+        return round(histogram.getValueAtPercentile(percentile) / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.afterproject.loadtest;
+
+/**
+ * 엔드포인트별 부하 테스트 결과 (지연 시간은 밀리초, 처리량은 시나리오 실행 시간 기준 초당 요청 수)
+ */
+record EndpointStats(long requests, long errors, double throughputPerSecond,
+                     double p50Millis, double p99Millis, double p999Millis) {
+}
@@ -0,0 +1,68 @@
+package com.example.afterproject.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 파일(엔드포인트 이름 -> EndpointStats JSON) 읽기/쓰기와 기준선 비교
+ * - p50/p99가 기준선보다 tolerance 비율 이상 느려지거나, 처리량이 tolerance 비율 이상 줄면 회귀로 봅니다.
+ * - p999는 표본이 적어 흔들림이 크므로 별도의 tailTolerance로 비교합니다.
+ * - 1ms 미만의 차이는 측정 잡음으로 보고 무시합니다.
+ */
+final class LoadBaseline {
+
+    private static final double MIN_REGRESSION_MILLIS = 1.0;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private LoadBaseline() {
+    }
+
+    static Map<String, EndpointStats> read(Path path) throws IOException {
+        return MAPPER.readValue(path.toFile(), new TypeReference<LinkedHashMap<String, EndpointStats>>() {
+        });
+    }
+
+    static void write(Path path, Map<String, EndpointStats> results) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        MAPPER.writeValue(path.toFile(), results);
+    }
+
+    static List<String> regressions(Map<String, EndpointStats> baseline, Map<String, EndpointStats> current,
+                                    double tolerance, double tailTolerance) {
+        List<String> regressions = new ArrayList<>();
+        baseline.forEach((endpoint, expected) -> {
+            EndpointStats actual = current.get(endpoint);
+            if (actual == null) {
+                regressions.add(endpoint + ": 이번 실행에서 측정되지 않았습니다.");
+                return;
+            }
+            slower(regressions, endpoint, "p50", expected.p50Millis(), actual.p50Millis(), tolerance);
+            slower(regressions, endpoint, "p99", expected.p99Millis(), actual.p99Millis(), tolerance);
+            slower(regressions, endpoint, "p999", expected.p999Millis(), actual.p999Millis(), tailTolerance);
+            if (actual.throughputPerSecond() < expected.throughputPerSecond() * (1 - tolerance)) {
+                regressions.add(String.format("%s: 처리량 %.1f/s -> %.1f/s", endpoint,
+                        expected.throughputPerSecond(), actual.throughputPerSecond()));
+            }
+        });
+        return regressions;
+    }
+
+    private static void slower(List<String> regressions, String endpoint, String percentile,
+                               double expected, double actual, double tolerance) {
+        if (actual > expected * (1 + tolerance) && actual - expected >= MIN_REGRESSION_MILLIS) {
+            regressions.add(String.format("%s: %s %.2fms -> %.2fms", endpoint, percentile, expected, actual));
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.afterproject.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * 시나리오 하나를 실행하는 HTTP 부하 발생기
+ * - 가상 사용자(스크립트)들을 고정 개수의 작업 스레드가 닫힌 루프로 실행합니다. (응답을 받은 뒤 다음 요청을 보냄)
+ * - 요청마다 엔드포인트 이름(메서드 + 경로 템플릿)으로 응답 시간과 실패를 기록합니다.
+ */
+final class LoadClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final Map<String, EndpointLatency> endpoints = new ConcurrentHashMap<>();
+
+    LoadClient(HttpClient http, String baseUrl, ObjectMapper objectMapper) {
+        this.http = http;
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+    }
+
+    void get(String endpoint, String path, String token, int expectedStatus) {
+        send(endpoint, request(path, token).GET().build(), expectedStatus);
+    }
+
+    void post(String endpoint, String path, String token, Object body, int expectedStatus) {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(json(body));
+        send(endpoint, request(path, token).POST(publisher).build(), expectedStatus);
+    }
+
+    /**
+     * 가상 사용자들을 concurrency개의 스레드로 모두 실행하고, 엔드포인트별 결과를 돌려줍니다.
+     * 처리량은 시나리오 전체 실행 시간을 기준으로 계산합니다.
+     */
+    <T> Map<String, EndpointStats> run(List<T> users, Consumer<T> script, int concurrency) throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        long startedAt = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>(users.size());
+            for (T user : users) {
+                futures.add(workers.submit(() -> script.accept(user)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        endpoints.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> stats.put(entry.getKey(), entry.getValue().summarize(elapsed)));
+        return stats;
+    }
+
+    /**
+     * 기대한 상태 코드가 아닌 응답이 있었던 엔드포인트와 첫 번째 실패 내용을 돌려줍니다.
+     */
+    Map<String, String> failures() {
+        Map<String, String> failures = new LinkedHashMap<>();
+        endpoints.forEach((endpoint, latency) -> {
+            if (latency.errors() > 0) {
+                failures.put(endpoint, latency.errors() + "건 실패, 예: " + latency.firstError());
+            }
+        });
+        return failures;
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json");
+    }
+
+    private void send(String endpoint, HttpRequest request, int expectedStatus) {
+        EndpointLatency latency = endpoints.computeIfAbsent(endpoint, key -> new EndpointLatency());
+        long startedAt = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            latency.recordError(e.toString(), false);
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("부하 테스트 요청이 중단되었습니다.", e);
+        }
+        latency.record(System.nanoTime() - startedAt);
+        if (response.statusCode() != expectedStatus) {
+            latency.recordError(response.statusCode() + " " + response.body(), true);
+        }
+    }
+
+    private String json(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("요청 본문을 JSON으로 변환할 수 없습니다.", e);
+        }
+    }
+}
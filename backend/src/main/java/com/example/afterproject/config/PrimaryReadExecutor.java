@@ -0,0 +1,52 @@
+package com.example.afterproject.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * 인메모리 캐시를 채우는 조회를 항상 primary에서 실행합니다.
+ * replica는 복제 지연만큼 뒤처질 수 있으므로, 캐시 로더가 replica를 읽으면 무효화 직후 다시 읽은
+ * 오래된 값이 다음 무효화 때까지 캐시에 남습니다.
+ * - readOnly 트랜잭션 안에서 호출되면 바깥 트랜잭션(이미 replica 커넥션을 잡았을 수 있음)을 잠시 멈추고
+ *   primary로 고정된 새 읽기 전용 트랜잭션에서 실행합니다.
+ * - 쓰기 트랜잭션 안이거나 replica 라우팅을 쓰지 않으면 그대로 실행합니다.
+ */
+@Component
+public class PrimaryReadExecutor {
+
+    private static final ThreadLocal<Boolean> FORCED = new ThreadLocal<>();
+
+    private final TransactionTemplate primaryReadTemplate;
+    private final boolean replicated;
+
+    public PrimaryReadExecutor(PlatformTransactionManager transactionManager,
+                               ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource) {
+        this.primaryReadTemplate = new TransactionTemplate(transactionManager);
+        this.primaryReadTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.primaryReadTemplate.setReadOnly(true);
+        this.replicated = replicaRoutingDataSource.getIfAvailable() != null;
+    }
+
+    public <T> T read(Supplier<T> loader) {
+        if (!replicated || isForced() || (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly())) {
+            return loader.get();
+        }
+        FORCED.set(Boolean.TRUE);
+        try {
+            return primaryReadTemplate.execute(status -> loader.get());
+        } finally {
+            FORCED.remove();
+        }
+    }
+
+    static boolean isForced() {
+        return FORCED.get() != null;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.afterproject.config;
+
+import com.example.afterproject.security.CustomUserDetails;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쓰기 트랜잭션을 커밋한 사용자의 읽기를 일정 시간 동안 primary로 고정합니다.
+ * 복제 지연 때문에 수강 신청 직후 '나의 강좌'에 방금 신청한 강좌가 안 보이는 일을 막습니다.
+ */
+public class ReadYourWritesGuard {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+    private static final Object REGISTERED_KEY = new Object();
+
+    private final long pinNanos;
+    private final Map<Long, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesGuard(long pinSeconds) {
+        this.pinNanos = TimeUnit.SECONDS.toNanos(pinSeconds);
+    }
+
+    /**
+     * 현재 쓰기 트랜잭션이 커밋되면 로그인한 사용자를 primary에 고정합니다.
+     * (트랜잭션당 한 번만 등록)
+     */
+    public void onWriteTransaction() {
+        Long userId = currentUserId();
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(REGISTERED_KEY)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(REGISTERED_KEY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pin(userId);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(REGISTERED_KEY);
+            }
+        });
+    }
+
+    public boolean isCurrentUserPinned() {
+        Long userId = currentUserId();
+        if (userId == null) {
+            return false;
+        }
+        Long until = pinnedUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (until - System.nanoTime() > 0) {
+            return true;
+        }
+        pinnedUntil.remove(userId, until);
+        return false;
+    }
+
+    void pin(Long userId) {
+        long now = System.nanoTime();
+        if (pinnedUntil.size() > PURGE_THRESHOLD) {
+            pinnedUntil.values().removeIf(until -> until - now <= 0);
+        }
+        pinnedUntil.put(userId, now + pinNanos);
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUserId();
+        }
+        return null;
+    }
+}
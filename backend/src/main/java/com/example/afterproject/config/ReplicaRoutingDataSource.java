@@ -0,0 +1,62 @@
+package com.example.afterproject.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * readOnly 트랜잭션은 replica 풀(라운드 로빈)로, 그 외(쓰기 트랜잭션, 트랜잭션 밖 접근)는 primary로 보냅니다.
+ * PrimaryReadExecutor로 실행한 캐시 로더의 읽기는 readOnly여도 primary로 보냅니다.
+ * 트랜잭션 속성이 정해진 뒤에 커넥션을 얻어야 하므로 반드시 LazyConnectionDataSourceProxy로 감싸서 사용합니다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private final List<String> replicaKeys = new ArrayList<>();
+    private final List<HikariDataSource> replicas;
+    private final ReadYourWritesGuard readYourWritesGuard;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas,
+                                    ReadYourWritesGuard readYourWritesGuard) {
+        this.replicas = replicas;
+        this.readYourWritesGuard = readYourWritesGuard;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (HikariDataSource replica : replicas) {
+            String key = replica.getPoolName();
+            targets.put(key, replica);
+            replicaKeys.add(key);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWritesGuard.onWriteTransaction();
+            return PRIMARY;
+        }
+        if (replicaKeys.isEmpty() || PrimaryReadExecutor.isForced() || readYourWritesGuard.isCurrentUserPinned()) {
+            return PRIMARY;
+        }
+        return replicaKeys.get(Math.floorMod(next.getAndIncrement(), replicaKeys.size()));
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.afterproject.config;
+
+import com.example.afterproject.entity.CourseEntity;
+import com.example.afterproject.entity.SurveyEntity;
+import com.example.afterproject.entity.SurveyQuestionEntity;
+import com.example.afterproject.entity.UserEntity;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Hibernate 2차 캐시(JCache + Ehcache, 프로세스 내 힙) 설정
+ * - 영역: 사용자, 강좌, 설문, 설문 문항, 설문의 문항 목록
+ * - 영역마다 항목 수 상한과 TTL을 둡니다. 설정에 없는 영역이 생기면 기동 시 실패합니다. (missing_cache_strategy=fail)
+ * - 영역별 적중률은 /actuator/metrics/hibernate.second.level.cache.requests (region, result 태그)로 확인합니다.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Bean
+    public CacheManager hibernateCacheManager(@Value("${hibernate-cache.user-entries:20000}") long userEntries,
+                                              @Value("${hibernate-cache.course-entries:2000}") long courseEntries,
+                                              @Value("${hibernate-cache.survey-entries:1000}") long surveyEntries,
+                                              @Value("${hibernate-cache.question-entries:20000}") long questionEntries,
+                                              @Value("${hibernate-cache.ttl-seconds:600}") long ttlSeconds) {
+        Duration ttl = Duration.ofSeconds(ttlSeconds);
+        org.ehcache.config.Configuration configuration = ConfigurationBuilder.newConfigurationBuilder()
+                .withCache(UserEntity.class.getName(), region(userEntries, ttl))
+                .withCache(CourseEntity.class.getName(), region(courseEntries, ttl))
+                .withCache(SurveyEntity.class.getName(), region(surveyEntries, ttl))
+                .withCache(SurveyEntity.class.getName() + ".questions", region(surveyEntries, ttl))
+                .withCache(SurveyQuestionEntity.class.getName(), region(questionEntries, ttl))
+                .build();
+
+        // 컨텍스트마다 별도의 CacheManager를 쓰도록 고유 URI로 생성합니다.
+        EhcacheCachingProvider provider =
+                (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        URI uri = URI.create("urn:afterproject:hibernate-cache:" + UUID.randomUUID());
+        return provider.getCacheManager(uri, configuration);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static CacheConfigurationBuilder<Object, Object> region(long maxEntries, Duration ttl) {
+        return CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class,
+                        ResourcePoolsBuilder.heap(maxEntries))
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(ttl));
+    }
+}
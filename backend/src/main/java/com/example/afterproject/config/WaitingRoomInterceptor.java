@@ -0,0 +1,61 @@
+package com.example.afterproject.config;
+
+import com.example.afterproject.security.CustomUserDetails;
+import com.example.afterproject.service.RegistrationWaitingRoom;
+import com.example.afterproject.service.RegistrationWaitingRoom.Admission;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 강좌 목록/수강 신청 요청을 가상 대기실(RegistrationWaitingRoom)에 통과시킵니다.
+ * 입장하지 못한 요청은 StudentController에 도달하기 전에 429(대기) 또는 503(대기열 가득 참)으로 응답합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WaitingRoomInterceptor implements HandlerInterceptor {
+
+    private final RegistrationWaitingRoom waitingRoom;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails userDetails)) {
+            return true; // 인증 실패는 Security 설정에서 처리
+        }
+
+        Admission admission = waitingRoom.enter(userDetails.getUserId());
+        if (admission.isAdmitted()) {
+            return true;
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        if (admission.status() == RegistrationWaitingRoom.Status.FULL) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            body.put("message", "접속자가 많아 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+        } else {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            body.put("message", "접속자가 많아 대기 중입니다.");
+            body.put("queueToken", admission.token());
+            body.put("position", admission.position());
+        }
+        body.put("retryAfterSeconds", admission.retryAfterSeconds());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(admission.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), body);
+        return false;
+    }
+}
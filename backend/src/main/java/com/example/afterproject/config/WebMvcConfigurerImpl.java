@@ -1,17 +1,50 @@
 package com.example.afterproject.config;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebMvcConfigurerImpl implements WebMvcConfigurer {
+
+    private final WaitingRoomInterceptor waitingRoomInterceptor;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
                 .allowedOrigins("http://localhost:8083", "https://after-school-m.vercel.app")
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
-                .allowCredentials(true);
+                .allowCredentials(true)
+                .exposedHeaders("Retry-After");
         //테스트123
     }
-}
\ No newline at end of file
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 수강 신청 오픈 시 몰리는 요청(강좌 목록 GET, 수강 신청 POST)만 대기실을 거칩니다.
+        // 같은 경로의 수강 취소(DELETE)와 대기 순번 조회는 줄 세우지 않습니다.
+        registry.addInterceptor(onlyFor(HttpMethod.GET, waitingRoomInterceptor))
+                .addPathPatterns("/api/students/courses");
+        registry.addInterceptor(onlyFor(HttpMethod.POST, waitingRoomInterceptor))
+                .addPathPatterns("/api/students/courses/*/enroll");
+    }
+
+    /**
+     * 인터셉터 등록은 경로로만 구분되므로, 지정한 HTTP 메서드의 요청만 위임합니다.
+     */
+    private static HandlerInterceptor onlyFor(HttpMethod method, HandlerInterceptor delegate) {
+        return new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+                return !method.matches(request.getMethod()) || delegate.preHandle(request, response, handler);
+            }
+        };
+    }
+}
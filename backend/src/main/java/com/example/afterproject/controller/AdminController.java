@@ -3,11 +3,20 @@ package com.example.afterproject.controller;
 import com.example.afterproject.dto.admin.*;
 import com.example.afterproject.security.CustomUserDetails;
 import com.example.afterproject.service.AdminService;
+import com.example.afterproject.service.LotteryAllocationService;
+import com.example.afterproject.service.UserImportService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
@@ -19,25 +28,83 @@ import java.util.List;
 public class AdminController {
 
     private final AdminService adminService;
+    private final LotteryAllocationService lotteryAllocationService;
+    private final UserImportService userImportService;
+    private final ObjectMapper objectMapper;
 
     // =====================================================================
     // 4.1. 사용자 통합 관리
     // =====================================================================
 
     /**
-     * 모든 사용자 목록 조회 (검색/필터링 포함)
+     * 사용자 목록 조회 (검색/필터링, userId 기준 커서 페이지네이션)
      * @param role 'STUDENT', 'TEACHER', 'ADMIN' 중 하나로 필터링
      * @param name 이름으로 검색
-     * @return 사용자 목록
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (기본 admin.users.page-size, 최대 500)
+     * @return 사용자 목록과 다음 커서
      */
     @GetMapping("/users")
-    public ResponseEntity<List<UserResponseDto>> getAllUsers(
+    public ResponseEntity<UserPageDto> getAllUsers(
             @RequestParam(required = false) String role,
-            @RequestParam(required = false) String name) {
-        List<UserResponseDto> users = adminService.getAllUsers(role, name);
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        UserPageDto users = adminService.getUsers(role, name, cursor, size);
         return ResponseEntity.ok(users);
     }
 
+    /**
+     * 사용자 전체 내보내기 (JSON 배열을 스트리밍으로 전송, 서버 메모리 사용량 일정)
+     * @param role 역할 필터
+     * @param name 이름 검색
+     * @return 사용자 목록 JSON 스트림
+     */
+    @GetMapping("/users/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String name) {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                adminService.forEachUser(role, name, user -> {
+                    try {
+                        generator.writeObject(user);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users.json\"")
+                .body(body);
+    }
+
+    /**
+     * 사용자 일괄 등록 (CSV: email,password,name,role,studentIdNo)
+     * 진행 상황과 행별 오류를 NDJSON(한 줄에 하나의 JSON)으로 스트리밍합니다.
+     * @param csv 한 행에 한 명, 첫 행은 헤더 가능
+     * @return progress/error/done 이벤트 스트림
+     */
+    @PostMapping(value = "/users/import", consumes = "text/csv")
+    public ResponseEntity<StreamingResponseBody> importUsers(@RequestBody String csv) {
+        StreamingResponseBody body = outputStream -> userImportService.importCsv(csv, event -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(event));
+                outputStream.write('\n');
+                outputStream.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
     /**
      * 특정 사용자의 역할 변경
      * @param userId 역할을 변경할 사용자의 ID
@@ -102,6 +169,28 @@ public class AdminController {
         return ResponseEntity.ok(courses);
     }
 
+    /**
+     * 강좌 수강 신청 방식 변경
+     * @param courseId 변경할 강좌 ID
+     * @param allocationModeUpdateDto 'FCFS'(선착순) 또는 'LOTTERY'(추첨, 신청 마감 시각 lotteryClosesAt 필수)
+     * @return 업데이트된 강좌 정보
+     */
+    @PutMapping("/courses/{courseId}/allocation-mode")
+    public ResponseEntity<CourseResponseDto> updateAllocationMode(
+            @PathVariable Long courseId,
+            @RequestBody AllocationModeUpdateDto allocationModeUpdateDto) {
+        return ResponseEntity.ok(adminService.updateAllocationMode(courseId, allocationModeUpdateDto));
+    }
+
+    /**
+     * 추첨 모드 강좌의 신청 마감 후 일괄 배정 실행 (마감 시각이 지나지 않은 강좌는 배정하지 않음)
+     * @return 강좌별 배정 결과
+     */
+    @PostMapping("/allocations/lottery")
+    public ResponseEntity<LotteryResultDto> runLotteryAllocation() {
+        return ResponseEntity.ok(lotteryAllocationService.allocate());
+    }
+
     @PostMapping("/courses/{courseId}/end")
     public ResponseEntity<CourseResponseDto> endCourse(@PathVariable Long courseId) {
         CourseResponseDto course = adminService.endCourse(courseId);
@@ -122,6 +211,55 @@ public class AdminController {
         return ResponseEntity.ok(new ResponseMessageDto("학생이 강좌에 성공적으로 배정되었습니다."));
     }
 
+    /**
+     * 여러 학생을 특정 강좌에 일괄 강제 배정
+     * @param courseId 강좌 ID
+     * @param bulkEnrollRequestDto 배정할 학생 ID 목록
+     * @return 행별 처리 결과
+     */
+    @PostMapping("/courses/{courseId}/enroll/bulk")
+    public ResponseEntity<BulkEnrollResultDto> bulkEnrollStudents(
+            @PathVariable Long courseId,
+            @RequestBody BulkEnrollRequestDto bulkEnrollRequestDto) {
+        List<BulkAssignmentRequestDto.Assignment> assignments = bulkEnrollRequestDto.getStudentIds().stream()
+                .map(studentId -> new BulkAssignmentRequestDto.Assignment(courseId, studentId))
+                .toList();
+        return ResponseEntity.ok(adminService.bulkEnroll(assignments));
+    }
+
+    /**
+     * 여러 강좌에 일괄 강제 배정 (JSON)
+     * @param bulkAssignmentRequestDto (강좌 ID, 학생 ID) 목록
+     * @return 행별 처리 결과
+     */
+    @PostMapping(value = "/enrollments/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkEnrollResultDto> bulkAssign(@RequestBody BulkAssignmentRequestDto bulkAssignmentRequestDto) {
+        return ResponseEntity.ok(adminService.bulkEnroll(bulkAssignmentRequestDto.getAssignments()));
+    }
+
+    /**
+     * 여러 강좌에 일괄 강제 배정 (CSV: courseId,studentId)
+     * @param csv 한 행에 하나의 배정, 첫 행은 헤더 가능
+     * @return 행별 처리 결과
+     */
+    @PostMapping(value = "/enrollments/bulk", consumes = "text/csv")
+    public ResponseEntity<BulkEnrollResultDto> bulkAssignCsv(@RequestBody String csv) {
+        return ResponseEntity.ok(adminService.bulkEnroll(adminService.parseAssignmentsCsv(csv)));
+    }
+
+    /**
+     * 여러 학생을 특정 강좌에서 일괄 강제 취소
+     * @param courseId 강좌 ID
+     * @param bulkEnrollRequestDto 취소할 학생 ID 목록
+     * @return 행별 처리 결과
+     */
+    @PostMapping("/courses/{courseId}/unenroll/bulk")
+    public ResponseEntity<BulkEnrollResultDto> bulkUnenrollStudents(
+            @PathVariable Long courseId,
+            @RequestBody BulkEnrollRequestDto bulkEnrollRequestDto) {
+        return ResponseEntity.ok(adminService.bulkUnenroll(courseId, bulkEnrollRequestDto.getStudentIds()));
+    }
+
     /**
      * 학생을 특정 강좌에서 강제 취소
      * @param courseId 강좌 ID
@@ -5,10 +5,13 @@ import com.example.afterproject.dto.LoginRequestDto;
 import com.example.afterproject.dto.SignupRequestDto;
 import com.example.afterproject.dto.TokenResponseDto;
 import com.example.afterproject.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
@@ -17,12 +20,13 @@ public class AuthController {
     private final AuthService authService;
 
     // 로그인
+    // 비밀번호 확인은 전용 스레드 풀에서 비동기로 처리되므로 요청 스레드를 점유하지 않습니다.
+    // getRemoteAddr()는 신뢰 프록시(server.tomcat.remoteip.*)가 붙인 X-Forwarded-For로 해석된 클라이언트 주소입니다.
     @PostMapping("/login")
-    public ResponseEntity<TokenResponseDto> login(@RequestBody LoginRequestDto requestDto) {
-        TokenResponseDto response = authService.login(requestDto);
-        // Explicit Logging to debug Role issue
-        System.out.println("DEBUG LOGIN: User " + requestDto.getEmail() + " logged in with role: " + response.getRole());
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<TokenResponseDto>> login(@RequestBody LoginRequestDto requestDto,
+                                                                     HttpServletRequest request) {
+        return authService.login(requestDto, request.getRemoteAddr())
+                .thenApply(ResponseEntity::ok);
     }
 
     // ▼▼▼ 회원가입 (새로 추가됨) ▼▼▼
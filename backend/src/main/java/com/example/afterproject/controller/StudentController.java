@@ -4,6 +4,7 @@ import com.example.afterproject.dto.admin.ResponseMessageDto;
 import com.example.afterproject.dto.student.StudentDto.*;
 import com.example.afterproject.dto.student.*;
 import com.example.afterproject.security.CustomUserDetails; // import 추가
+import com.example.afterproject.service.RegistrationWaitingRoom;
 import com.example.afterproject.service.StudentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -18,6 +19,20 @@ import java.util.List;
 public class StudentController {
 
     private final StudentService studentService;
+    private final RegistrationWaitingRoom registrationWaitingRoom;
+
+    // 2.0. 수강 신청 대기실 순번 조회 (429 응답의 queueToken으로 폴링)
+    @GetMapping("/waiting-room/{queueToken}")
+    public ResponseEntity<WaitingRoomStatusDto> getWaitingRoomStatus(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable String queueToken) {
+
+        RegistrationWaitingRoom.Admission admission = registrationWaitingRoom.poll(userDetails.getUserId(), queueToken);
+        if (admission == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(new WaitingRoomStatusDto(admission));
+    }
 
     // 2.1. 강좌 목록 및 검색
     @GetMapping("/courses")
@@ -48,7 +63,14 @@ public class StudentController {
             @AuthenticationPrincipal CustomUserDetails userDetails, // ▼ 변경됨
             @PathVariable Long courseId) {
 
-        studentService.enrollInCourse(userDetails.getUserId(), courseId);
+        EnrollmentResultDto result = studentService.enrollInCourse(userDetails.getUserId(), courseId);
+        if ("LOTTERY".equals(result.getStatus())) {
+            return ResponseEntity.ok(new ResponseMessageDto("추첨 신청이 접수되었습니다. 신청 마감 후 추첨 결과가 반영됩니다."));
+        }
+        if (result.getWaitlistRank() != null) {
+            return ResponseEntity.ok(new ResponseMessageDto(
+                    "정원이 마감되어 대기자 명단에 등록되었습니다. (대기 순번: " + result.getWaitlistRank() + ")"));
+        }
         return ResponseEntity.ok(new ResponseMessageDto("수강 신청이 완료되었습니다."));
     }
 
@@ -1,8 +1,5 @@
 package com.example.afterproject.dto;
 
-import com.example.afterproject.entity.AttendanceEntity;
-import com.example.afterproject.entity.EnrollmentEntity;
-import com.example.afterproject.entity.UserEntity;
 import lombok.Getter;
 
 import java.time.LocalDate;
@@ -16,24 +13,15 @@ public class AttendanceDto {
     private final Long studentId;
     private final String studentName;
 
-    // 출결 기록이 있을 때
-    public AttendanceDto(AttendanceEntity attendance) {
-        this.attendanceId = attendance.getAttendanceId();
-        this.classDate = attendance.getClassDate();
-        this.status = attendance.getStatus();
-        this.enrollmentId = attendance.getEnrollment().getEnrollmentId();
-        this.studentId = attendance.getEnrollment().getStudent().getUserId();
-        this.studentName = attendance.getEnrollment().getStudent().getName();
-    }
-
-    // 출결 기록이 없을 때 (수강생 정보 기반)
-    public AttendanceDto(EnrollmentEntity enrollment, LocalDate classDate) {
-        this.attendanceId = null;
+    // 출석부 조회 쿼리(EnrollmentRepository.findAttendanceSheet)에서 직접 생성
+    // 출결 기록이 없는 수강생은 attendanceId가 null이고 상태는 PRESENT입니다.
+    public AttendanceDto(Long attendanceId, LocalDate classDate, String status,
+                         Long enrollmentId, Long studentId, String studentName) {
+        this.attendanceId = attendanceId;
         this.classDate = classDate;
-        this.status = "PRESENT"; // ??? ??
-        this.enrollmentId = enrollment.getEnrollmentId();
-        UserEntity student = enrollment.getStudent();
-        this.studentId = student.getUserId();
-        this.studentName = student.getName();
+        this.status = status;
+        this.enrollmentId = enrollmentId;
+        this.studentId = studentId;
+        this.studentName = studentName;
     }
 }
@@ -46,4 +46,23 @@ public class CourseDto {
         this.endedAt = course.getEndedAt();
         this.currentEnrollmentCount = 0; // 예시 값
     }
+
+    public CourseDto(CourseSummaryDto course) {
+        this.courseId = course.getCourseId();
+        this.courseName = course.getCourseName();
+        this.category = course.getCategory();
+        this.description = course.getDescription();
+        this.status = course.getStatus();
+        this.courseDays = course.getCourseDays();
+        this.courseTime = course.getCourseTime();
+        this.location = course.getLocation();
+        this.capacity = course.getCapacity();
+        this.createdAt = course.getCreatedAt();
+        this.quarter = course.getQuarter();
+        this.quarterLabel = course.getQuarterLabel();
+        this.endDate = course.getAfterSchoolEndDate();
+        this.ended = course.isEnded();
+        this.endedAt = course.getEndedAt();
+        this.currentEnrollmentCount = course.getEnrolledCount();
+    }
 }
@@ -0,0 +1,33 @@
+package com.example.afterproject.dto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 강좌 목록 화면용 조회 결과(프로젝션)입니다.
+ * 강좌 컬럼, 담당 교사 이름, 현재 수강 인원을 한 번의 쿼리로 가져옵니다.
+ * (CourseRepository의 "SELECT new ..." 쿼리와 생성자 인자 순서가 일치해야 합니다.)
+ */
+@Getter
+@AllArgsConstructor
+public class CourseSummaryDto {
+    private final Long courseId;
+    private final String courseName;
+    private final String category;
+    private final String description;
+    private final String courseDays;
+    private final String courseTime;
+    private final String location;
+    private final int capacity;
+    private final String status;
+    private final Integer quarter;
+    private final String quarterLabel;
+    private final LocalDate afterSchoolEndDate;
+    private final boolean ended;
+    private final Instant endedAt;
+    private final Instant createdAt;
+    private final String teacherName;
+    private final long enrolledCount;
+}
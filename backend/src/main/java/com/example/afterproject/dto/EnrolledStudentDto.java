@@ -1,6 +1,5 @@
 package com.example.afterproject.dto;
 
-import com.example.afterproject.entity.UserEntity;
 import lombok.Getter;
 
 /**
@@ -13,11 +12,12 @@ public class EnrolledStudentDto {
     private final String name;        // 학생의 이름
 
     /**
-     * UserEntity 객체를 받아 DTO를 생성합니다.
-     * @param student 학생 정보를 담고 있는 UserEntity 객체
+     * 수강생 명단 조회 쿼리(EnrollmentRepository.findActiveStudentsByCourseId)에서 직접 생성합니다.
+     * @param studentIdNo 학번
+     * @param name 이름
      */
-    public EnrolledStudentDto(UserEntity student) {
-        this.studentIdNo = student.getStudentIdNo();
-        this.name = student.getName();
+    public EnrolledStudentDto(String studentIdNo, String name) {
+        this.studentIdNo = studentIdNo;
+        this.name = name;
     }
 }
@@ -28,4 +28,15 @@ public class NoticeDto {
         this.authorName = entity.getAuthor().getName(); // 연관된 작성자 엔티티에서 이름을 가져옴
         this.createdAt = entity.getCreatedAt();
     }
+
+    /**
+     * 목록 조회 쿼리(NoticeRepository.findNoticeDtosByCourseId)에서 직접 생성합니다.
+     */
+    public NoticeDto(Long id, String title, String content, String authorName, Instant createdAt) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.authorName = authorName;
+        this.createdAt = createdAt;
+    }
 }
@@ -0,0 +1,18 @@
+package com.example.afterproject.dto.admin;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * 강좌 수강 신청 방식 변경 요청 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class AllocationModeUpdateDto {
+    private String allocationMode; // "FCFS", "LOTTERY"
+    private Instant lotteryClosesAt; // LOTTERY일 때 필수: 신청 마감 시각 (예: "2026-03-02T09:00:00Z")
+}
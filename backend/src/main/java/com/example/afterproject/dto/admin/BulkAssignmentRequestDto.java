@@ -0,0 +1,27 @@
+package com.example.afterproject.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 여러 강좌 일괄 배정 요청 DTO (JSON 본문, CSV는 "courseId,studentId" 행으로 변환)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BulkAssignmentRequestDto {
+    private List<Assignment> assignments;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Assignment {
+        private Long courseId;
+        private Long studentId;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.afterproject.dto.admin;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 한 강좌에 여러 학생 일괄 배정/취소 시 요청 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BulkEnrollRequestDto {
+    private List<Long> studentIds;
+}
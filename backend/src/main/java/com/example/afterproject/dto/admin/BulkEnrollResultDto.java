@@ -0,0 +1,34 @@
+package com.example.afterproject.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 일괄 배정/취소 결과 DTO (요청 행별 처리 결과 포함)
+ */
+@Getter
+public class BulkEnrollResultDto {
+    private final int requested;
+    private final int succeeded;
+    private final int failed;
+    private final List<Row> results;
+
+    public BulkEnrollResultDto(List<Row> results) {
+        this.requested = results.size();
+        this.succeeded = (int) results.stream().filter(Row::isSuccess).count();
+        this.failed = requested - succeeded;
+        this.results = results;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Row {
+        private final Long courseId;
+        private final Long studentId;
+        private final boolean success;
+        private final String result;  // 'ENROLLED', 'PROMOTED', 'UNENROLLED', 'ALREADY_ENROLLED', 'NOT_ENROLLED', ...
+        private final String message;
+    }
+}
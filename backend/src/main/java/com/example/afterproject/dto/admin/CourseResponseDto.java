@@ -1,5 +1,6 @@
 package com.example.afterproject.dto.admin;
 
+import com.example.afterproject.dto.CourseSummaryDto;
 import com.example.afterproject.entity.CourseEntity;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -31,4 +32,17 @@ public class CourseResponseDto {
         this.ended = course.isEnded();
         this.endedAt = course.getEndedAt();
     }
+
+    public CourseResponseDto(CourseSummaryDto course) {
+        this.courseId = course.getCourseId();
+        this.courseName = course.getCourseName();
+        this.teacherName = course.getTeacherName();
+        this.status = course.getStatus();
+        this.capacity = course.getCapacity();
+        this.quarter = course.getQuarter();
+        this.quarterLabel = course.getQuarterLabel();
+        this.endDate = course.getAfterSchoolEndDate();
+        this.ended = course.isEnded();
+        this.endedAt = course.getEndedAt();
+    }
 }
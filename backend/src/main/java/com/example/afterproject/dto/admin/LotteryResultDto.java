@@ -0,0 +1,26 @@
+package com.example.afterproject.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 추첨 배정 실행 결과 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class LotteryResultDto {
+    private final long seed; // 추첨 재현용 난수 시드
+    private final List<CourseResult> courses;
+
+    @Getter
+    @AllArgsConstructor
+    public static class CourseResult {
+        private final Long courseId;
+        private final int applicants;   // 희망 접수 인원
+        private final int allocated;    // 수강 확정 인원
+        private final int waitlisted;   // 대기 등록 인원
+        private final int ineligible;   // 출석률 미달로 제외된 인원
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.afterproject.dto.admin;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 일괄 등록 진행 상황 DTO (NDJSON 한 줄에 하나씩 전송)
+ * type: 'progress'(진행률), 'error'(행 오류), 'done'(완료)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserImportEventDto {
+    private final String type;
+    private final Integer line;      // CSV 행 번호 (error)
+    private final String email;      // (error)
+    private final String message;    // (error)
+    private final Integer processed; // 처리한 행 수 (progress, done)
+    private final Integer imported;  // 등록된 사용자 수 (progress, done)
+    private final Integer total;     // 전체 행 수 (progress, done)
+
+    public static UserImportEventDto progress(int processed, int imported, int total) {
+        return new UserImportEventDto("progress", null, null, null, processed, imported, total);
+    }
+
+    public static UserImportEventDto error(int line, String email, String message) {
+        return new UserImportEventDto("error", line, email, message, null, null, null);
+    }
+
+    public static UserImportEventDto done(int processed, int imported, int total) {
+        return new UserImportEventDto("done", null, null, null, processed, imported, total);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.afterproject.dto.admin;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 목록 페이지 응답 DTO
+ * nextCursor를 다음 요청의 cursor로 전달하며, 마지막 페이지이면 null입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserPageDto {
+    private final List<UserResponseDto> users;
+    private final Long nextCursor;
+}
@@ -17,6 +17,14 @@ public class UserResponseDto {
     private final String role;
     private final String studentIdNo;
 
+    public UserResponseDto(Long userId, String email, String name, String role, String studentIdNo) {
+        this.userId = userId;
+        this.email = email;
+        this.name = name;
+        this.role = role;
+        this.studentIdNo = studentIdNo;
+    }
+
     public UserResponseDto(UserEntity user) {
         this.userId = user.getUserId();
         this.email = user.getEmail();
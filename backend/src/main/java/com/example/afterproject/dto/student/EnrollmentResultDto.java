@@ -0,0 +1,14 @@
+package com.example.afterproject.dto.student;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 2.2. 수강 신청 결과 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class EnrollmentResultDto {
+    private final String status;       // 'ACTIVE', 'WAITLISTED', 'LOTTERY'(추첨 대기)
+    private final Long waitlistRank;   // 대기 순번 (WAITLISTED일 때만)
+}
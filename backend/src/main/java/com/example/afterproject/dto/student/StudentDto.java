@@ -1,5 +1,6 @@
 package com.example.afterproject.dto.student;
 
+import com.example.afterproject.dto.CourseSummaryDto;
 import com.example.afterproject.entity.CourseEntity;
 import com.example.afterproject.entity.EnrollmentEntity;
 import java.time.LocalDate;
@@ -26,10 +27,14 @@ public class StudentDto {
         private final LocalDate endDate;
         private final boolean ended;
 
-        public CourseListResponseDto(CourseEntity course, long currentEnrollment, boolean isEnrolled) {
+        public CourseListResponseDto(CourseSummaryDto course, boolean isEnrolled) {
+            this(course, course.getEnrolledCount(), isEnrolled);
+        }
+
+        public CourseListResponseDto(CourseSummaryDto course, long currentEnrollment, boolean isEnrolled) {
             this.courseId = course.getCourseId();
             this.courseName = course.getCourseName();
-            this.teacherName = course.getTeacher().getName();
+            this.teacherName = course.getTeacherName();
             this.courseDays = course.getCourseDays();
             this.courseTime = course.getCourseTime();
             this.location = course.getLocation();
@@ -56,14 +61,16 @@ public class StudentDto {
         private final String location;
         private final long currentEnrollment;
         private final int capacity;
-        private final boolean isEnrolled;
+        private final boolean isEnrolled;      // 수강 확정(ACTIVE) 여부
+        private final String enrollmentStatus; // 'ACTIVE', 'WAITLISTED', 'LOTTERY'(추첨 대기), 신청 전이면 null
+        private final Long waitlistRank;       // 현재 대기 순번 (WAITLISTED일 때만)
         private final boolean canEnroll; // 출석률 조건 등 수강 가능 여부
         private final Integer quarter;
         private final String quarterLabel;
         private final LocalDate endDate;
         private final boolean ended;
 
-        public CourseDetailResponseDto(CourseEntity course, long currentEnrollment, boolean isEnrolled, boolean canEnroll) {
+        public CourseDetailResponseDto(CourseEntity course, String enrollmentStatus, Long waitlistRank, boolean canEnroll) {
             this.courseId = course.getCourseId();
             this.courseName = course.getCourseName();
             this.description = course.getDescription();
@@ -72,9 +79,11 @@ public class StudentDto {
             this.courseDays = course.getCourseDays();
             this.courseTime = course.getCourseTime();
             this.location = course.getLocation();
-            this.currentEnrollment = currentEnrollment;
+            this.currentEnrollment = course.getEnrolledCount();
             this.capacity = course.getCapacity();
-            this.isEnrolled = isEnrolled;
+            this.isEnrolled = "ACTIVE".equals(enrollmentStatus);
+            this.enrollmentStatus = enrollmentStatus;
+            this.waitlistRank = waitlistRank;
             this.canEnroll = canEnroll;
             this.quarter = course.getQuarter();
             this.quarterLabel = course.getQuarterLabel();
@@ -95,9 +104,12 @@ public class StudentDto {
         }
 
         private double calculateOverallRate(List<MyCourseDto> courses) {
-            if (courses.isEmpty()) return 0.0;
-            double totalRateSum = courses.stream().mapToDouble(MyCourseDto::getAttendanceRate).sum();
-            return totalRateSum / courses.size();
+            // 대기 중인 강좌는 출석 기록이 없으므로 전체 출석률에서 제외
+            return courses.stream()
+                    .filter(course -> course.getWaitlistRank() == null)
+                    .mapToDouble(MyCourseDto::getAttendanceRate)
+                    .average()
+                    .orElse(0.0);
         }
 
         @Getter
@@ -110,19 +122,21 @@ public class StudentDto {
             private final long presentCount;
             private final long absentCount;
             private final long lateCount;
+            private final Long waitlistRank; // 대기 순번 (WAITLISTED일 때만)
 
-            public MyCourseDto(EnrollmentEntity enrollment, List<String> attendanceRecords) {
-                this.courseId = enrollment.getCourse().getCourseId();
-                this.courseName = enrollment.getCourse().getCourseName();
-                this.teacherName = enrollment.getCourse().getTeacher().getName();
-                this.status = enrollment.getStatus();
-
-                this.presentCount = attendanceRecords.stream().filter(r -> "PRESENT".equals(r)).count();
-                this.absentCount = attendanceRecords.stream().filter(r -> "ABSENT".equals(r)).count();
-                this.lateCount = attendanceRecords.stream().filter(r -> "LATE".equals(r)).count();
+            // 조회 쿼리(EnrollmentRepository.findMyCourses)에서 직접 생성하는 projection 생성자
+            public MyCourseDto(Long courseId, String courseName, String teacherName, String status,
+                               int presentCount, int absentCount, int lateCount, Long waitlistRank) {
+                this.courseId = courseId;
+                this.courseName = courseName;
+                this.teacherName = teacherName;
+                this.status = status;
 
-                long totalClasses = presentCount + absentCount + lateCount;
-                this.attendanceRate = (totalClasses == 0) ? 0.0 : (double) (presentCount + lateCount) / totalClasses * 100;
+                this.presentCount = presentCount;
+                this.absentCount = absentCount;
+                this.lateCount = lateCount;
+                this.attendanceRate = EnrollmentEntity.attendanceRate(presentCount, absentCount, lateCount);
+                this.waitlistRank = waitlistRank;
             }
         }
     }
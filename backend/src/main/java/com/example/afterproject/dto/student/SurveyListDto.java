@@ -1,7 +1,5 @@
 package com.example.afterproject.dto.student;
 
-import com.example.afterproject.entity.CourseEntity;
-import com.example.afterproject.entity.SurveyEntity;
 import lombok.Getter;
 
 import java.time.LocalDate;
@@ -19,21 +17,16 @@ public class SurveyListDto {
     private final Long courseId;       // 전체 설문인 경우 null
     private final String courseName;   // 전체 설문인 경우 null
 
-    public SurveyListDto(SurveyEntity survey, boolean isSubmitted) {
-        this.surveyId = survey.getSurveyId();
-        this.title = survey.getTitle();
-        this.startDate = survey.getStartDate();
-        this.endDate = survey.getEndDate();
+    // 설문 조회 쿼리(SurveyRepository.findActiveSurveysForStudent)에서 직접 생성
+    public SurveyListDto(Long surveyId, String title, LocalDate startDate, LocalDate endDate,
+                         boolean isSubmitted, Long courseId, String courseName) {
+        this.surveyId = surveyId;
+        this.title = title;
+        this.startDate = startDate;
+        this.endDate = endDate;
         this.isSubmitted = isSubmitted;
-
-        CourseEntity course = survey.getCourse();
-        if (course != null) {
-            this.courseId = course.getCourseId();
-            this.courseName = course.getCourseName();
-        } else {
-            this.courseId = null;
-            this.courseName = null;
-        }
+        this.courseId = courseId;
+        this.courseName = courseName;
     }
 }
 
@@ -0,0 +1,20 @@
+package com.example.afterproject.dto.student;
+
+import com.example.afterproject.service.RegistrationWaitingRoom.Admission;
+import lombok.Getter;
+
+/**
+ * 2.0. 수강 신청 대기실 순번 조회 응답 DTO
+ */
+@Getter
+public class WaitingRoomStatusDto {
+    private final String status;           // 'ADMITTED' 또는 'WAITING'
+    private final long position;           // 내 앞의 대기 인원 + 1 (입장 시 0)
+    private final long retryAfterSeconds;  // 다음 조회까지 권장 간격
+
+    public WaitingRoomStatusDto(Admission admission) {
+        this.status = admission.status().name();
+        this.position = admission.position();
+        this.retryAfterSeconds = admission.retryAfterSeconds();
+    }
+}
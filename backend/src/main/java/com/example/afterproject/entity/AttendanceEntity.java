@@ -9,7 +9,10 @@ import lombok.Setter;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "AFTER_ATTENDANCE")
+@Table(name = "AFTER_ATTENDANCE",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"enrollment_id", "class_date"})
+        })
 @Getter
 @Setter
 @NoArgsConstructor
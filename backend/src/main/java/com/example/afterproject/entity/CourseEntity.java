@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.Instant;
@@ -12,11 +14,15 @@ import java.time.LocalDate;
 
 @Entity
 @Table(name = "AFTER_COURSES")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @NoArgsConstructor
 public class CourseEntity {
 
+    public static final String ALLOCATION_FCFS = "FCFS";
+    public static final String ALLOCATION_LOTTERY = "LOTTERY";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY) // MySQL용 변경
     @Column(name = "course_id")
@@ -48,9 +54,25 @@ public class CourseEntity {
     @Column(name = "capacity", nullable = false)
     private int capacity;
 
+    // 현재 ACTIVE 수강 인원. CourseSeatLedger의 조건부 UPDATE로만 변경됩니다.
+    @Column(name = "enrolled_count", nullable = false, updatable = false)
+    private int enrolledCount;
+
+    // 마지막으로 발급한 대기 번호. CourseWaitlist에서 조건 없는 UPDATE로만 증가합니다.
+    @Column(name = "waitlist_sequence", nullable = false, updatable = false)
+    private long waitlistSequence;
+
     @Column(name = "status", nullable = false)
     private String status;
 
+    // 수강 신청 방식: 'FCFS'(선착순) 또는 'LOTTERY'(기간 내 희망 접수 후 일괄 추첨)
+    @Column(name = "allocation_mode", nullable = false)
+    private String allocationMode = ALLOCATION_FCFS;
+
+    // 추첨 모드의 신청 마감 시각. 이 시각이 지나야 일괄 배정할 수 있습니다.
+    @Column(name = "lottery_closes_at")
+    private Instant lotteryClosesAt;
+
     @Column(name = "quarter")
     private Integer quarter;
 
@@ -70,6 +92,15 @@ public class CourseEntity {
     @Column(name = "created_at")
     private Instant createdAt;
 
+    public boolean isLotteryMode() {
+        return ALLOCATION_LOTTERY.equals(allocationMode);
+    }
+
+    /** 추첨 모드이고 신청 마감 시각이 지났는지 (배정 가능 여부) */
+    public boolean isLotteryClosed(Instant now) {
+        return isLotteryMode() && lotteryClosesAt != null && !lotteryClosesAt.isAfter(now);
+    }
+
     @Builder
     public CourseEntity(UserEntity teacher, String courseName, String category, String description, String courseDays, String courseTime, String location, int capacity, String status, Integer quarter, String quarterLabel, LocalDate afterSchoolEndDate, boolean ended, Instant endedAt) {
         this.teacher = teacher;
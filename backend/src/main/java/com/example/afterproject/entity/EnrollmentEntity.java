@@ -12,6 +12,9 @@ import java.time.Instant;
 @Table(name = "AFTER_ENROLLMENTS",
         uniqueConstraints = {
                 @UniqueConstraint(columnNames = {"student_id", "course_id"})
+        },
+        indexes = {
+                @Index(name = "idx_enrollments_course_status_waitlist", columnList = "course_id, status, waitlist_position")
         })
 @Getter
 @NoArgsConstructor
@@ -31,16 +34,77 @@ public class EnrollmentEntity {
     private CourseEntity course;
 
     @Column(nullable = false)
-    private String status;
+    private String status; // 'ACTIVE', 'WAITLISTED'
+
+    // 대기 번호 (강좌별 발급 순서, WAITLISTED일 때만 값이 있음)
+    @Column(name = "waitlist_position")
+    private Long waitlistPosition;
 
     @CreationTimestamp
     @Column(name = "enrolled_at", updatable = false)
     private Instant enrolledAt;
 
+    // 출결 상태별 누적 횟수 (출결 기록 시 함께 갱신되어, 조회 시 출결 행을 읽지 않아도 됩니다)
+    @Column(name = "present_count", nullable = false)
+    private int presentCount;
+
+    @Column(name = "absent_count", nullable = false)
+    private int absentCount;
+
+    @Column(name = "late_count", nullable = false)
+    private int lateCount;
+
     @Builder
-    public EnrollmentEntity(UserEntity student, CourseEntity course, String status) {
+    public EnrollmentEntity(UserEntity student, CourseEntity course, String status, Long waitlistPosition) {
         this.student = student;
         this.course = course;
         this.status = status;
+        this.waitlistPosition = waitlistPosition;
+    }
+
+    /**
+     * 대기 중인 수강 신청을 수강 확정으로 전환합니다.
+     */
+    public void activate() {
+        this.status = "ACTIVE";
+        this.waitlistPosition = null;
+    }
+
+    /**
+     * 누적 카운터 기준 출석률 (지각은 출석으로 인정, 수업 기록이 없으면 0)
+     */
+    public double getAttendanceRate() {
+        return attendanceRate(presentCount, absentCount, lateCount);
+    }
+
+    // 출석률(%) = (출석 + 지각) / 전체 수업 수, 수업 기록이 없으면 0
+    public static double attendanceRate(long presentCount, long absentCount, long lateCount) {
+        long totalClasses = presentCount + absentCount + lateCount;
+        return (totalClasses == 0) ? 0.0 : (double) (presentCount + lateCount) / totalClasses * 100;
+    }
+
+    /**
+     * 출결 상태 변경을 누적 카운터에 반영합니다.
+     * @param previousStatus 기존 상태 (신규 기록이면 null)
+     * @param newStatus 새 상태
+     */
+    public void applyAttendanceChange(String previousStatus, String newStatus) {
+        if (previousStatus != null && previousStatus.equals(newStatus)) {
+            return;
+        }
+        adjustAttendanceCount(previousStatus, -1);
+        adjustAttendanceCount(newStatus, 1);
+    }
+
+    private void adjustAttendanceCount(String status, int delta) {
+        if (status == null) {
+            return;
+        }
+        switch (status) {
+            case "PRESENT" -> this.presentCount += delta;
+            case "ABSENT" -> this.absentCount += delta;
+            case "LATE" -> this.lateCount += delta;
+            default -> { }
+        }
     }
-}
\ No newline at end of file
+}
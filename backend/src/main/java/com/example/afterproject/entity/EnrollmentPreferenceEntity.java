@@ -0,0 +1,49 @@
+package com.example.afterproject.entity;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+
+/**
+ * 추첨(LOTTERY) 모드 강좌의 수강 희망 기록입니다.
+ * 신청 기간에는 이 테이블에 추가만 하고, 마감 후 LotteryAllocationService가 일괄 배정합니다.
+ */
+@Entity
+@Table(name = "AFTER_ENROLLMENT_PREFERENCES",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"student_id", "course_id"})
+        },
+        indexes = {
+                @Index(name = "idx_preferences_course", columnList = "course_id")
+        })
+@Getter
+@NoArgsConstructor
+public class EnrollmentPreferenceEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "preference_id")
+    private Long preferenceId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_id", nullable = false)
+    private UserEntity student;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "course_id", nullable = false)
+    private CourseEntity course;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private Instant createdAt;
+
+    @Builder
+    public EnrollmentPreferenceEntity(UserEntity student, CourseEntity course) {
+        this.student = student;
+        this.course = course;
+    }
+}
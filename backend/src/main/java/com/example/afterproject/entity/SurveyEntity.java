@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.Instant;
@@ -13,6 +15,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "AFTER_SURVEYS")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @NoArgsConstructor
 public class SurveyEntity {
@@ -43,6 +46,7 @@ public class SurveyEntity {
     @Column(name = "created_at")
     private Instant createdAt;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "survey", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<SurveyQuestionEntity> questions = new ArrayList<>();
 
@@ -9,7 +9,10 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.Instant;
 
 @Entity
-@Table(name = "AFTER_SURVEY_RESPONSES")
+@Table(name = "AFTER_SURVEY_RESPONSES",
+        indexes = {
+                @Index(name = "idx_survey_responses_respondent_question", columnList = "respondent_id, question_id")
+        })
 @Getter
 @NoArgsConstructor
 public class SurveyResponseEntity {
@@ -4,9 +4,12 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "AFTER_USERS")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -31,4 +34,8 @@ public class UserEntity {
 
     @Column(name = "student_id_no", unique = true)
     private String studentIdNo;
+
+    // 발급한 토큰의 "ver" 클레임과 비교해 이전 토큰을 무효화합니다. (TokenRevocationRegistry)
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion;
 }
\ No newline at end of file
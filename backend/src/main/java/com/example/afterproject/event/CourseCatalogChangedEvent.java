@@ -0,0 +1,13 @@
+package com.example.afterproject.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 강좌의 목록 노출 정보(승인 상태, 종료 여부, 강좌 정보)가 변경되었음을 알리는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class CourseCatalogChangedEvent {
+    private final Long courseId;
+}
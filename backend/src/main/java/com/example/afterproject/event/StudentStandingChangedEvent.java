@@ -0,0 +1,14 @@
+package com.example.afterproject.event;
+
+import java.util.Collection;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 학생의 수강 정보 또는 출결이 변경되어 수강 자격(출석률)을 다시 계산해야 함을 알리는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class StudentStandingChangedEvent {
+    private final Collection<Long> studentIds;
+}
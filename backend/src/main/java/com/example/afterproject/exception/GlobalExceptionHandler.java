@@ -1,5 +1,6 @@
 package com.example.afterproject.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -20,4 +21,23 @@ public class GlobalExceptionHandler {
         errorResponse.put("path", ex.getResourcePath());
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
+
+    @ExceptionHandler(TooManyAttemptsException.class)
+    public ResponseEntity<Map<String, String>> handleTooManyAttemptsException(TooManyAttemptsException ex) {
+        return retryLater(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", ex.getMessage(), ex.getRetryAfterSeconds());
+    }
+
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<Map<String, String>> handleServiceBusyException(ServiceBusyException ex) {
+        return retryLater(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", ex.getMessage(), ex.getRetryAfterSeconds());
+    }
+
+    private ResponseEntity<Map<String, String>> retryLater(HttpStatus status, String error, String message, long retryAfterSeconds) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", error);
+        errorResponse.put("message", message);
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(errorResponse);
+    }
 }
@@ -0,0 +1,16 @@
+package com.example.afterproject.exception;
+
+import lombok.Getter;
+
+/**
+ * 처리 용량을 넘어 요청을 받을 수 없을 때 (503 Service Unavailable + Retry-After)
+ */
+@Getter
+public class ServiceBusyException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.afterproject.exception;
+
+import lombok.Getter;
+
+/**
+ * 시도 횟수 제한을 넘었을 때 (429 Too Many Requests + Retry-After)
+ */
+@Getter
+public class TooManyAttemptsException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public TooManyAttemptsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
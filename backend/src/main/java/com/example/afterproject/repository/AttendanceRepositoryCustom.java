@@ -0,0 +1,15 @@
+package com.example.afterproject.repository;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+public interface AttendanceRepositoryCustom {
+
+    /**
+     * 한 수업일의 출결을 (enrollment_id, class_date) 기준으로 일괄 저장합니다.
+     * 기존 기록은 상태만 갱신되고, 없는 기록은 새로 추가됩니다.
+     * @param classDate 수업 날짜
+     * @param statusByEnrollmentId 수강 ID별 출결 상태
+     */
+    void upsertAll(LocalDate classDate, Map<Long, String> statusByEnrollmentId);
+}
@@ -0,0 +1,36 @@
+package com.example.afterproject.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AttendanceRepository의 JDBC 배치 구현입니다.
+ * IDENTITY 키 전략에서는 Hibernate가 INSERT를 배치로 묶지 못하므로,
+ * 출석부 전체를 하나의 배치 UPSERT로 전송합니다.
+ */
+@RequiredArgsConstructor
+public class AttendanceRepositoryImpl implements AttendanceRepositoryCustom {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO after_attendance (enrollment_id, class_date, status) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE status = VALUES(status)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsertAll(LocalDate classDate, Map<Long, String> statusByEnrollmentId) {
+        if (statusByEnrollmentId.isEmpty()) {
+            return;
+        }
+        Date sqlDate = Date.valueOf(classDate);
+        List<Object[]> rows = new ArrayList<>(statusByEnrollmentId.size());
+        statusByEnrollmentId.forEach((enrollmentId, status) -> rows.add(new Object[]{enrollmentId, sqlDate, status}));
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+    }
+}
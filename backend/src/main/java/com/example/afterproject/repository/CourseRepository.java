@@ -1,31 +1,76 @@
 package com.example.afterproject.repository;
 
+import com.example.afterproject.dto.CourseSummaryDto;
 import com.example.afterproject.entity.CourseEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CourseRepository extends JpaRepository<CourseEntity, Long> {
+public interface CourseRepository extends JpaRepository<CourseEntity, Long>, CourseRepositoryCustom {
 
     List<CourseEntity> findByTeacher_UserId(Long teacherId);
 
     Optional<CourseEntity> findByCourseIdAndTeacher_UserId(Long courseId, Long teacherId);
 
+    // 담당 교사 확인만 필요한 경우 (강좌 행을 읽지 않음)
+    boolean existsByCourseIdAndTeacher_UserId(Long courseId, Long teacherId);
+
     List<CourseEntity> findByStatus(String status);
 
+    String SUMMARY_SELECT = "SELECT new com.example.afterproject.dto.CourseSummaryDto(" +
+            "c.courseId, c.courseName, c.category, c.description, c.courseDays, c.courseTime, c.location, " +
+            "c.capacity, c.status, c.quarter, c.quarterLabel, c.afterSchoolEndDate, c.ended, c.endedAt, c.createdAt, " +
+            "t.name, c.enrolledCount) FROM CourseEntity c JOIN c.teacher t ";
+
     /**
      * 학생용 강좌 검색 (승인된 강좌만)
      * @param keyword 강좌명 또는 강사명
      * @param category 카테고리
-     * @return 검색된 강좌 목록
+     * @return 검색된 강좌 목록 (교사 이름, 수강 인원 포함)
      */
-    @Query("SELECT c FROM CourseEntity c WHERE c.status = 'APPROVED' AND c.ended = false AND " +
-            "(:keyword IS NULL OR c.courseName LIKE %:keyword% OR c.teacher.name LIKE %:keyword%) AND " +
+    @Query(SUMMARY_SELECT + "WHERE c.status = 'APPROVED' AND c.ended = false AND " +
+            "(:keyword IS NULL OR c.courseName LIKE %:keyword% OR t.name LIKE %:keyword%) AND " +
             "(:category IS NULL OR c.category = :category)")
-    List<CourseEntity> searchApprovedCourses(@Param("keyword") String keyword, @Param("category") String category);
+    List<CourseSummaryDto> searchApprovedCourseSummaries(@Param("keyword") String keyword, @Param("category") String category);
+
+    // 강좌 목록 캐시의 부분 갱신용
+    @Query(SUMMARY_SELECT + "WHERE c.courseId IN :courseIds AND c.status = 'APPROVED' AND c.ended = false")
+    List<CourseSummaryDto> findApprovedCourseSummariesByIdIn(@Param("courseIds") Collection<Long> courseIds);
+
+    // 교사 본인 강좌 목록
+    @Query(SUMMARY_SELECT + "WHERE t.userId = :teacherId")
+    List<CourseSummaryDto> findCourseSummariesByTeacherId(@Param("teacherId") Long teacherId);
+
+    @Query(SUMMARY_SELECT + "WHERE c.status = :status")
+    List<CourseSummaryDto> findCourseSummariesByStatus(@Param("status") String status);
+
+    // 관리자용 전체 강좌 목록
+    @Query(SUMMARY_SELECT)
+    List<CourseSummaryDto> findAllCourseSummaries();
+
+    // 좌석/대기 번호 카운터 갱신은 CourseRepositoryCustom (JDBC) 참고
+
+    @Query("SELECT c.waitlistSequence FROM CourseEntity c WHERE c.courseId = :courseId")
+    long findWaitlistSequence(@Param("courseId") Long courseId);
+
+    // 추첨 배정 대상 강좌를 잠급니다. (배정 중 강제 배정/취소로 카운터가 바뀌지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM CourseEntity c WHERE c.courseId IN :courseIds")
+    List<CourseEntity> findAllByIdForUpdate(@Param("courseIds") Collection<Long> courseIds);
+
+    // 추첨 결과 반영: 좌석/대기 번호 카운터를 증가시키고 이후 신청은 선착순으로 전환
+    @Modifying
+    @Query("UPDATE CourseEntity c SET c.enrolledCount = c.enrolledCount + :seats, " +
+            "c.waitlistSequence = c.waitlistSequence + :waitlisted, c.allocationMode = 'FCFS' " +
+            "WHERE c.courseId = :courseId")
+    int applyAllocation(@Param("courseId") Long courseId, @Param("seats") int seats, @Param("waitlisted") int waitlisted);
 }
@@ -0,0 +1,43 @@
+package com.example.afterproject.repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 강좌 행의 카운터(좌석, 대기 번호)를 갱신하는 JDBC 구현입니다.
+ * JPQL 벌크 UPDATE는 2차 캐시의 강좌 영역 전체를 비우므로, 수강 신청마다 실행되는 카운터 갱신은
+ * JDBC로 처리하고 해당 강좌 한 건만 2차 캐시에서 잠급니다. (잠금은 트랜잭션이 끝날 때 풀림)
+ */
+public interface CourseRepositoryCustom {
+
+    /**
+     * 정원이 남아 있을 때만 좌석 카운터를 1 증가시킵니다.
+     * @return 증가된 행 수 (0이면 정원 초과 또는 존재하지 않는 강좌)
+     */
+    int tryReserveSeat(Long courseId);
+
+    /**
+     * 남은 정원이 seats 이상일 때만 좌석 카운터를 seats만큼 증가시킵니다. (전부 또는 0)
+     * @return 증가된 행 수
+     */
+    int tryReserveSeats(Long courseId, int seats);
+
+    // 관리자 강제 배정용: 정원과 관계없이 좌석 카운터를 1 증가
+    int forceReserveSeat(Long courseId);
+
+    int releaseSeat(Long courseId);
+
+    // 일괄 배정/취소용: 여러 좌석을 한 번에 반영
+    int forceReserveSeats(Long courseId, int seats);
+
+    int releaseSeats(Long courseId, int seats);
+
+    // 대기 번호 발급: 강좌 행을 잠근 채 증가시키며, 같은 트랜잭션에서 findWaitlistSequence로 발급값을 읽습니다.
+    int incrementWaitlistSequence(Long courseId);
+
+    /**
+     * 강좌별 현재 수강 인원(좌석 카운터)을 반환합니다.
+     * 2차 캐시에 있는 강좌는 캐시에서 읽고, 없는(카운터 갱신으로 잠긴) 강좌만 한 번의 쿼리로 읽습니다.
+     */
+    Map<Long, Long> findEnrolledCounts(Collection<Long> courseIds);
+}
@@ -0,0 +1,132 @@
+package com.example.afterproject.repository;
+
+import com.example.afterproject.entity.CourseEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+/**
+ * CourseRepository의 카운터 갱신 JDBC 구현입니다.
+ * JDBC 갱신은 Hibernate의 READ_WRITE 캐시 동기화를 거치지 않으므로, 갱신 전에 해당 강좌의 2차 캐시 항목을
+ * Hibernate와 같은 방식으로 잠그고(soft lock) 트랜잭션이 끝날 때 풉니다.
+ * 잠긴 동안의 조회는 DB에서 읽고, 잠금이 풀리기 전에 시작한 세션은 (커밋 전 값을 읽었을 수 있으므로) 캐시에 넣지 못합니다.
+ * 커밋 후에 단순히 제거하면, 커밋 전 값을 읽은 다른 세션이 제거 직후 그 값을 캐시에 다시 넣을 수 있습니다.
+ */
+@RequiredArgsConstructor
+public class CourseRepositoryImpl implements CourseRepositoryCustom {
+
+    private static final String TRY_RESERVE_SQL =
+            "UPDATE after_courses SET enrolled_count = enrolled_count + 1 WHERE course_id = ? AND enrolled_count < capacity";
+    private static final String TRY_RESERVE_MANY_SQL =
+            "UPDATE after_courses SET enrolled_count = enrolled_count + ? WHERE course_id = ? AND enrolled_count + ? <= capacity";
+    private static final String FORCE_RESERVE_SQL =
+            "UPDATE after_courses SET enrolled_count = enrolled_count + ? WHERE course_id = ?";
+    private static final String RELEASE_ONE_SQL =
+            "UPDATE after_courses SET enrolled_count = enrolled_count - 1 WHERE course_id = ? AND enrolled_count > 0";
+    private static final String RELEASE_SQL =
+            "UPDATE after_courses SET enrolled_count = " +
+            "CASE WHEN enrolled_count > ? THEN enrolled_count - ? ELSE 0 END WHERE course_id = ?";
+    private static final String INCREMENT_WAITLIST_SQL =
+            "UPDATE after_courses SET waitlist_sequence = waitlist_sequence + 1 WHERE course_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public int tryReserveSeat(Long courseId) {
+        return updateCounter(courseId, () -> jdbcTemplate.update(TRY_RESERVE_SQL, courseId));
+    }
+
+    @Override
+    public int tryReserveSeats(Long courseId, int seats) {
+        return updateCounter(courseId, () -> jdbcTemplate.update(TRY_RESERVE_MANY_SQL, seats, courseId, seats));
+    }
+
+    @Override
+    public int forceReserveSeat(Long courseId) {
+        return forceReserveSeats(courseId, 1);
+    }
+
+    @Override
+    public int releaseSeat(Long courseId) {
+        return updateCounter(courseId, () -> jdbcTemplate.update(RELEASE_ONE_SQL, courseId));
+    }
+
+    @Override
+    public int forceReserveSeats(Long courseId, int seats) {
+        return updateCounter(courseId, () -> jdbcTemplate.update(FORCE_RESERVE_SQL, seats, courseId));
+    }
+
+    @Override
+    public int releaseSeats(Long courseId, int seats) {
+        return updateCounter(courseId, () -> jdbcTemplate.update(RELEASE_SQL, seats, seats, courseId));
+    }
+
+    @Override
+    public int incrementWaitlistSequence(Long courseId) {
+        return updateCounter(courseId, () -> jdbcTemplate.update(INCREMENT_WAITLIST_SQL, courseId));
+    }
+
+    @Override
+    public Map<Long, Long> findEnrolledCounts(Collection<Long> courseIds) {
+        EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+        if (entityManager != null) {
+            return findEnrolledCounts(entityManager, courseIds);
+        }
+        EntityManager temporary = entityManagerFactory.createEntityManager();
+        try {
+            return findEnrolledCounts(temporary, courseIds);
+        } finally {
+            temporary.close();
+        }
+    }
+
+    private Map<Long, Long> findEnrolledCounts(EntityManager entityManager, Collection<Long> courseIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (courseIds.isEmpty()) {
+            return counts;
+        }
+        entityManager.unwrap(SessionImplementor.class).byMultipleIds(CourseEntity.class)
+                .with(CacheMode.NORMAL)
+                .enableSessionCheck(true)
+                .multiLoad(new ArrayList<>(courseIds))
+                .forEach(course -> {
+                    if (course != null) {
+                        counts.put(course.getCourseId(), (long) course.getEnrolledCount());
+                    }
+                });
+        return counts;
+    }
+
+    private int updateCounter(Long courseId, IntSupplier update) {
+        EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+        if (entityManager == null) {
+            // 트랜잭션 밖(자동 커밋): 갱신이 이미 반영되었으므로 바로 제거
+            int updated = update.getAsInt();
+            entityManagerFactory.getCache().evict(CourseEntity.class, courseId);
+            return updated;
+        }
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(CourseEntity.class);
+        EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+        if (cacheAccess != null) {
+            Object key = cacheAccess.generateCacheKey(courseId, persister, session.getFactory(), session.getTenantIdentifier());
+            SoftLock lock = cacheAccess.lockItem(session, key, null);
+            session.getActionQueue().registerProcess((success, completedSession) -> cacheAccess.unlockItem(completedSession, key, lock));
+        }
+        return update.getAsInt();
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.afterproject.repository;
+
+import com.example.afterproject.entity.EnrollmentPreferenceEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EnrollmentPreferenceRepository extends JpaRepository<EnrollmentPreferenceEntity, Long> {
+
+    // 추첨 배정용: 엔티티 대신 필요한 ID만 조회
+    interface PreferenceView {
+        Long getPreferenceId();
+        Long getStudentId();
+        Long getCourseId();
+    }
+
+    boolean existsByStudent_UserIdAndCourse_CourseId(Long studentId, Long courseId);
+
+    boolean existsByCourse_CourseId(Long courseId);
+
+    @Modifying
+    @Query("DELETE FROM EnrollmentPreferenceEntity p WHERE p.student.userId = :studentId AND p.course.courseId = :courseId")
+    int deleteByStudentIdAndCourseId(@Param("studentId") Long studentId, @Param("courseId") Long courseId);
+
+    // 신청 마감 시각이 지난 추첨 강좌의 희망 기록만 조회 (신청 중인 강좌는 배정하지 않음)
+    @Query("SELECT p.preferenceId AS preferenceId, p.student.userId AS studentId, p.course.courseId AS courseId " +
+            "FROM EnrollmentPreferenceEntity p JOIN p.course c " +
+            "WHERE c.allocationMode = 'LOTTERY' AND c.lotteryClosesAt <= :now")
+    List<PreferenceView> findClosedLotteryViews(@Param("now") Instant now);
+
+    // 배정에 사용한 기록만 삭제 (배정 중에 들어온 기록은 다음 배정 때 처리)
+    @Modifying
+    @Query("DELETE FROM EnrollmentPreferenceEntity p WHERE p.course.courseId IN :courseIds AND p.preferenceId <= :maxPreferenceId")
+    int deleteAllocated(@Param("courseIds") Collection<Long> courseIds, @Param("maxPreferenceId") Long maxPreferenceId);
+}
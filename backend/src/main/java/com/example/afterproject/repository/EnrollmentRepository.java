@@ -2,17 +2,43 @@
 
 package com.example.afterproject.repository;
 
+import com.example.afterproject.dto.AttendanceDto;
+import com.example.afterproject.dto.EnrolledStudentDto;
+import com.example.afterproject.dto.student.StudentDto.MyCoursesResponseDto.MyCourseDto;
 import com.example.afterproject.entity.EnrollmentEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface EnrollmentRepository extends JpaRepository<EnrollmentEntity, Long> {
+public interface EnrollmentRepository extends JpaRepository<EnrollmentEntity, Long>, EnrollmentRepositoryCustom {
+
+    interface StudentAttendanceView {
+        Long getStudentId();
+        Double getAttendanceRate();
+    }
+
+    interface CourseStudentView {
+        Long getCourseId();
+        Long getStudentId();
+    }
+
+    interface EnrollmentKeyView {
+        Long getEnrollmentId();
+        Long getCourseId();
+        Long getStudentId();
+        String getStatus();
+    }
 
     List<EnrollmentEntity> findByCourse_CourseId(Long courseId);
 
@@ -25,7 +51,75 @@ public interface EnrollmentRepository extends JpaRepository<EnrollmentEntity, Lo
 
     List<EnrollmentEntity> findByStudent_UserId(Long studentId);
 
+    // 나의 학습 관리용: 강좌명/담당 교사명/출결 카운터와 대기 순번(대기 중일 때만)을 한 번에 조회
+    @Query("SELECT new com.example.afterproject.dto.student.StudentDto$MyCoursesResponseDto$MyCourseDto(" +
+            "c.courseId, c.courseName, t.name, e.status, e.presentCount, e.absentCount, e.lateCount, " +
+            "CASE WHEN e.status = 'WAITLISTED' THEN (SELECT COUNT(w) FROM EnrollmentEntity w " +
+            "WHERE w.course = e.course AND w.status = 'WAITLISTED' AND w.waitlistPosition <= e.waitlistPosition) END) " +
+            "FROM EnrollmentEntity e JOIN e.course c JOIN c.teacher t WHERE e.student.userId = :studentId")
+    List<MyCourseDto> findMyCourses(@Param("studentId") Long studentId);
+
+    // 교사용 수강생 명단
+    @Query("SELECT new com.example.afterproject.dto.EnrolledStudentDto(s.studentIdNo, s.name) " +
+            "FROM EnrollmentEntity e JOIN e.student s WHERE e.course.courseId = :courseId AND e.status = 'ACTIVE'")
+    List<EnrolledStudentDto> findActiveStudentsByCourseId(@Param("courseId") Long courseId);
+
+    // 교사용 출석부: 출결 기록이 없는 수강생은 기본값(PRESENT)으로 채워 한 번에 조회
+    @Query("SELECT new com.example.afterproject.dto.AttendanceDto(a.attendanceId, COALESCE(a.classDate, :classDate), COALESCE(a.status, 'PRESENT'), " +
+            "e.enrollmentId, s.userId, s.name) " +
+            "FROM EnrollmentEntity e JOIN e.student s " +
+            "LEFT JOIN AttendanceEntity a ON a.enrollment = e AND a.classDate = :classDate " +
+            "WHERE e.course.courseId = :courseId AND e.status = 'ACTIVE'")
+    List<AttendanceDto> findAttendanceSheet(@Param("courseId") Long courseId, @Param("classDate") LocalDate classDate);
+
     List<EnrollmentEntity> findByCourse_CourseIdAndStatus(Long courseId, String status);
 
+    // 대기열의 맨 앞 신청 (승격 대상). 동시에 같은 신청을 승격하지 않도록 행을 잠급니다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<EnrollmentEntity> findFirstByCourse_CourseIdAndStatusOrderByWaitlistPositionAsc(Long courseId, String status);
+
+    // 대기열 앞에서부터 limit건 (일괄 승격용, 행 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<EnrollmentEntity> findByCourse_CourseIdAndStatusOrderByWaitlistPositionAsc(Long courseId, String status, Limit limit);
+
+    // 대기 순번 = 같은 강좌에서 내 번호 이하로 대기 중인 신청 수 (course_id, status, waitlist_position 인덱스 범위 조회)
+    long countByCourse_CourseIdAndStatusAndWaitlistPositionLessThanEqual(Long courseId, String status, Long waitlistPosition);
+
+    // 추첨 배정용: 희망 기록이 있는 학생들의 전체 출석률 (StudentService.getStanding과 같은 계산, 대기 신청 제외)
+    @Query("SELECT e.student.userId AS studentId, AVG(CASE WHEN (e.presentCount + e.absentCount + e.lateCount) = 0 THEN 0.0 " +
+            "ELSE (e.presentCount + e.lateCount) * 100.0 / (e.presentCount + e.absentCount + e.lateCount) END) AS attendanceRate " +
+            "FROM EnrollmentEntity e WHERE e.status <> 'WAITLISTED' " +
+            "AND e.student.userId IN (SELECT p.student.userId FROM EnrollmentPreferenceEntity p) " +
+            "GROUP BY e.student.userId")
+    List<StudentAttendanceView> findAttendanceRatesOfPreferringStudents();
+
+    @Query("SELECT e.course.courseId AS courseId, e.student.userId AS studentId FROM EnrollmentEntity e " +
+            "WHERE e.course.courseId IN :courseIds")
+    List<CourseStudentView> findStudentIdsByCourseIdIn(@Param("courseIds") Collection<Long> courseIds);
+
+    // 일괄 배정 시 기존 수강 정보를 한 번에 확인
+    @Query("SELECT e.enrollmentId AS enrollmentId, e.course.courseId AS courseId, e.student.userId AS studentId, " +
+            "e.status AS status FROM EnrollmentEntity e " +
+            "WHERE e.course.courseId IN :courseIds AND e.student.userId IN :studentIds")
+    List<EnrollmentKeyView> findKeysByCourseIdInAndStudentIdIn(@Param("courseIds") Collection<Long> courseIds,
+                                                               @Param("studentIds") Collection<Long> studentIds);
+
+    List<EnrollmentEntity> findByCourse_CourseIdAndStudent_UserIdIn(Long courseId, Collection<Long> studentIds);
+
+    // 대기 중인 수강 신청 일괄 확정 (EnrollmentEntity.activate와 같은 변경)
+    @Modifying
+    @Query("UPDATE EnrollmentEntity e SET e.status = 'ACTIVE', e.waitlistPosition = null " +
+            "WHERE e.enrollmentId IN :enrollmentIds AND e.status = 'WAITLISTED'")
+    int activateAll(@Param("enrollmentIds") Collection<Long> enrollmentIds);
+
+    // 출석부 저장 시 소유권 확인 + 행 잠금: 해당 강좌에 속한 수강 정보만 반환
+    // 같은 수업일을 동시에(또는 재시도로) 저장해도 이전 상태를 잠금 이후에 읽으므로 출결 카운터가 중복 반영되지 않습니다.
+    // ID 순으로 잠가 여러 출석부가 겹쳐도 교착 상태가 생기지 않게 합니다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM EnrollmentEntity e WHERE e.enrollmentId IN :enrollmentIds AND e.course.courseId = :courseId " +
+            "ORDER BY e.enrollmentId")
+    List<EnrollmentEntity> findAllForAttendanceUpdate(@Param("enrollmentIds") Collection<Long> enrollmentIds,
+                                                      @Param("courseId") Long courseId);
+
     // List<Long> findActiveCourseIdsByStudentId(Long studentId); // ❌ 이 라인을 삭제하세요.
 }
\ No newline at end of file
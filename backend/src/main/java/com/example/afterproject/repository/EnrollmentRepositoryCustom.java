@@ -0,0 +1,15 @@
+package com.example.afterproject.repository;
+
+import java.util.List;
+
+public interface EnrollmentRepositoryCustom {
+
+    /**
+     * 한 강좌의 배정 결과를 한 번의 배치 INSERT로 저장합니다.
+     * @param courseId 강좌 ID
+     * @param activeStudentIds 수강 확정(ACTIVE) 학생
+     * @param waitlistedStudentIds 대기(WAITLISTED) 학생, 목록 순서대로 firstWaitlistPosition부터 대기 번호 부여
+     * @param firstWaitlistPosition 첫 대기자의 대기 번호
+     */
+    void insertAllocation(Long courseId, List<Long> activeStudentIds, List<Long> waitlistedStudentIds, long firstWaitlistPosition);
+}
@@ -0,0 +1,39 @@
+package com.example.afterproject.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * EnrollmentRepository의 JDBC 배치 구현입니다.
+ * IDENTITY 키 전략에서는 Hibernate가 INSERT를 배치로 묶지 못하므로 추첨 결과는 JDBC 배치로 저장합니다.
+ */
+@RequiredArgsConstructor
+public class EnrollmentRepositoryImpl implements EnrollmentRepositoryCustom {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO after_enrollments (student_id, course_id, status, waitlist_position, enrolled_at, " +
+            "present_count, absent_count, late_count) VALUES (?, ?, ?, ?, ?, 0, 0, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAllocation(Long courseId, List<Long> activeStudentIds, List<Long> waitlistedStudentIds, long firstWaitlistPosition) {
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(activeStudentIds.size() + waitlistedStudentIds.size());
+        for (Long studentId : activeStudentIds) {
+            rows.add(new Object[]{studentId, courseId, "ACTIVE", null, now});
+        }
+        long position = firstWaitlistPosition;
+        for (Long studentId : waitlistedStudentIds) {
+            rows.add(new Object[]{studentId, courseId, "WAITLISTED", position++, now});
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        }
+    }
+}
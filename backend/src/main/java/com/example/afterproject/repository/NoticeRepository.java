@@ -1,7 +1,10 @@
 package com.example.afterproject.repository;
 
+import com.example.afterproject.dto.NoticeDto;
 import com.example.afterproject.entity.NoticeEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,6 +18,13 @@ public interface NoticeRepository extends JpaRepository<NoticeEntity, Long> {
      */
     List<NoticeEntity> findByCourse_CourseId(Long courseId);
 
+    /**
+     * 특정 강좌의 공지사항을 작성자 이름과 함께 한 번에 조회합니다. (목록 응답용)
+     */
+    @Query("SELECT new com.example.afterproject.dto.NoticeDto(n.noticeId, n.title, n.content, a.name, n.createdAt) " +
+            "FROM NoticeEntity n JOIN n.author a WHERE n.course.courseId = :courseId")
+    List<NoticeDto> findNoticeDtosByCourseId(@Param("courseId") Long courseId);
+
     /**
      * 특정 강좌에 속한 특정 공지사항을 조회합니다. (수정/삭제 시 권한 확인용)
      */
@@ -1,9 +1,13 @@
 package com.example.afterproject.repository;
 
+import com.example.afterproject.dto.student.SurveyListDto;
 import com.example.afterproject.entity.SurveyEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
@@ -13,6 +17,18 @@ public interface SurveyRepository extends JpaRepository<SurveyEntity, Long> {
 
     List<SurveyEntity> findByCourse_CourseIdIn(List<Long> courseIds);
 
+    // 학생이 참여할 수 있는 진행 중 설문 (수강 중인 강좌 설문 + 전체 설문), 강좌명까지 한 번에 조회
+    // 두 조건을 OR로 묶으면 설문 테이블 전체를 읽으므로, 수강 정보에서 출발하는 조회와 전체 설문 조회를 UNION ALL로 합칩니다.
+    @Query("SELECT new com.example.afterproject.dto.student.SurveyListDto(s.surveyId, s.title, s.startDate, s.endDate, " +
+            "false, c.courseId, c.courseName) FROM EnrollmentEntity e JOIN e.course c JOIN SurveyEntity s ON s.course = c " +
+            "WHERE e.student.userId = :studentId AND e.status = 'ACTIVE' " +
+            "AND (s.startDate IS NULL OR s.startDate <= :today) AND (s.endDate IS NULL OR s.endDate >= :today) " +
+            "UNION ALL " +
+            "SELECT new com.example.afterproject.dto.student.SurveyListDto(s.surveyId, s.title, s.startDate, s.endDate, " +
+            "false, CAST(NULL AS Long), CAST(NULL AS String)) FROM SurveyEntity s WHERE s.course IS NULL " +
+            "AND (s.startDate IS NULL OR s.startDate <= :today) AND (s.endDate IS NULL OR s.endDate >= :today)")
+    List<SurveyListDto> findActiveSurveysForStudent(@Param("studentId") Long studentId, @Param("today") LocalDate today);
+
     // [추가] 전체 설문 목록 조회 (관리자용, course가 null인 경우)
     List<SurveyEntity> findByCourseIsNull();
 }
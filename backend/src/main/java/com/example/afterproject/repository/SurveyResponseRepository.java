@@ -2,9 +2,22 @@ package com.example.afterproject.repository;
 
 import com.example.afterproject.entity.SurveyResponseEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Set;
+
 @Repository
 public interface SurveyResponseRepository extends JpaRepository<SurveyResponseEntity, Long> {
         boolean existsByQuestion_Survey_SurveyIdAndRespondent_UserId(Long surveyId, Long userId);
+
+        /**
+         * 주어진 설문 중 학생이 이미 응답한 설문 ID 목록을 한 번에 조회합니다.
+         * (respondent_id, question_id) 인덱스로 학생의 응답 행만 읽습니다.
+         */
+        @Query("SELECT DISTINCT q.survey.surveyId FROM SurveyResponseEntity r JOIN r.question q " +
+                "WHERE r.respondent.userId = :userId AND q.survey.surveyId IN :surveyIds")
+        Set<Long> findAnsweredSurveyIds(@Param("userId") Long userId, @Param("surveyIds") Collection<Long> surveyIds);
 }
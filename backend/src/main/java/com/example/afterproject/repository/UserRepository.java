@@ -1,17 +1,52 @@
 package com.example.afterproject.repository;
 
+import com.example.afterproject.dto.admin.UserResponseDto;
 import com.example.afterproject.entity.UserEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
-public interface UserRepository extends JpaRepository<UserEntity, Long> {
-    List<UserEntity> findByRole(String role);
-    List<UserEntity> findByNameContaining(String name);
-    List<UserEntity> findByRoleAndNameContaining(String role, String name);
+public interface UserRepository extends JpaRepository<UserEntity, Long>, UserRepositoryCustom {
+
+    interface UserRoleView {
+        Long getUserId();
+        String getRole();
+    }
+
+    // 일괄 등록 시 중복 확인을 한 번에 조회
+    @Query("SELECT u.email FROM UserEntity u WHERE u.email IN :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT u.studentIdNo FROM UserEntity u WHERE u.studentIdNo IN :studentIdNos")
+    Set<String> findExistingStudentIdNos(@Param("studentIdNos") Collection<String> studentIdNos);
+
+    // 일괄 배정 시 학생 ID/역할 검증을 한 번에 조회
+    @Query("SELECT u.userId AS userId, u.role AS role FROM UserEntity u WHERE u.userId IN :userIds")
+    List<UserRoleView> findRolesByUserIdIn(@Param("userIds") Collection<Long> userIds);
 
     Optional<UserEntity> findByEmail(String email);
-}
\ No newline at end of file
+
+    // 토큰 무효화 확인용: 엔티티(2차 캐시) 대신 현재 토큰 버전만 조회
+    @Query("SELECT u.tokenVersion FROM UserEntity u WHERE u.userId = :userId")
+    Optional<Integer> findTokenVersion(@Param("userId") Long userId);
+
+    String USER_DTO_SELECT = "SELECT new com.example.afterproject.dto.admin.UserResponseDto(" +
+            "u.userId, u.email, u.name, u.role, u.studentIdNo) FROM UserEntity u ";
+    String USER_FILTER = "(:role IS NULL OR u.role = :role) AND (:name IS NULL OR u.name LIKE %:name%) ";
+
+    /**
+     * 관리자용 사용자 목록 (userId 기준 커서 페이지네이션)
+     * @param cursor 이전 페이지의 마지막 userId (첫 페이지는 0)
+     */
+    @Query(USER_DTO_SELECT + "WHERE u.userId > :cursor AND " + USER_FILTER + "ORDER BY u.userId")
+    List<UserResponseDto> findPageAfter(@Param("cursor") Long cursor, @Param("role") String role,
+                                        @Param("name") String name, Limit limit);
+}
@@ -0,0 +1,24 @@
+package com.example.afterproject.repository;
+
+import com.example.afterproject.dto.admin.UserResponseDto;
+import com.example.afterproject.entity.UserEntity;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface UserRepositoryCustom {
+
+    /**
+     * 사용자 목록을 한 번의 배치 INSERT로 저장합니다. (비밀번호는 이미 암호화된 값이어야 함)
+     * @param users 저장할 사용자 (userId는 무시됨)
+     */
+    void insertAll(List<UserEntity> users);
+
+    /**
+     * 전체 내보내기용 스트림. 행을 한 번에 메모리로 읽지 않고 흘려 받으므로 사용자 수와 관계없이 메모리 사용량이 일정합니다.
+     * 트랜잭션 안에서 사용하고 반드시 닫아야 합니다. (닫기 전에는 같은 커넥션으로 다른 쿼리를 실행할 수 없음)
+     * @param role 역할 (null이면 전체)
+     * @param name 이름 일부 (null이면 전체)
+     */
+    Stream<UserResponseDto> streamAll(String role, String name);
+}
@@ -0,0 +1,71 @@
+package com.example.afterproject.repository;
+
+import com.example.afterproject.dto.admin.UserResponseDto;
+import com.example.afterproject.entity.UserEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * UserRepository의 JDBC 구현입니다.
+ * - IDENTITY 키 전략에서는 Hibernate가 INSERT를 배치로 묶지 못하므로 일괄 등록은 JDBC 배치로 저장합니다.
+ * - 전체 내보내기는 fetch size를 지정한 전용 JdbcTemplate으로 스트리밍합니다.
+ *   fetch size는 이 쿼리에만 적용되므로 다른 쿼리는 기존처럼 결과를 한 번에 받습니다.
+ *   (MySQL Connector/J는 Integer.MIN_VALUE일 때 행을 하나씩 흘려 보냅니다.)
+ */
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO after_users (email, password, name, role, student_id_no) VALUES (?, ?, ?, ?, ?)";
+    private static final String STREAM_SQL =
+            "SELECT user_id, email, name, role, student_id_no FROM after_users";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public UserRepositoryImpl(JdbcTemplate jdbcTemplate,
+                              @Value("${admin.user-export.fetch-size:-2147483648}") int exportFetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.streamingJdbcTemplate.setFetchSize(exportFetchSize);
+    }
+
+    @Override
+    public void insertAll(List<UserEntity> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, users, users.size(), (ps, user) -> {
+            ps.setString(1, user.getEmail());
+            ps.setString(2, user.getPassword());
+            ps.setString(3, user.getName());
+            ps.setString(4, user.getRole());
+            ps.setString(5, user.getStudentIdNo());
+        });
+    }
+
+    @Override
+    public Stream<UserResponseDto> streamAll(String role, String name) {
+        StringBuilder sql = new StringBuilder(STREAM_SQL);
+        List<Object> args = new ArrayList<>();
+        List<String> conditions = new ArrayList<>();
+        if (role != null) {
+            conditions.add("role = ?");
+            args.add(role);
+        }
+        if (name != null) {
+            conditions.add("name LIKE ?");
+            args.add("%" + name + "%");
+        }
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        sql.append(" ORDER BY user_id");
+        return streamingJdbcTemplate.queryForStream(sql.toString(), (rs, rowNum) -> new UserResponseDto(
+                rs.getLong("user_id"), rs.getString("email"), rs.getString("name"),
+                rs.getString("role"), rs.getString("student_id_no")), args.toArray());
+    }
+}
@@ -12,19 +12,32 @@ import java.util.Collections;
 @Getter
 public class CustomUserDetails implements UserDetails {
 
-    private final UserEntity userEntity;
+    private final Long userId;
+    private final String email;
+    private final String role;
+    private final String password;
 
     public CustomUserDetails(UserEntity userEntity) {
-        this.userEntity = userEntity;
+        this(userEntity.getUserId(), userEntity.getEmail(), userEntity.getRole(), userEntity.getPassword());
     }
 
-    public Long getUserId() {
-        return userEntity.getUserId();
+    /**
+     * 검증된 JWT 클레임으로 생성하는 인증 주체 (DB 조회 없음, 비밀번호 없음)
+     */
+    public CustomUserDetails(Long userId, String email, String role) {
+        this(userId, email, role, null);
+    }
+
+    private CustomUserDetails(Long userId, String email, String role, String password) {
+        this.userId = userId;
+        this.email = email;
+        this.role = role;
+        this.password = password;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        String role = userEntity.getRole();
+        String role = this.role;
         if (role != null && role.startsWith("ROLE_")) {
             role = role.substring(5);
         }
@@ -32,10 +45,10 @@ public class CustomUserDetails implements UserDetails {
     }
 
     @Override
-    public String getPassword() { return userEntity.getPassword(); }
+    public String getPassword() { return password; }
 
     @Override
-    public String getUsername() { return userEntity.getEmail(); }
+    public String getUsername() { return email; }
 
     @Override
     public boolean isAccountNonExpired() { return true; }
@@ -0,0 +1,222 @@
+package com.example.afterproject.security;
+
+import com.example.afterproject.security.IdempotencyStore.Claim;
+import com.example.afterproject.security.IdempotencyStore.StoredResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key 헤더가 있는 변경 요청(POST/PUT/DELETE)을 한 번만 실행합니다.
+ * 재전송된 요청은 DB 작업 없이 저장된 응답을 그대로 돌려받고(Idempotent-Replayed: true),
+ * 동시에 도착한 중복 요청은 첫 요청의 실행 결과를 함께 받습니다.
+ * 키는 사용자/메서드/경로별로 구분되므로 다른 사용자나 다른 요청과 충돌하지 않습니다.
+ * 같은 키를 다른 본문으로 다시 보내면 실행하지 않고 422로 거절합니다.
+ * 저장소가 실행 중인 요청으로 가득 차면 중복 실행을 막을 수 없으므로 503으로 거절합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 128;
+    private static final long WAIT_SECONDS = 30;
+    private static final long STORE_FULL_RETRY_AFTER_SECONDS = 1;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String key = request.getHeader(HEADER);
+        return key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH
+                || HttpMethod.GET.matches(request.getMethod())
+                || HttpMethod.OPTIONS.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails userDetails)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String key = userDetails.getUserId() + ":" + request.getMethod() + ":" + request.getRequestURI() + ":" + request.getHeader(HEADER);
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        byte[] requestHash = sha256(cachedRequest.body);
+
+        while (true) {
+            Claim claim = idempotencyStore.begin(key, requestHash);
+            if (claim == null) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(STORE_FULL_RETRY_AFTER_SECONDS));
+                writeError(response, HttpStatus.SERVICE_UNAVAILABLE, "요청이 많습니다. 잠시 후 다시 시도해주세요.");
+                return;
+            }
+            if (!claim.entry().matches(requestHash)) {
+                writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key가 다른 요청 본문에 이미 사용되었습니다.");
+                return;
+            }
+            if (claim.owner()) {
+                execute(key, claim, cachedRequest, response, filterChain);
+                return;
+            }
+            StoredResponse stored = await(claim);
+            if (stored != null) {
+                replay(stored, response);
+                return;
+            }
+            // 첫 요청이 저장하지 않을 결과로 끝났으면 다시 선점을 시도합니다.
+        }
+    }
+
+    private void execute(String key, Claim claim, HttpServletRequest request, HttpServletResponse response,
+                         FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, wrapper);
+            int status = wrapper.getStatus();
+            if (status < 500 && status != HttpStatus.TOO_MANY_REQUESTS.value()) {
+                idempotencyStore.complete(claim.entry(),
+                        new StoredResponse(status, wrapper.getContentType(), wrapper.getContentAsByteArray()));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                idempotencyStore.abandon(key, claim.entry());
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private StoredResponse await(Claim claim) throws ServletException {
+        try {
+            return claim.entry().getResponse().get(WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServletException(e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new ServletException("Idempotent request did not complete in time", e);
+        }
+    }
+
+    private void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+        log.debug("Replaying stored response for idempotent request");
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        Map<String, String> body = new LinkedHashMap<>();
+        body.put("error", status.getReasonPhrase());
+        body.put("message", message);
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), body);
+    }
+
+    private static byte[] sha256(byte[] body) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(body);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 본문 해시를 먼저 계산해야 하므로 요청 본문을 미리 읽어 두고, 컨트롤러에는 읽어 둔 바이트를 다시 제공합니다.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.afterproject.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Idempotency-Key 헤더로 식별되는 요청의 응답을 일정 시간 보관하는 인메모리 저장소입니다.
+ * 같은 키의 요청이 동시에 들어오면 먼저 온 요청만 실행되고, 나머지는 그 결과(CompletableFuture)를 기다립니다.
+ * 최대 idempotency.max-entries 건까지 보관하며, 가득 차면 만료된 항목과 가장 오래된 완료 항목부터 내보냅니다.
+ * 실행 중인 항목만으로 가득 찬 경우에만 새 키를 받지 않습니다. (필터가 503으로 응답)
+ */
+@Component
+public class IdempotencyStore {
+
+    /** 가득 찼을 때 한 번에 비워 두는 비율 (요청마다 정렬하지 않도록 여유를 남깁니다) */
+    private static final double EVICT_TO_RATIO = 0.9;
+
+    /** 저장된 응답 */
+    public record StoredResponse(int status, String contentType, byte[] body) {
+    }
+
+    /** 같은 키의 첫 요청(owner)이 실행 중이거나 실행을 마친 항목 */
+    public static final class Entry {
+        private final CompletableFuture<StoredResponse> response = new CompletableFuture<>();
+        private final byte[] requestHash;
+        private final long expiresAt;
+
+        private Entry(byte[] requestHash, long expiresAt) {
+            this.requestHash = requestHash;
+            this.expiresAt = expiresAt;
+        }
+
+        public CompletableFuture<StoredResponse> getResponse() {
+            return response;
+        }
+
+        /** 첫 요청과 같은 본문으로 재전송된 요청인지 확인합니다. */
+        public boolean matches(byte[] otherRequestHash) {
+            return MessageDigest.isEqual(requestHash, otherRequestHash);
+        }
+    }
+
+    /** begin() 결과: owner면 직접 실행하고 complete/abandon을 호출해야 합니다. */
+    public record Claim(Entry entry, boolean owner) {
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final long ttlMillis;
+
+    public IdempotencyStore(@Value("${idempotency.max-entries:10000}") int maxEntries,
+                            @Value("${idempotency.ttl-seconds:600}") long ttlSeconds) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * 키를 선점하거나 이미 있는 항목을 반환합니다.
+     * 이미 있는 항목이 다른 본문의 요청이면 호출한 쪽에서 {@link Entry#matches(byte[])}로 확인해 거절합니다.
+     * @param requestHash 요청 본문의 해시
+     * @return 실행 중인 항목만으로 저장소가 가득 차 선점할 수 없으면 null
+     */
+    public Claim begin(String key, byte[] requestHash) {
+        long now = System.currentTimeMillis();
+        Entry existing = entries.get(key);
+        if (existing != null && existing.expiresAt > now) {
+            return new Claim(existing, false);
+        }
+        if (entries.size() >= maxEntries && !makeRoom()) {
+            return null;
+        }
+        Entry created = new Entry(requestHash, now + ttlMillis);
+        Entry winner = entries.compute(key, (k, current) ->
+                current != null && current.expiresAt > now ? current : created);
+        return new Claim(winner, winner == created);
+    }
+
+    public void complete(Entry entry, StoredResponse response) {
+        entry.response.complete(response);
+    }
+
+    /**
+     * 저장하지 않을 결과(5xx, 대기실 429 등)로 끝난 경우 항목을 지워 재시도가 다시 실행되도록 합니다.
+     * 기다리던 중복 요청도 직접 다시 실행합니다.
+     */
+    public void abandon(String key, Entry entry) {
+        entries.remove(key, entry);
+        entry.response.complete(null);
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-millis:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAt <= now && entry.response.isDone());
+    }
+
+    /**
+     * 만료된 항목을 지우고, 그래도 가득 차 있으면 완료된 항목을 오래된 순으로 내보냅니다.
+     * 내보낸 키로 늦게 재전송된 요청은 새 요청으로 다시 실행됩니다.
+     * 실행 중인 항목은 기다리는 요청이 있을 수 있으므로 내보내지 않습니다.
+     * @return 새 항목을 넣을 자리가 생겼으면 true
+     */
+    private synchronized boolean makeRoom() {
+        purgeExpired();
+        int target = (int) (maxEntries * EVICT_TO_RATIO);
+        int excess = entries.size() - target;
+        if (excess > 0) {
+            entries.entrySet().stream()
+                    .filter(e -> e.getValue().response.isDone())
+                    .sorted(Comparator.comparingLong(e -> e.getValue().expiresAt))
+                    .limit(excess)
+                    .toList()
+                    .forEach(e -> entries.remove(e.getKey(), e.getValue()));
+        }
+        return entries.size() < maxEntries;
+    }
+
+    int size() {
+        return entries.size();
+    }
+}
@@ -5,12 +5,14 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
+@Slf4j
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
@@ -19,13 +21,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String token = jwtTokenProvider.resolveToken(request);
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            Authentication auth = jwtTokenProvider.getAuthentication(token);
+        Authentication auth = token != null ? jwtTokenProvider.authenticate(token) : null;
+        if (auth != null) {
             SecurityContextHolder.getContext().setAuthentication(auth);
-            // Debugging Log
-            System.out.println("DEBUG JWT: Authenticated User: " + auth.getName() + ", Roles: " + auth.getAuthorities());
-        } else {
-            System.out.println("DEBUG JWT: Token is null or invalid: " + token);
+            log.debug("Authenticated User: {}, Roles: {}", auth.getName(), auth.getAuthorities());
+        } else if (token != null) {
+            log.debug("Token is invalid");
         }
         filterChain.doFilter(request, response);
     }
@@ -9,8 +9,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
@@ -22,7 +20,11 @@ import java.util.Date;
 @RequiredArgsConstructor
 public class JwtTokenProvider {
 
-    private final UserDetailsService userDetailsService;
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLE_CLAIM = "role";
+    private static final String VERSION_CLAIM = "ver";
+
+    private final TokenRevocationRegistry tokenRevocationRegistry;
 
     @Value("${jwt.secret}")
     private String secretKey;
@@ -30,18 +32,30 @@ public class JwtTokenProvider {
     @Value("${jwt.expiration}")
     private long tokenValidityInMilliseconds;
 
+    @Value("${jwt.verified-cache-size:10000}")
+    private int verifiedCacheSize;
+
     private Key key;
 
+    // 파서는 불변이고 스레드 안전하므로 한 번만 생성해 재사용
+    private JwtParser jwtParser;
+
+    private VerifiedTokenCache verifiedTokenCache;
+
     @PostConstruct
     protected void init() {
         byte[] keyBytes = Base64.getDecoder().decode(Base64.getEncoder().encodeToString(secretKey.getBytes()));
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokenCache = new VerifiedTokenCache(verifiedCacheSize);
     }
 
-    // 토큰 생성
-    public String createToken(String email, String role) {
+    // 토큰 생성 (요청마다 DB 조회 없이 인증할 수 있도록 userId/role을, 무효화 확인용으로 토큰 버전을 클레임으로 포함)
+    public String createToken(Long userId, String email, String role, int tokenVersion) {
         Claims claims = Jwts.claims().setSubject(email);
-        claims.put("role", role);
+        claims.put(USER_ID_CLAIM, userId);
+        claims.put(ROLE_CLAIM, role);
+        claims.put(VERSION_CLAIM, tokenVersion);
         Date now = new Date();
         Date validity = new Date(now.getTime() + tokenValidityInMilliseconds);
 
@@ -53,16 +67,47 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    // 인증 정보 조회
-    public Authentication getAuthentication(String token) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(this.getUserEmail(token));
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+    /**
+     * 토큰을 한 번만 검증하고 인증 정보를 반환합니다. (검증된 클레임만으로 구성, DB 조회 없음)
+     * 최근 검증된 토큰은 캐시에서 바로 반환하며, 무효화 여부(토큰 버전)는 매번 확인합니다.
+     * @return 인증 정보, 유효하지 않은 토큰이면 null
+     */
+    public Authentication authenticate(String token) {
+        VerifiedTokenCache.Entry cached = verifiedTokenCache.get(token);
+        if (cached == null) {
+            cached = verify(token);
+            if (cached == null) {
+                return null;
+            }
+            verifiedTokenCache.put(token, cached);
+        }
+        if (tokenRevocationRegistry.isRevoked(cached.userId(), cached.tokenVersion())) {
+            log.info("무효화된 토큰입니다. userId: {}", cached.userId());
+            return null;
+        }
+        return cached.authentication();
     }
 
-    // 토큰에서 회원 이메일 추출
-    public String getUserEmail(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token).getBody().getSubject();
+    private VerifiedTokenCache.Entry verify(String token) {
+        Claims claims;
+        try {
+            // 서명과 만료 시각은 파싱 과정에서 함께 검증됩니다.
+            claims = jwtParser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.error("유효하지 않은 토큰입니다: {}", e.getMessage());
+            return null;
+        }
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        if (userId == null) {
+            // userId 클레임이 없는 이전 형식의 토큰은 재로그인 필요
+            return null;
+        }
+        // 버전 클레임이 없는 이전 토큰은 버전 0으로 간주 (역할이 바뀐 적 없는 사용자는 계속 사용)
+        Integer tokenVersion = claims.get(VERSION_CLAIM, Integer.class);
+        CustomUserDetails userDetails = new CustomUserDetails(userId, claims.getSubject(), claims.get(ROLE_CLAIM, String.class));
+        Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+        return new VerifiedTokenCache.Entry(authentication, userId, tokenVersion != null ? tokenVersion : 0,
+                claims.getExpiration().getTime());
     }
 
     // Request Header에서 토큰 추출
@@ -73,15 +118,4 @@ public class JwtTokenProvider {
         }
         return null;
     }
-
-    // 토큰 유효성 검증
-    public boolean validateToken(String token) {
-        try {
-            Jws<Claims> claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return !claims.getBody().getExpiration().before(new Date());
-        } catch (Exception e) {
-            log.error("유효하지 않은 토큰입니다: {}", e.getMessage());
-            return false;
-        }
-    }
-}
\ No newline at end of file
+}
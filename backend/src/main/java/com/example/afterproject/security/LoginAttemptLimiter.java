@@ -0,0 +1,103 @@
+package com.example.afterproject.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 로그인 시도 횟수를 계정(이메일)별/IP별 슬라이딩 윈도우로 제한합니다.
+ * - 잠금은 계정 기준입니다. 로그인에 성공하면 그 계정의 시도 기록을 지웁니다.
+ * - IP 기준 한도는 한 곳에서 여러 계정을 대입하는 공격을 막는 보조 장치입니다.
+ *   학교 NAT나 프록시 뒤의 사용자들이 같은 IP로 보일 수 있으므로 계정 한도보다 훨씬 크게 둡니다.
+ *   (IP는 server.forward-headers-strategy와 신뢰 프록시 목록으로 해석한 클라이언트 주소입니다.)
+ * 키를 해시해 고정 개수의 구역(stripe)으로 나누고 구역마다 잠금을 두므로, 서로 다른 계정의 시도는 거의 경쟁하지 않습니다.
+ * 비밀번호 확인(BCrypt) 전에 호출해 초과 시도는 해시 비용 없이 거절합니다.
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    private static final int STRIPES = 64;
+    private static final int MAX_KEYS_PER_STRIPE = 4096;
+
+    private static final class Stripe {
+        private final Map<String, ArrayDeque<Long>> attempts = new HashMap<>();
+    }
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final int maxPerAccount;
+    private final int maxPerIp;
+    private final long windowMillis;
+    private final LongSupplier clock;
+
+    @Autowired
+    public LoginAttemptLimiter(@Value("${login.limit.per-account:10}") int maxPerAccount,
+                               @Value("${login.limit.per-ip:300}") int maxPerIp,
+                               @Value("${login.limit.window-seconds:60}") long windowSeconds) {
+        this(maxPerAccount, maxPerIp, windowSeconds, System::currentTimeMillis);
+    }
+
+    LoginAttemptLimiter(int maxPerAccount, int maxPerIp, long windowSeconds, LongSupplier clock) {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.maxPerAccount = maxPerAccount;
+        this.maxPerIp = maxPerIp;
+        this.windowMillis = windowSeconds * 1000;
+        this.clock = clock;
+    }
+
+    /**
+     * 시도를 기록합니다.
+     * @return 허용되면 0, 초과면 다시 시도할 수 있을 때까지의 초
+     */
+    public long tryAcquire(String email, String ip) {
+        long now = clock.getAsLong();
+        long retryAfter = record("ip:" + ip, maxPerIp, now);
+        if (retryAfter > 0) {
+            return retryAfter;
+        }
+        return record(accountKey(email), maxPerAccount, now);
+    }
+
+    /**
+     * 로그인에 성공한 계정의 시도 기록을 지웁니다. (IP 기록은 유지)
+     */
+    public void onSuccess(String email) {
+        String key = accountKey(email);
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            stripe.attempts.remove(key);
+        }
+    }
+
+    private static String accountKey(String email) {
+        return "account:" + (email == null ? "" : email.trim().toLowerCase());
+    }
+
+    private Stripe stripeOf(String key) {
+        return stripes[Math.floorMod(key.hashCode(), STRIPES)];
+    }
+
+    private long record(String key, int limit, long now) {
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            if (stripe.attempts.size() >= MAX_KEYS_PER_STRIPE) {
+                stripe.attempts.values().removeIf(times -> times.isEmpty() || times.peekLast() <= now - windowMillis);
+            }
+            ArrayDeque<Long> times = stripe.attempts.computeIfAbsent(key, k -> new ArrayDeque<>());
+            while (!times.isEmpty() && times.peekFirst() <= now - windowMillis) {
+                times.pollFirst();
+            }
+            if (times.size() >= limit) {
+                return Math.max(1, (times.peekFirst() + windowMillis - now + 999) / 1000);
+            }
+            times.addLast(now);
+            return 0;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.afterproject.security;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,6 +12,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -24,6 +27,8 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -38,8 +43,12 @@ public class SecurityConfig {
                         // 1. Users have the correct roles assigned (e.g., ADMIN, TEACHER, STUDENT).
                         // 2. JWT tokens correctly carry these role claims.
                         // 3. Frontend sends valid JWT tokens with requests.
+                        // 스트리밍 응답 완료 후의 ASYNC/ERROR 디스패치 (인증은 최초 요청에서 이미 확인됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         // Publicly accessible endpoints
                         .requestMatchers("/api/auth/**", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                         // Admin specific endpoints
                         .requestMatchers(HttpMethod.POST, "/api/admin/notices").hasRole("ADMIN")
@@ -56,7 +65,9 @@ public class SecurityConfig {
 
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class)
+                // 권한 확인을 통과한 요청만 Idempotency-Key 재전송/중복 처리
+                .addFilterAfter(new IdempotencyFilter(idempotencyStore, objectMapper), AuthorizationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,137 @@
+package com.example.afterproject.security;
+
+import com.example.afterproject.config.PrimaryReadExecutor;
+import com.example.afterproject.entity.UserEntity;
+import com.example.afterproject.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 역할 변경/계정 삭제 시 그 이전에 발급된 토큰을 무효화합니다.
+ * 토큰에 userId/role이 담겨 요청마다 사용자를 인증 정보로 다시 만들지 않으므로,
+ * 사용자 행의 토큰 버전(token_version)을 올려 "ver" 클레임이 다른 토큰을 거부합니다.
+ * 발급 시각 비교가 아니므로 같은 초에 발급된 토큰도 구분됩니다.
+ * <p>
+ * 요청마다 DB에 가지 않도록 사용자별 현재 버전을 인스턴스 메모리에 유효시간(ttl)만큼 보관하고,
+ * 캐시에 없을 때만 primary에서 버전 컬럼 하나를 읽습니다. (삭제된 사용자도 "없음"으로 보관해 거부)
+ * <ul>
+ *   <li>무효화한 인스턴스에서는 트랜잭션 커밋 직후 캐시를 비우므로 바로 반영됩니다.</li>
+ *   <li>다른 인스턴스는 보관 중인 버전이 만료될 때까지(최대 ttl) 이전 토큰을 계속 허용합니다.
+ *       인스턴스 간 무효화 메시지는 보내지 않으므로, 즉시 차단이 필요하면 ttl을 줄여야 합니다.</li>
+ *   <li>버전은 늘어나기만 하므로, 보관 중인 버전보다 새 토큰(재로그인)이 오면 캐시가 오래된 것으로 보고 다시 읽습니다.</li>
+ * </ul>
+ */
+@Component
+public class TokenRevocationRegistry {
+
+    /** 캐시에 보관하는 버전. 사용자가 없으면 version은 null입니다. */
+    private record CachedVersion(Integer version, long expiresAt) {
+    }
+
+    private final Map<Long, CachedVersion> versions = new ConcurrentHashMap<>();
+    // 무효화 횟수: 조회 중에 무효화가 끼어들면 조회한 (이전) 버전을 캐시에 넣지 않습니다.
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Function<Long, Optional<Integer>> currentVersionLoader;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final LongSupplier clock;
+
+    @Autowired
+    public TokenRevocationRegistry(UserRepository userRepository, PrimaryReadExecutor primaryReadExecutor,
+                                   @Value("${jwt.token-version-cache.ttl-seconds:30}") long ttlSeconds,
+                                   @Value("${jwt.token-version-cache.max-entries:20000}") int maxEntries) {
+        // 2차 캐시(인스턴스별, 수 분 단위 TTL)를 거치지 않고 primary의 현재 값을 읽습니다.
+        this(userId -> primaryReadExecutor.read(() -> userRepository.findTokenVersion(userId)),
+                ttlSeconds * 1000, maxEntries, System::currentTimeMillis);
+    }
+
+    /**
+     * @param currentVersionLoader 사용자 ID로 현재 토큰 버전을 조회 (사용자가 없으면 비어 있음)
+     */
+    TokenRevocationRegistry(Function<Long, Optional<Integer>> currentVersionLoader, long ttlMillis, int maxEntries,
+                            LongSupplier clock) {
+        this.currentVersionLoader = currentVersionLoader;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    /**
+     * 지금까지 해당 사용자에게 발급된 모든 토큰을 무효화합니다.
+     * 호출한 트랜잭션이 커밋되면 반영됩니다.
+     */
+    public void revokeAll(UserEntity user) {
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        evictAfterCommit(user.getUserId());
+    }
+
+    /**
+     * 보관 중인 사용자의 버전을 트랜잭션 커밋 직후(트랜잭션 밖이면 즉시) 지웁니다.
+     * 다음 요청은 primary에서 버전을 다시 읽습니다. (계정 삭제 시에도 호출)
+     */
+    public void evictAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(userId);
+            }
+        });
+    }
+
+    public boolean isRevoked(Long userId, int tokenVersion) {
+        long now = clock.getAsLong();
+        CachedVersion cached = versions.get(userId);
+        if (cached == null || cached.expiresAt() <= now
+                || (cached.version() != null && cached.version() < tokenVersion)) {
+            cached = load(userId, now);
+        }
+        return cached.version() == null || cached.version() != tokenVersion;
+    }
+
+    private CachedVersion load(Long userId, long now) {
+        long stamp = invalidations.get();
+        CachedVersion loaded = new CachedVersion(currentVersionLoader.apply(userId).orElse(null), now + ttlMillis);
+        if (ttlMillis > 0 && invalidations.get() == stamp) {
+            if (versions.size() >= maxEntries) {
+                purge(now);
+            }
+            versions.put(userId, loaded);
+        }
+        return loaded;
+    }
+
+    private void evict(Long userId) {
+        invalidations.incrementAndGet();
+        versions.remove(userId);
+    }
+
+    private void purge(long now) {
+        versions.values().removeIf(entry -> entry.expiresAt() <= now);
+        // 만료 항목 정리 후에도 가득 차 있으면 임의의 항목을 제거해 상한의 90%까지 줄입니다.
+        Iterator<Long> iterator = versions.keySet().iterator();
+        int target = maxEntries - Math.max(1, maxEntries / 10);
+        while (versions.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    int size() {
+        return versions.size();
+    }
+}
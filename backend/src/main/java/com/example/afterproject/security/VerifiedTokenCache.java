@@ -0,0 +1,72 @@
+package com.example.afterproject.security;
+
+import org.springframework.security.core.Authentication;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 최근 서명 검증을 통과한 토큰의 인증 결과를 보관하는 캐시입니다.
+ * 같은 토큰으로 반복되는 요청은 HMAC 검증과 클레임 파싱을 건너뜁니다.
+ * 항목은 토큰 만료 시각까지만 유효하며, 최대 크기를 넘으면 만료 항목부터 정리합니다.
+ */
+public class VerifiedTokenCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    public VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Entry get(String token) {
+        if (maxSize <= 0) {
+            return null;
+        }
+        Entry entry = entries.get(token);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(token, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    public void put(String token, Entry entry) {
+        if (maxSize <= 0) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        entries.put(token, entry);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+        // 만료 항목 정리 후에도 가득 차 있으면 임의의 항목을 제거해 상한의 90%까지 줄입니다.
+        Iterator<String> iterator = entries.keySet().iterator();
+        int target = maxSize - Math.max(1, maxSize / 10);
+        while (entries.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * @param authentication 토큰 클레임으로 만든 인증 정보
+     * @param userId 무효화 목록 확인용 사용자 ID
+     * @param tokenVersion 토큰 발급 시점의 사용자 토큰 버전
+     * @param expiresAt 토큰 만료 시각 (epoch millis)
+     */
+    public record Entry(Authentication authentication, Long userId, int tokenVersion, long expiresAt) {
+    }
+}
@@ -2,13 +2,30 @@ package com.example.afterproject.service;
 
 import com.example.afterproject.dto.admin.*;
 import com.example.afterproject.entity.*;
+import com.example.afterproject.event.CourseCatalogChangedEvent;
+import com.example.afterproject.event.StudentStandingChangedEvent;
 import com.example.afterproject.repository.*;
+import com.example.afterproject.security.TokenRevocationRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,32 +40,55 @@ public class AdminService {
     private final UserRepository userRepository;
     private final CourseRepository courseRepository;
     private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentPreferenceRepository enrollmentPreferenceRepository;
     private final NoticeRepository noticeRepository;
     private final SurveyRepository surveyRepository;
+    private final CourseSeatLedger courseSeatLedger;
+    private final CourseWaitlist courseWaitlist;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_USER_PAGE_SIZE = 500;
+
+    @Value("${admin.users.page-size:100}")
+    private int defaultUserPageSize;
 
 
     // 4.1. 사용자 통합 관리
 
     @Transactional(readOnly = true)
-    public List<UserResponseDto> getAllUsers(String role, String name) {
-        List<UserEntity> users;
-        if (role != null && name != null) {
-            users = userRepository.findByRoleAndNameContaining(role, name);
-        } else if (role != null) {
-            users = userRepository.findByRole(role);
-        } else if (name != null) {
-            users = userRepository.findByNameContaining(name);
-        } else {
-            users = userRepository.findAll();
+    public UserPageDto getUsers(String role, String name, Long cursor, Integer size) {
+        int pageSize = Math.min(size != null && size > 0 ? size : defaultUserPageSize, MAX_USER_PAGE_SIZE);
+        List<UserResponseDto> users = userRepository.findPageAfter(cursor != null ? cursor : 0L,
+                blankToNull(role), blankToNull(name), Limit.of(pageSize));
+        Long nextCursor = users.size() == pageSize ? users.get(users.size() - 1).getUserId() : null;
+        return new UserPageDto(users, nextCursor);
+    }
+
+    /**
+     * 조건에 맞는 모든 사용자를 userId 순으로 한 건씩 전달합니다. (전체 내보내기용, 목록을 메모리에 쌓지 않음)
+     */
+    @Transactional(readOnly = true)
+    public void forEachUser(String role, String name, Consumer<UserResponseDto> consumer) {
+        try (Stream<UserResponseDto> users = userRepository.streamAll(blankToNull(role), blankToNull(name))) {
+            users.forEach(consumer);
         }
-        return users.stream().map(UserResponseDto::new).collect(Collectors.toList());
+    }
+
+    private String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
     }
 
     public UserResponseDto updateUserRole(Long userId, RoleUpdateDto roleUpdateDto) {
         UserEntity user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. id: " + userId));
-        user.setRole(roleUpdateDto.getRole());
-        return new UserResponseDto(userRepository.save(user));
+        if (!Objects.equals(user.getRole(), roleUpdateDto.getRole())) {
+            user.setRole(roleUpdateDto.getRole());
+            // 토큰에 이전 역할이 담겨 있으므로 기존 토큰을 무효화 (재로그인 시 새 역할 반영)
+            tokenRevocationRegistry.revokeAll(user);
+        }
+        UserEntity updatedUser = userRepository.save(user);
+        return new UserResponseDto(updatedUser);
     }
 
     public void deleteUser(Long userId) {
@@ -57,14 +97,16 @@ public class AdminService {
             throw new EntityNotFoundException("사용자를 찾을 수 없습니다. id: " + userId);
         }
         // TODO: 사용자와 연관된 데이터(강좌, 수강신청 등) 처리 로직 필요
+        // 삭제된 사용자의 토큰은 토큰 버전을 확인할 사용자가 없으므로 거부됩니다. (보관 중인 버전은 커밋 후 비움)
         userRepository.deleteById(userId);
+        tokenRevocationRegistry.evictAfterCommit(userId);
     }
 
     // 4.2. 강좌 운영 관리
 
     @Transactional(readOnly = true)
     public List<CourseResponseDto> getPendingCourses() {
-        return courseRepository.findByStatus("PENDING").stream()
+        return courseRepository.findCourseSummariesByStatus("PENDING").stream()
                 .map(CourseResponseDto::new)
                 .collect(Collectors.toList());
     }
@@ -74,6 +116,7 @@ public class AdminService {
                 .orElseThrow(() -> new EntityNotFoundException("강좌를 찾을 수 없습니다. id: " + courseId));
         course.setStatus(statusUpdateDto.getStatus());
         CourseEntity updatedCourse = courseRepository.save(course);
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(courseId));
 
         // 알림 발송 로직 (현재는 콘솔 출력으로 대체)
         System.out.println("'" + updatedCourse.getCourseName() + "' 강좌의 상태가 '" + updatedCourse.getStatus() + "'(으)로 변경되었습니다. (담당교사: " + updatedCourse.getTeacher().getName() + ")");
@@ -81,9 +124,30 @@ public class AdminService {
         return new CourseResponseDto(updatedCourse);
     }
 
+    public CourseResponseDto updateAllocationMode(Long courseId, AllocationModeUpdateDto allocationModeUpdateDto) {
+        String mode = allocationModeUpdateDto.getAllocationMode();
+        if (!CourseEntity.ALLOCATION_FCFS.equals(mode) && !CourseEntity.ALLOCATION_LOTTERY.equals(mode)) {
+            throw new IllegalArgumentException("수강 신청 방식은 FCFS 또는 LOTTERY만 가능합니다.");
+        }
+        boolean lottery = CourseEntity.ALLOCATION_LOTTERY.equals(mode);
+        if (lottery && allocationModeUpdateDto.getLotteryClosesAt() == null) {
+            throw new IllegalArgumentException("추첨 방식은 신청 마감 시각(lotteryClosesAt)이 필요합니다.");
+        }
+        CourseEntity course = courseRepository.findById(courseId)
+                .orElseThrow(() -> new EntityNotFoundException("강좌를 찾을 수 없습니다. id: " + courseId));
+        // 추첨 신청이 남아 있는 강좌를 선착순으로 바꾸면 신청 기록이 배정되지 않은 채 남으므로, 배정(또는 신청 취소) 후에만 전환합니다.
+        if (!lottery && course.isLotteryMode()
+                && enrollmentPreferenceRepository.existsByCourse_CourseId(courseId)) {
+            throw new IllegalStateException("추첨 신청이 남아 있는 강좌는 선착순으로 전환할 수 없습니다. 추첨 배정 후 다시 시도해 주세요.");
+        }
+        course.setAllocationMode(mode);
+        course.setLotteryClosesAt(lottery ? allocationModeUpdateDto.getLotteryClosesAt() : null);
+        return new CourseResponseDto(courseRepository.save(course));
+    }
+
     @Transactional(readOnly = true)
     public List<CourseResponseDto> getAllCourses() {
-        return courseRepository.findAll().stream()
+        return courseRepository.findAllCourseSummaries().stream()
                 .map(CourseResponseDto::new)
                 .collect(Collectors.toList());
     }
@@ -106,6 +170,7 @@ public class AdminService {
         course.setEnded(true);
         course.setEndedAt(Instant.now());
         CourseEntity updated = courseRepository.save(course);
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(courseId));
         return new CourseResponseDto(updated);
     }
 
@@ -120,8 +185,16 @@ public class AdminService {
         }
 
         // [오류 수정] DB 호환성 문제를 피하기 위해 findBy... 와 isPresent() 사용
-        if (enrollmentRepository.findByStudent_UserIdAndCourse_CourseId(studentId, courseId).isPresent()) {
-            throw new IllegalStateException("이미 수강 신청된 학생입니다.");
+        Optional<EnrollmentEntity> existing = enrollmentRepository.findByStudent_UserIdAndCourse_CourseId(studentId, courseId);
+        if (existing.isPresent()) {
+            if (!CourseWaitlist.WAITLISTED.equals(existing.get().getStatus())) {
+                throw new IllegalStateException("이미 수강 신청된 학생입니다.");
+            }
+            // 대기 중인 학생은 대기열에서 바로 수강 확정
+            existing.get().activate();
+            courseSeatLedger.forceReserve(courseId);
+            eventPublisher.publishEvent(new StudentStandingChangedEvent(List.of(studentId)));
+            return;
         }
 
         EnrollmentEntity enrollment = EnrollmentEntity.builder()
@@ -130,12 +203,171 @@ public class AdminService {
                 .status("ACTIVE")
                 .build();
         enrollmentRepository.save(enrollment);
+        // 강제 배정은 정원 검사 없이 좌석 카운터만 반영
+        courseSeatLedger.forceReserve(courseId);
+        eventPublisher.publishEvent(new StudentStandingChangedEvent(List.of(studentId)));
+    }
+
+    /**
+     * 여러 (강좌, 학생) 쌍을 한 번에 강제 배정합니다.
+     * 학생 역할/강좌/기존 수강 정보를 각각 한 번의 쿼리로 확인하고, 신규 수강 정보는 강좌별 JDBC 배치로 저장합니다.
+     * 잘못된 행은 건너뛰고 행별 결과로 보고합니다.
+     */
+    public BulkEnrollResultDto bulkEnroll(List<BulkAssignmentRequestDto.Assignment> assignments) {
+        Set<Long> studentIds = new HashSet<>();
+        Set<Long> courseIds = new HashSet<>();
+        for (BulkAssignmentRequestDto.Assignment assignment : assignments) {
+            if (assignment.getCourseId() != null && assignment.getStudentId() != null) {
+                studentIds.add(assignment.getStudentId());
+                courseIds.add(assignment.getCourseId());
+            }
+        }
+        if (studentIds.isEmpty()) {
+            return new BulkEnrollResultDto(assignments.stream().map(a -> failure(a.getCourseId(), a.getStudentId(),
+                    "INVALID_ROW", "강좌 ID와 학생 ID가 필요합니다.")).collect(Collectors.toList()));
+        }
+
+        Map<Long, String> roles = userRepository.findRolesByUserIdIn(studentIds).stream()
+                .collect(Collectors.toMap(UserRepository.UserRoleView::getUserId, UserRepository.UserRoleView::getRole));
+        // 좌석 카운터가 배정 중에 바뀌지 않도록 강좌 행을 잠급니다.
+        Set<Long> existingCourseIds = courseRepository.findAllByIdForUpdate(courseIds).stream()
+                .map(CourseEntity::getCourseId)
+                .collect(Collectors.toSet());
+        Map<Long, Map<Long, EnrollmentRepository.EnrollmentKeyView>> existing = new HashMap<>();
+        for (EnrollmentRepository.EnrollmentKeyView view : enrollmentRepository.findKeysByCourseIdInAndStudentIdIn(courseIds, studentIds)) {
+            existing.computeIfAbsent(view.getCourseId(), id -> new HashMap<>()).put(view.getStudentId(), view);
+        }
+
+        List<BulkEnrollResultDto.Row> results = new ArrayList<>(assignments.size());
+        Map<Long, List<Long>> inserts = new LinkedHashMap<>();
+        Map<Long, List<Long>> promotions = new LinkedHashMap<>();
+        Map<Long, Set<Long>> seen = new HashMap<>();
+        for (BulkAssignmentRequestDto.Assignment assignment : assignments) {
+            Long courseId = assignment.getCourseId();
+            Long studentId = assignment.getStudentId();
+            if (courseId == null || studentId == null) {
+                results.add(failure(courseId, studentId, "INVALID_ROW", "강좌 ID와 학생 ID가 필요합니다."));
+            } else if (!seen.computeIfAbsent(courseId, id -> new HashSet<>()).add(studentId)) {
+                results.add(failure(courseId, studentId, "DUPLICATE_ROW", "요청에 중복된 행입니다."));
+            } else if (!existingCourseIds.contains(courseId)) {
+                results.add(failure(courseId, studentId, "COURSE_NOT_FOUND", "강좌를 찾을 수 없습니다."));
+            } else if (!roles.containsKey(studentId)) {
+                results.add(failure(courseId, studentId, "STUDENT_NOT_FOUND", "학생을 찾을 수 없습니다."));
+            } else if (!"STUDENT".equals(roles.get(studentId))) {
+                results.add(failure(courseId, studentId, "NOT_STUDENT", "학생 역할의 사용자만 수강 신청할 수 있습니다."));
+            } else {
+                EnrollmentRepository.EnrollmentKeyView current = existing.getOrDefault(courseId, Map.of()).get(studentId);
+                if (current == null) {
+                    inserts.computeIfAbsent(courseId, id -> new ArrayList<>()).add(studentId);
+                    results.add(new BulkEnrollResultDto.Row(courseId, studentId, true, "ENROLLED", "배정되었습니다."));
+                } else if (CourseWaitlist.WAITLISTED.equals(current.getStatus())) {
+                    promotions.computeIfAbsent(courseId, id -> new ArrayList<>()).add(current.getEnrollmentId());
+                    results.add(new BulkEnrollResultDto.Row(courseId, studentId, true, "PROMOTED", "대기에서 수강 확정되었습니다."));
+                } else {
+                    results.add(failure(courseId, studentId, "ALREADY_ENROLLED", "이미 수강 신청된 학생입니다."));
+                }
+            }
+        }
+
+        // 강제 배정은 정원 검사 없이 좌석 카운터만 반영
+        for (Long courseId : existingCourseIds) {
+            List<Long> inserted = inserts.getOrDefault(courseId, List.of());
+            List<Long> promoted = promotions.getOrDefault(courseId, List.of());
+            enrollmentRepository.insertAllocation(courseId, inserted, List.of(), 0);
+            if (!promoted.isEmpty()) {
+                enrollmentRepository.activateAll(promoted);
+            }
+            courseSeatLedger.forceReserve(courseId, inserted.size() + promoted.size());
+        }
+
+        publishStandingChanged(results);
+        return new BulkEnrollResultDto(results);
+    }
+
+    /**
+     * 한 강좌에서 여러 학생의 수강을 한 번에 취소합니다.
+     * 반납된 좌석 수만큼 같은 트랜잭션에서 대기자를 승격합니다.
+     */
+    public BulkEnrollResultDto bulkUnenroll(Long courseId, List<Long> studentIds) {
+        Set<Long> requested = new LinkedHashSet<>(studentIds);
+        Map<Long, EnrollmentEntity> enrollments = enrollmentRepository.findByCourse_CourseIdAndStudent_UserIdIn(courseId, requested).stream()
+                .collect(Collectors.toMap(enrollment -> enrollment.getStudent().getUserId(), enrollment -> enrollment));
+
+        List<BulkEnrollResultDto.Row> results = new ArrayList<>(studentIds.size());
+        Set<Long> seen = new HashSet<>();
+        for (Long studentId : studentIds) {
+            if (!seen.add(studentId)) {
+                results.add(failure(courseId, studentId, "DUPLICATE_ROW", "요청에 중복된 행입니다."));
+            } else if (!enrollments.containsKey(studentId)) {
+                results.add(failure(courseId, studentId, "NOT_ENROLLED", "수강 정보를 찾을 수 없습니다."));
+            } else {
+                results.add(new BulkEnrollResultDto.Row(courseId, studentId, true, "UNENROLLED", "취소되었습니다."));
+            }
+        }
+        if (enrollments.isEmpty()) {
+            return new BulkEnrollResultDto(results);
+        }
+
+        enrollmentRepository.deleteAllInBatch(enrollments.values());
+        int releasedSeats = (int) enrollments.values().stream().filter(enrollment -> "ACTIVE".equals(enrollment.getStatus())).count();
+        courseSeatLedger.release(courseId, releasedSeats);
+        courseWaitlist.promoteNext(courseId, releasedSeats);
+
+        publishStandingChanged(results);
+        return new BulkEnrollResultDto(results);
+    }
+
+    /**
+     * "courseId,studentId" 형식의 CSV를 배정 요청으로 변환합니다. (숫자가 아닌 첫 행은 헤더로 간주)
+     */
+    public List<BulkAssignmentRequestDto.Assignment> parseAssignmentsCsv(String csv) {
+        List<BulkAssignmentRequestDto.Assignment> assignments = new ArrayList<>();
+        String[] lines = csv.split("\\r?\\n");
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i].trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+            String[] columns = line.split(",");
+            try {
+                if (columns.length != 2) {
+                    throw new NumberFormatException();
+                }
+                assignments.add(new BulkAssignmentRequestDto.Assignment(
+                        Long.valueOf(columns[0].trim()), Long.valueOf(columns[1].trim())));
+            } catch (NumberFormatException e) {
+                if (i == 0) {
+                    continue; // 헤더 행
+                }
+                throw new IllegalArgumentException("CSV " + (i + 1) + "번째 행의 형식이 올바르지 않습니다: " + line);
+            }
+        }
+        return assignments;
+    }
+
+    private BulkEnrollResultDto.Row failure(Long courseId, Long studentId, String result, String message) {
+        return new BulkEnrollResultDto.Row(courseId, studentId, false, result, message);
+    }
+
+    private void publishStandingChanged(List<BulkEnrollResultDto.Row> results) {
+        Set<Long> changed = results.stream()
+                .filter(BulkEnrollResultDto.Row::isSuccess)
+                .map(BulkEnrollResultDto.Row::getStudentId)
+                .collect(Collectors.toSet());
+        if (!changed.isEmpty()) {
+            eventPublisher.publishEvent(new StudentStandingChangedEvent(changed));
+        }
     }
 
     public void unenrollStudent(Long courseId, Long studentId) {
         EnrollmentEntity enrollment = enrollmentRepository.findByStudent_UserIdAndCourse_CourseId(studentId, courseId)
                 .orElseThrow(() -> new EntityNotFoundException("수강 정보를 찾을 수 없습니다."));
         enrollmentRepository.delete(enrollment);
+        if ("ACTIVE".equals(enrollment.getStatus())) {
+            courseSeatLedger.release(courseId);
+            courseWaitlist.promoteNext(courseId);
+        }
+        eventPublisher.publishEvent(new StudentStandingChangedEvent(List.of(studentId)));
     }
 
 
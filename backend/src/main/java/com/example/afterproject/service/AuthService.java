@@ -4,13 +4,18 @@ import com.example.afterproject.dto.LoginRequestDto;
 import com.example.afterproject.dto.SignupRequestDto;
 import com.example.afterproject.dto.TokenResponseDto;
 import com.example.afterproject.entity.UserEntity;
+import com.example.afterproject.exception.TooManyAttemptsException;
 import com.example.afterproject.repository.UserRepository;
 import com.example.afterproject.security.JwtTokenProvider;
+import com.example.afterproject.security.LoginAttemptLimiter;
+import com.example.afterproject.security.PasswordVerificationExecutor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @RequiredArgsConstructor
 public class AuthService {
@@ -18,24 +23,33 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final PasswordVerificationExecutor passwordVerificationExecutor;
+
+    // 로그인: 시도 횟수 확인 → 사용자 조회 → 전용 스레드 풀에서 비밀번호 확인
+    public CompletableFuture<TokenResponseDto> login(LoginRequestDto requestDto, String clientIp) {
+        long retryAfter = loginAttemptLimiter.tryAcquire(requestDto.getEmail(), clientIp);
+        if (retryAfter > 0) {
+            throw new TooManyAttemptsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", retryAfter);
+        }
 
-    // 로그인 (기존 코드)
-    @Transactional(readOnly = true)
-    public TokenResponseDto login(LoginRequestDto requestDto) {
         UserEntity user = userRepository.findByEmail(requestDto.getEmail())
                 .orElseThrow(() -> new IllegalArgumentException("가입되지 않은 이메일입니다."));
 
-        if (!passwordEncoder.matches(requestDto.getPassword(), user.getPassword())) {
-            throw new IllegalArgumentException("잘못된 비밀번호입니다.");
-        }
+        return passwordVerificationExecutor.submit(() -> {
+            if (!passwordEncoder.matches(requestDto.getPassword(), user.getPassword())) {
+                throw new IllegalArgumentException("잘못된 비밀번호입니다.");
+            }
+            loginAttemptLimiter.onSuccess(requestDto.getEmail());
 
-        String role = user.getRole();
-        String token = jwtTokenProvider.createToken(user.getEmail(), role);
+            String role = user.getRole();
+            String token = jwtTokenProvider.createToken(user.getUserId(), user.getEmail(), role, user.getTokenVersion());
 
-        // 프론트엔드에 전달할 역할 정규화 ("ROLE_" 접두사 제거)
-        String frontendRole = role != null && role.startsWith("ROLE_") ? role.substring(5) : role;
+            // 프론트엔드에 전달할 역할 정규화 ("ROLE_" 접두사 제거)
+            String frontendRole = role != null && role.startsWith("ROLE_") ? role.substring(5) : role;
 
-        return new TokenResponseDto(token, frontendRole);
+            return new TokenResponseDto(token, frontendRole);
+        });
     }
 
     // ▼▼▼ 회원가입 (새로 추가됨) ▼▼▼
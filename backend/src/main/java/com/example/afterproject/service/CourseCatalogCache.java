@@ -0,0 +1,115 @@
+package com.example.afterproject.service;
+
+import com.example.afterproject.config.PrimaryReadExecutor;
+import com.example.afterproject.dto.CourseSummaryDto;
+import com.example.afterproject.event.CourseCatalogChangedEvent;
+import com.example.afterproject.repository.CourseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 학생용 강좌 목록(승인·미종료 강좌)의 인메모리 캐시입니다.
+ *
+ * 강좌 정보(정적 필드)와 현재 수강 인원(실시간 값)을 따로 읽습니다.
+ * - 강좌 정보: 승인 상태 변경, 종료, 강좌 수정 이벤트가 커밋되면 해당 강좌만 무효화되고,
+ *   다음 조회 때 무효화된 강좌들만 한 번의 쿼리로 다시 읽습니다.
+ * - 수강 인원: 여기에 보관하지 않고 조회마다 강좌 엔티티의 2차 캐시에서 읽습니다.
+ *   좌석 카운터 갱신은 2차 캐시 항목을 잠그므로, 메모리에 스냅숏과 증감분을 따로 맞추다가
+ *   이벤트를 놓치거나 두 번 반영하는 일이 없습니다. (정원 검사는 항상 DB의 좌석 카운터로 합니다.)
+ * 강좌 정보는 replica 지연의 영향을 받지 않도록 항상 primary에서 읽습니다.
+ *
+ * 인스턴스별 캐시입니다. 무효화 이벤트는 같은 JVM 안에서만 전달되므로, 서버를 여러 대로 늘리면
+ * 다른 인스턴스에서 일어난 변경은 반영되지 않습니다. (현재는 단일 인스턴스 배포를 전제로 합니다.)
+ */
+@Slf4j
+@Component
+public class CourseCatalogCache {
+
+    private final CourseRepository courseRepository;
+    private final PrimaryReadExecutor primaryReadExecutor;
+
+    private final Map<Long, CourseSummaryDto> courses = new ConcurrentSkipListMap<>();
+    private final Set<Long> staleCourseIds = ConcurrentHashMap.newKeySet();
+    private volatile boolean loaded;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public CourseCatalogCache(CourseRepository courseRepository, PrimaryReadExecutor primaryReadExecutor,
+                              MeterRegistry meterRegistry) {
+        this.courseRepository = courseRepository;
+        this.primaryReadExecutor = primaryReadExecutor;
+        this.hits = Counter.builder("course.catalog.cache.requests").tag("result", "hit")
+                .description("Catalog reads served from memory").register(meterRegistry);
+        this.misses = Counter.builder("course.catalog.cache.requests").tag("result", "miss")
+                .description("Catalog reads that had to (re)load courses from the database").register(meterRegistry);
+        Gauge.builder("course.catalog.cache.size", courses, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 승인된 강좌 목록을 강좌 ID 순으로 반환합니다.
+     * @param category 카테고리 (null이면 전체)
+     */
+    public List<CourseSummaryDto> getApprovedCourses(String category) {
+        if (!loaded || !staleCourseIds.isEmpty()) {
+            misses.increment();
+            refresh();
+        } else {
+            hits.increment();
+        }
+        List<CourseSummaryDto> result = new ArrayList<>(courses.size());
+        for (CourseSummaryDto course : courses.values()) {
+            if (category == null || category.equals(course.getCategory())) {
+                result.add(course);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 강좌별 현재 수강 인원. 2차 캐시에서 읽고, 잠긴(방금 갱신된) 강좌만 primary에서 한 번에 읽습니다.
+     */
+    public Map<Long, Long> getSeatCounts(List<CourseSummaryDto> courses) {
+        List<Long> courseIds = courses.stream().map(CourseSummaryDto::getCourseId).toList();
+        return primaryReadExecutor.read(() -> courseRepository.findEnrolledCounts(courseIds));
+    }
+
+    @TransactionalEventListener
+    public void onCourseChanged(CourseCatalogChangedEvent event) {
+        staleCourseIds.add(event.getCourseId());
+    }
+
+    private synchronized void refresh() {
+        if (!loaded) {
+            staleCourseIds.clear();
+            List<CourseSummaryDto> approved = primaryReadExecutor.read(() -> courseRepository.searchApprovedCourseSummaries(null, null));
+            approved.forEach(course -> courses.put(course.getCourseId(), course));
+            loaded = true;
+            log.info("Course catalog cache loaded: {} courses", approved.size());
+            return;
+        }
+        if (staleCourseIds.isEmpty()) {
+            return;
+        }
+        Set<Long> ids = new HashSet<>(staleCourseIds);
+        staleCourseIds.removeAll(ids);
+        Set<Long> stillApproved = new HashSet<>();
+        for (CourseSummaryDto course : primaryReadExecutor.read(() -> courseRepository.findApprovedCourseSummariesByIdIn(ids))) {
+            courses.put(course.getCourseId(), course);
+            stillApproved.add(course.getCourseId());
+        }
+        // 승인 해제/종료된 강좌는 목록에서 제외
+        ids.stream().filter(id -> !stillApproved.contains(id)).forEach(courses::remove);
+    }
+}
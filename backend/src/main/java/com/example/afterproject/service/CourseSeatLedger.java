@@ -0,0 +1,53 @@
+package com.example.afterproject.service;
+
+import com.example.afterproject.repository.CourseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 강좌별 좌석 카운터(AFTER_COURSES.enrolled_count)를 관리합니다.
+ * 좌석 확보는 "정원 미만일 때만 증가"하는 단일 UPDATE 문으로 처리되므로,
+ * 동시에 많은 신청이 몰려도 정확히 capacity 만큼만 성공합니다.
+ * 행 잠금은 호출한 트랜잭션이 커밋될 때까지만 유지되므로, 호출 측은 좌석 확보를
+ * 트랜잭션의 마지막 단계(수강 정보 INSERT 직전)에 두어야 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class CourseSeatLedger {
+
+    private final CourseRepository courseRepository;
+
+    public boolean tryReserve(Long courseId) {
+        return courseRepository.tryReserveSeat(courseId) == 1;
+    }
+
+    /**
+     * 남은 정원이 seats 이상이면 한 번에 확보합니다. 모자라면 아무것도 확보하지 않습니다.
+     */
+    public boolean tryReserve(Long courseId, int seats) {
+        return seats > 0 && courseRepository.tryReserveSeats(courseId, seats) == 1;
+    }
+
+    public void forceReserve(Long courseId) {
+        courseRepository.forceReserveSeat(courseId);
+    }
+
+    public void forceReserve(Long courseId, int seats) {
+        if (seats > 0) {
+            courseRepository.forceReserveSeats(courseId, seats);
+        }
+    }
+
+    public void release(Long courseId, int seats) {
+        if (seats > 0) {
+            courseRepository.releaseSeats(courseId, seats);
+        }
+    }
+
+    public void release(Long courseId) {
+        courseRepository.releaseSeat(courseId);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.afterproject.service;
+
+import com.example.afterproject.entity.EnrollmentEntity;
+import com.example.afterproject.event.StudentStandingChangedEvent;
+import com.example.afterproject.repository.CourseRepository;
+import com.example.afterproject.repository.EnrollmentRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 강좌별 선착순(FIFO) 대기자 명단을 관리합니다.
+ * 대기 신청은 AFTER_ENROLLMENTS에 WAITLISTED 상태와 강좌별 대기 번호로 저장되며,
+ * 좌석이 반납되는 트랜잭션 안에서 맨 앞 대기자가 자동으로 수강 확정됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class CourseWaitlist {
+
+    public static final String WAITLISTED = "WAITLISTED";
+
+    private final CourseRepository courseRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final CourseSeatLedger courseSeatLedger;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 강좌의 다음 대기 번호를 발급합니다. 강좌 행은 트랜잭션 종료까지 잠깁니다.
+     */
+    public long issueTicket(Long courseId) {
+        courseRepository.incrementWaitlistSequence(courseId);
+        return courseRepository.findWaitlistSequence(courseId);
+    }
+
+    /**
+     * 현재 대기 순번 (1부터 시작)
+     */
+    public long rankOf(EnrollmentEntity enrollment) {
+        return enrollmentRepository.countByCourse_CourseIdAndStatusAndWaitlistPositionLessThanEqual(
+                enrollment.getCourse().getCourseId(), WAITLISTED, enrollment.getWaitlistPosition());
+    }
+
+    /**
+     * 반납된 좌석이 있으면 맨 앞 대기자를 수강 확정으로 승격합니다.
+     * 좌석 반납(CourseSeatLedger.release) 이후, 같은 트랜잭션에서 호출해야 합니다.
+     * @return 승격된 수강 정보 (대기자가 없거나 좌석이 없으면 비어 있음)
+     */
+    public Optional<EnrollmentEntity> promoteNext(Long courseId) {
+        Optional<EnrollmentEntity> next = enrollmentRepository
+                .findFirstByCourse_CourseIdAndStatusOrderByWaitlistPositionAsc(courseId, WAITLISTED);
+        if (next.isEmpty() || !courseSeatLedger.tryReserve(courseId)) {
+            return Optional.empty();
+        }
+        EnrollmentEntity enrollment = next.get();
+        enrollment.activate();
+        eventPublisher.publishEvent(new StudentStandingChangedEvent(List.of(enrollment.getStudent().getUserId())));
+        return next;
+    }
+
+    /**
+     * 반납된 좌석 수(seats)만큼 대기열 앞에서부터 한 번에 승격합니다. (일괄 취소용)
+     * 대기자 조회와 좌석 확보를 각각 한 번의 쿼리로 처리하고, 정원이 모자라면 남은 좌석만큼만 한 명씩 승격합니다.
+     * @return 승격된 수강 정보
+     */
+    public List<EnrollmentEntity> promoteNext(Long courseId, int seats) {
+        if (seats <= 0) {
+            return List.of();
+        }
+        List<EnrollmentEntity> next = enrollmentRepository
+                .findByCourse_CourseIdAndStatusOrderByWaitlistPositionAsc(courseId, WAITLISTED, Limit.of(seats));
+        if (next.isEmpty()) {
+            return List.of();
+        }
+        List<EnrollmentEntity> promoted = next;
+        if (!courseSeatLedger.tryReserve(courseId, next.size())) {
+            promoted = new ArrayList<>();
+            for (EnrollmentEntity enrollment : next) {
+                if (!courseSeatLedger.tryReserve(courseId)) {
+                    break;
+                }
+                promoted.add(enrollment);
+            }
+        }
+        promoted.forEach(EnrollmentEntity::activate);
+        if (!promoted.isEmpty()) {
+            eventPublisher.publishEvent(new StudentStandingChangedEvent(
+                    promoted.stream().map(enrollment -> enrollment.getStudent().getUserId()).collect(Collectors.toList())));
+        }
+        return promoted;
+    }
+}
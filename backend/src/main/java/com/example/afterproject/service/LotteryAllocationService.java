@@ -0,0 +1,137 @@
+package com.example.afterproject.service;
+
+import com.example.afterproject.dto.admin.LotteryResultDto;
+import com.example.afterproject.entity.CourseEntity;
+import com.example.afterproject.event.CourseCatalogChangedEvent;
+import com.example.afterproject.event.StudentStandingChangedEvent;
+import com.example.afterproject.repository.CourseRepository;
+import com.example.afterproject.repository.EnrollmentPreferenceRepository;
+import com.example.afterproject.repository.EnrollmentPreferenceRepository.PreferenceView;
+import com.example.afterproject.repository.EnrollmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 추첨(LOTTERY) 모드 강좌의 일괄 배정을 수행합니다.
+ * 신청 기간 동안 쌓인 희망 기록을 한 번에 읽고, 강좌별 추첨은 서로 독립적이므로 병렬로 계산한 뒤
+ * 결과를 강좌마다 한 번의 배치 INSERT로 저장합니다. 낙첨자는 추첨 순서대로 대기자 명단에 등록됩니다.
+ * 신청 마감 시각(lotteryClosesAt)이 지난 추첨 강좌만 배정하며, 아직 신청 중인 강좌의 희망 기록은 그대로 둡니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class LotteryAllocationService {
+
+    private final CourseRepository courseRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentPreferenceRepository preferenceRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private record CourseAllocation(Long courseId, int applicants, List<Long> active, List<Long> waitlisted,
+                                    int ineligible, long firstWaitlistPosition) {
+    }
+
+    public LotteryResultDto allocate() {
+        return allocate(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * @param seed 추첨 난수 시드 (같은 시드와 같은 희망 기록이면 같은 결과)
+     */
+    public LotteryResultDto allocate(long seed) {
+        Instant now = Instant.now();
+        List<PreferenceView> preferences = preferenceRepository.findClosedLotteryViews(now);
+        if (preferences.isEmpty()) {
+            return new LotteryResultDto(seed, List.of());
+        }
+        long maxPreferenceId = preferences.stream().mapToLong(PreferenceView::getPreferenceId).max().getAsLong();
+        Map<Long, List<Long>> applicantsByCourse = preferences.stream()
+                .collect(Collectors.groupingBy(PreferenceView::getCourseId,
+                        Collectors.mapping(PreferenceView::getStudentId, Collectors.toList())));
+
+        // 잠근 뒤 다시 확인: 조회와 잠금 사이에 방식/마감 시각이 바뀐 강좌는 배정하지 않습니다.
+        List<CourseEntity> courses = courseRepository.findAllByIdForUpdate(applicantsByCourse.keySet()).stream()
+                .filter(course -> course.isLotteryClosed(now))
+                .collect(Collectors.toList());
+        if (courses.isEmpty()) {
+            return new LotteryResultDto(seed, List.of());
+        }
+        Set<Long> allocatedCourseIds = courses.stream().map(CourseEntity::getCourseId).collect(Collectors.toSet());
+
+        // 출석률 자격은 배정 시점 기준으로 한 번에 계산 (수강 이력이 없는 학생은 자격 있음)
+        Set<Long> ineligibleStudents = enrollmentRepository.findAttendanceRatesOfPreferringStudents().stream()
+                .filter(view -> view.getAttendanceRate() < StudentService.MIN_ATTENDANCE_RATE)
+                .map(EnrollmentRepository.StudentAttendanceView::getStudentId)
+                .collect(Collectors.toSet());
+        Map<Long, Set<Long>> enrolledByCourse = enrollmentRepository.findStudentIdsByCourseIdIn(allocatedCourseIds).stream()
+                .collect(Collectors.groupingBy(EnrollmentRepository.CourseStudentView::getCourseId,
+                        Collectors.mapping(EnrollmentRepository.CourseStudentView::getStudentId, Collectors.toSet())));
+
+        // 강좌별 추첨은 공유 상태가 없으므로 코어 수만큼 병렬 계산
+        List<CourseAllocation> allocations = courses.parallelStream()
+                .map(course -> draw(course, applicantsByCourse.get(course.getCourseId()),
+                        enrolledByCourse.getOrDefault(course.getCourseId(), Set.of()), ineligibleStudents, seed))
+                .collect(Collectors.toList());
+
+        List<LotteryResultDto.CourseResult> results = new ArrayList<>();
+        Set<Long> changedStudents = new HashSet<>();
+        for (CourseAllocation allocation : allocations) {
+            enrollmentRepository.insertAllocation(allocation.courseId(), allocation.active(), allocation.waitlisted(),
+                    allocation.firstWaitlistPosition());
+            courseRepository.applyAllocation(allocation.courseId(), allocation.active().size(), allocation.waitlisted().size());
+            changedStudents.addAll(allocation.active());
+            eventPublisher.publishEvent(new CourseCatalogChangedEvent(allocation.courseId()));
+            results.add(new LotteryResultDto.CourseResult(allocation.courseId(), allocation.applicants(),
+                    allocation.active().size(), allocation.waitlisted().size(), allocation.ineligible()));
+        }
+        preferenceRepository.deleteAllocated(allocatedCourseIds, maxPreferenceId);
+        if (!changedStudents.isEmpty()) {
+            eventPublisher.publishEvent(new StudentStandingChangedEvent(changedStudents));
+        }
+
+        log.info("Lottery allocation finished: seed={}, courses={}, preferences={}", seed, results.size(), preferences.size());
+        return new LotteryResultDto(seed, results);
+    }
+
+    private CourseAllocation draw(CourseEntity course, List<Long> applicants, Set<Long> alreadyEnrolled,
+                                  Set<Long> ineligibleStudents, long seed) {
+        List<Long> candidates = new ArrayList<>(applicants.size());
+        int ineligible = 0;
+        for (Long studentId : applicants) {
+            if (alreadyEnrolled.contains(studentId)) {
+                continue;
+            }
+            if (ineligibleStudents.contains(studentId)) {
+                ineligible++;
+                continue;
+            }
+            candidates.add(studentId);
+        }
+        // 조회 순서와 무관하게 시드만으로 결과가 정해지도록 정렬 후 섞습니다.
+        Collections.sort(candidates);
+        SplittableRandom random = new SplittableRandom(seed ^ course.getCourseId());
+        for (int i = candidates.size() - 1; i > 0; i--) {
+            Collections.swap(candidates, i, random.nextInt(i + 1));
+        }
+
+        int seats = Math.max(0, Math.min(candidates.size(), course.getCapacity() - course.getEnrolledCount()));
+        return new CourseAllocation(course.getCourseId(), applicants.size(),
+                candidates.subList(0, seats), candidates.subList(seats, candidates.size()),
+                ineligible, course.getWaitlistSequence() + 1);
+    }
+}
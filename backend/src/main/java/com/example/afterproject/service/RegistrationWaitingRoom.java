@@ -0,0 +1,212 @@
+package com.example.afterproject.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 수강 신청 오픈 시점의 "가상 대기실"입니다.
+ * 강좌 목록/수강 신청 요청을 초당 admit-per-second 명까지만 통과시키고,
+ * 나머지 학생은 선착순 번호표(대기 토큰)를 받아 메모리 대기열에서 기다립니다.
+ * 입장한 학생은 pass-seconds 동안 대기 없이 요청할 수 있습니다.
+ * 대기 순번은 (내 번호 - 마지막 입장 번호)로 계산하므로 조회 비용이 일정합니다.
+ */
+@Component
+public class RegistrationWaitingRoom {
+
+    public enum Status { ADMITTED, WAITING, FULL }
+
+    public record Admission(Status status, String token, long position, long retryAfterSeconds) {
+        public boolean isAdmitted() {
+            return status == Status.ADMITTED;
+        }
+    }
+
+    private static final class Ticket {
+        private final Long userId;
+        private final String token = UUID.randomUUID().toString();
+        private final long number;
+        private volatile long admittedAt;
+        private volatile long lastSeenAt;
+
+        private Ticket(Long userId, long number, long now) {
+            this.userId = userId;
+            this.number = number;
+            this.lastSeenAt = now;
+        }
+    }
+
+    private final boolean enabled;
+    private final int admitPerSecond;
+    private final int maxQueueSize;
+    private final long passMillis;
+    private final long abandonMillis;
+    private final LongSupplier clock;
+
+    private final Map<Long, Ticket> ticketsByUser = new ConcurrentHashMap<>();
+    private final Map<String, Ticket> ticketsByToken = new ConcurrentHashMap<>();
+    private final Queue<Ticket> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicLong lastIssued = new AtomicLong();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private volatile long lastAdmitted;
+
+    // 입장 허용량 (토큰 버킷, 최대 1초 분량)
+    private double permits;
+    private long lastRefillAt;
+
+    @Autowired
+    public RegistrationWaitingRoom(
+            @Value("${registration.waiting-room.enabled:true}") boolean enabled,
+            @Value("${registration.waiting-room.admit-per-second:50}") int admitPerSecond,
+            @Value("${registration.waiting-room.max-queue-size:10000}") int maxQueueSize,
+            @Value("${registration.waiting-room.pass-seconds:300}") long passSeconds,
+            @Value("${registration.waiting-room.abandon-seconds:30}") long abandonSeconds) {
+        this(enabled, admitPerSecond, maxQueueSize, passSeconds, abandonSeconds, System::currentTimeMillis);
+    }
+
+    RegistrationWaitingRoom(boolean enabled, int admitPerSecond, int maxQueueSize, long passSeconds, long abandonSeconds,
+                            LongSupplier clock) {
+        this.enabled = enabled;
+        this.admitPerSecond = admitPerSecond;
+        this.maxQueueSize = maxQueueSize;
+        this.passMillis = passSeconds * 1000;
+        this.abandonMillis = abandonSeconds * 1000;
+        this.permits = admitPerSecond;
+        this.clock = clock;
+        this.lastRefillAt = clock.getAsLong();
+    }
+
+    /**
+     * 보호 대상 요청마다 호출됩니다. 입장 가능하면 ADMITTED, 아니면 대기 번호를 발급/갱신합니다.
+     */
+    public Admission enter(Long userId) {
+        if (!enabled) {
+            return new Admission(Status.ADMITTED, null, 0, 0);
+        }
+        long now = clock.getAsLong();
+        Ticket ticket = ticketsByUser.get(userId);
+        if (ticket != null) {
+            if (ticket.admittedAt == 0) {
+                ticket.lastSeenAt = now;
+                return waitingAdmission(ticket);
+            }
+            if (now - ticket.admittedAt < passMillis) {
+                return new Admission(Status.ADMITTED, ticket.token, 0, 0);
+            }
+            remove(ticket); // 입장 유효시간 만료 → 새로 줄을 섭니다.
+        }
+
+        // 기다리는 사람이 없고 허용량이 남아 있으면 바로 입장
+        if (waiting.get() == 0 && tryAcquirePermit()) {
+            Ticket admitted = new Ticket(userId, 0, now);
+            admitted.admittedAt = now;
+            register(admitted);
+            return new Admission(Status.ADMITTED, admitted.token, 0, 0);
+        }
+        if (waiting.get() >= maxQueueSize) {
+            return new Admission(Status.FULL, null, 0, retryAfterSeconds(maxQueueSize));
+        }
+
+        Ticket queued = new Ticket(userId, lastIssued.incrementAndGet(), now);
+        Ticket existing = ticketsByUser.putIfAbsent(userId, queued);
+        if (existing != null) {
+            // 같은 사용자의 동시 요청: 먼저 발급된 번호를 사용
+            return existing.admittedAt == 0 ? waitingAdmission(existing) : new Admission(Status.ADMITTED, existing.token, 0, 0);
+        }
+        ticketsByToken.put(queued.token, queued);
+        waiting.incrementAndGet();
+        queue.add(queued);
+        return waitingAdmission(queued);
+    }
+
+    /**
+     * 대기 토큰으로 현재 순번을 조회합니다. (클라이언트 폴링용, 조회 시 대기 이탈 판정 시각도 갱신)
+     * @return 토큰이 없거나 다른 사용자의 토큰이면 null
+     */
+    public Admission poll(Long userId, String token) {
+        Ticket ticket = ticketsByToken.get(token);
+        if (ticket == null || !ticket.userId.equals(userId)) {
+            return null;
+        }
+        if (ticket.admittedAt != 0) {
+            return new Admission(Status.ADMITTED, ticket.token, 0, 0);
+        }
+        ticket.lastSeenAt = clock.getAsLong();
+        return waitingAdmission(ticket);
+    }
+
+    /**
+     * 대기열 앞에서부터 허용량만큼 입장시킵니다. 일정 시간 폴링하지 않은 대기자는 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${registration.waiting-room.tick-millis:100}")
+    public void admit() {
+        if (!enabled) {
+            return;
+        }
+        long now = clock.getAsLong();
+        synchronized (this) {
+            permits = Math.min(admitPerSecond, permits + (now - lastRefillAt) * admitPerSecond / 1000.0);
+            lastRefillAt = now;
+            Ticket head;
+            while (permits >= 1 && (head = queue.poll()) != null) {
+                waiting.decrementAndGet();
+                lastAdmitted = head.number;
+                if (now - head.lastSeenAt > abandonMillis) {
+                    remove(head);
+                    continue;
+                }
+                head.admittedAt = now;
+                permits--;
+            }
+        }
+        ticketsByUser.values().removeIf(ticket -> {
+            boolean expired = ticket.admittedAt != 0 && now - ticket.admittedAt >= passMillis;
+            if (expired) {
+                ticketsByToken.remove(ticket.token);
+            }
+            return expired;
+        });
+    }
+
+    public int getWaitingCount() {
+        return waiting.get();
+    }
+
+    private synchronized boolean tryAcquirePermit() {
+        if (permits < 1) {
+            return false;
+        }
+        permits--;
+        return true;
+    }
+
+    private Admission waitingAdmission(Ticket ticket) {
+        long position = Math.max(1, ticket.number - lastAdmitted);
+        return new Admission(Status.WAITING, ticket.token, position, retryAfterSeconds(position));
+    }
+
+    private long retryAfterSeconds(long position) {
+        // 예상 대기 시간의 절반 간격으로 폴링 (1~10초)
+        return Math.max(1, Math.min(10, position / Math.max(1, admitPerSecond) / 2));
+    }
+
+    private void register(Ticket ticket) {
+        ticketsByUser.put(ticket.userId, ticket);
+        ticketsByToken.put(ticket.token, ticket);
+    }
+
+    private void remove(Ticket ticket) {
+        ticketsByUser.remove(ticket.userId, ticket);
+        ticketsByToken.remove(ticket.token);
+    }
+}
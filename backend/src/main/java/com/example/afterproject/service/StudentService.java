@@ -1,5 +1,7 @@
 package com.example.afterproject.service;
 
+import com.example.afterproject.dto.CourseSummaryDto;
+import com.example.afterproject.dto.student.EnrollmentResultDto;
 import com.example.afterproject.dto.student.StudentDto.CourseDetailResponseDto;
 import com.example.afterproject.dto.student.StudentDto.CourseListResponseDto;
 import com.example.afterproject.dto.student.StudentDto.MyCoursesResponseDto;
@@ -8,144 +10,208 @@ import com.example.afterproject.dto.student.SurveyDetailDto;
 import com.example.afterproject.dto.student.SurveyListDto;
 import com.example.afterproject.entity.CourseEntity;
 import com.example.afterproject.entity.EnrollmentEntity;
+import com.example.afterproject.entity.EnrollmentPreferenceEntity;
 import com.example.afterproject.entity.SurveyEntity;
 import com.example.afterproject.entity.UserEntity;
 import com.example.afterproject.entity.SurveyResponseEntity;
 import com.example.afterproject.entity.SurveyQuestionEntity;
+import com.example.afterproject.event.StudentStandingChangedEvent;
 import com.example.afterproject.repository.*;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class StudentService {
 
-    private static final double MIN_ATTENDANCE_RATE = 70.0;
+    static final double MIN_ATTENDANCE_RATE = 70.0;
 
     private final CourseRepository courseRepository;
     private final UserRepository userRepository;
     private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentPreferenceRepository enrollmentPreferenceRepository;
     private final AttendanceRepository attendanceRepository;
     private final SurveyRepository surveyRepository;
     private final SurveyResponseRepository surveyResponseRepository;
+    private final CourseSeatLedger courseSeatLedger;
+    private final CourseWaitlist courseWaitlist;
+    private final CourseCatalogCache courseCatalogCache;
+    private final StudentStandingCache studentStandingCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<CourseListResponseDto> getAllCourses(Long studentId, String keyword, String category) {
-        List<CourseEntity> courses = courseRepository.searchApprovedCourses(keyword, category);
-        List<Long> enrolledCourseIds = enrollmentRepository.findActiveCourseIdsByStudent_UserId(studentId);
-
-        return courses.stream()
-                .map(course -> {
-                    long currentEnrollmentCount = enrollmentRepository.countByCourse_CourseIdAndStatus(course.getCourseId(), "ACTIVE");
-                    boolean isEnrolled = enrolledCourseIds.contains(course.getCourseId());
-                    return new CourseListResponseDto(course, currentEnrollmentCount, isEnrolled);
-                })
+        Set<Long> enrolledCourseIds = new HashSet<>(enrollmentRepository.findActiveCourseIdsByStudent_UserId(studentId));
+
+        // 검색어가 없으면 캐시된 강좌 목록 사용 (DB 조회 없음)
+        if (keyword == null || keyword.isEmpty()) {
+            List<CourseSummaryDto> courses = courseCatalogCache.getApprovedCourses(category);
+            Map<Long, Long> seatCounts = courseCatalogCache.getSeatCounts(courses);
+            return courses.stream()
+                    .map(course -> new CourseListResponseDto(course,
+                            seatCounts.getOrDefault(course.getCourseId(), course.getEnrolledCount()),
+                            enrolledCourseIds.contains(course.getCourseId())))
+                    .collect(Collectors.toList());
+        }
+
+        return courseRepository.searchApprovedCourseSummaries(keyword, category).stream()
+                .map(course -> new CourseListResponseDto(course, enrolledCourseIds.contains(course.getCourseId())))
                 .collect(Collectors.toList());
     }
 
     public CourseDetailResponseDto getCourseDetails(Long studentId, Long courseId) {
+        boolean canEnroll = checkEnrollmentEligibility(studentId); // 출석률 조건 확인
         CourseEntity course = courseRepository.findById(courseId)
                 .orElseThrow(() -> new EntityNotFoundException("강좌를 찾을 수 없습니다."));
 
-        boolean canEnroll = checkEnrollmentEligibility(studentId); // 출석률 조건 확인
-        boolean isEnrolled = enrollmentRepository.findByStudent_UserIdAndCourse_CourseId(studentId, courseId).isPresent();
-        long currentEnrollmentCount = enrollmentRepository.countByCourse_CourseIdAndStatus(courseId, "ACTIVE");
-
-        return new CourseDetailResponseDto(course, currentEnrollmentCount, isEnrolled, canEnroll);
+        // 수강 인원은 좌석 카운터(enrolledCount)를 그대로 사용하고, 본인 신청 상태와 대기 순번을 함께 내려줍니다.
+        EnrollmentEntity enrollment = enrollmentRepository.findByStudent_UserIdAndCourse_CourseId(studentId, courseId)
+                .orElse(null);
+        if (enrollment != null) {
+            Long waitlistRank = CourseWaitlist.WAITLISTED.equals(enrollment.getStatus())
+                    ? courseWaitlist.rankOf(enrollment)
+                    : null;
+            return new CourseDetailResponseDto(course, enrollment.getStatus(), waitlistRank, canEnroll);
+        }
+        boolean lotteryApplied = course.isLotteryMode()
+                && enrollmentPreferenceRepository.existsByStudent_UserIdAndCourse_CourseId(studentId, courseId);
+        return new CourseDetailResponseDto(course, lotteryApplied ? CourseEntity.ALLOCATION_LOTTERY : null, null, canEnroll);
     }
 
+    /**
+     * 수강 신청. 정원이 찼으면 대기자 명단(WAITLISTED)에 등록하고 대기 순번을 반환합니다.
+     */
     @Transactional
-    public void enrollInCourse(Long studentId, Long courseId) {
+    public EnrollmentResultDto enrollInCourse(Long studentId, Long courseId) {
         // 1. 출석률 자격 확인
         if (!checkEnrollmentEligibility(studentId)) {
             throw new IllegalStateException("출석률 미달로 수강 신청을 할 수 없습니다.");
         }
 
-        UserEntity student = userRepository.findById(studentId)
-                .orElseThrow(() -> new EntityNotFoundException("학생을 찾을 수 없습니다."));
         CourseEntity course = courseRepository.findById(courseId)
                 .orElseThrow(() -> new EntityNotFoundException("강좌를 찾을 수 없습니다."));
 
-        // 2. 이미 수강 중인지 확인
+        // 2. 이미 수강 중(또는 대기 중)인지 확인
         if (enrollmentRepository.findByStudent_UserIdAndCourse_CourseId(studentId, courseId).isPresent()) {
             throw new IllegalStateException("이미 수강 신청된 강좌입니다.");
         }
 
-        // 3. 정원 초과 확인 (수정됨: currentCount >= capacity 일 때 에러)
-        long currentEnrollmentCount = enrollmentRepository.countByCourse_CourseIdAndStatus(courseId, "ACTIVE");
+        // 추첨 모드 강좌는 신청 기간 동안 희망 기록만 남기고, 마감 후 일괄 추첨합니다.
+        if (course.isLotteryMode()) {
+            if (course.isLotteryClosed(Instant.now())) {
+                throw new IllegalStateException("추첨 신청 기간이 마감되었습니다.");
+            }
+            if (enrollmentPreferenceRepository.existsByStudent_UserIdAndCourse_CourseId(studentId, courseId)) {
+                throw new IllegalStateException("이미 추첨 신청된 강좌입니다.");
+            }
+            enrollmentPreferenceRepository.save(EnrollmentPreferenceEntity.builder()
+                    .student(userRepository.getReferenceById(studentId))
+                    .course(course)
+                    .build());
+            return new EnrollmentResultDto(CourseEntity.ALLOCATION_LOTTERY, null);
+        }
 
-        // [FIX] 기존 로직 오류 수정: 인원이 정원보다 같거나 많으면 신청 불가
-        if (currentEnrollmentCount >= course.getCapacity()) {
-            throw new IllegalStateException("수강 정원이 초과되어 신청할 수 없습니다.");
+        // 3. 좌석 확보: 정원 미만일 때만 카운터가 증가하는 원자적 UPDATE (COUNT 후 INSERT 경쟁 제거)
+        Long waitlistPosition = null;
+        if (!courseSeatLedger.tryReserve(courseId)) {
+            // 대기 번호 발급으로 강좌 행을 잠근 뒤 한 번 더 시도합니다.
+            // 그 사이 반납된 좌석이 대기자 없이 비어 있는 일을 막기 위함입니다.
+            long ticket = courseWaitlist.issueTicket(courseId);
+            if (!courseSeatLedger.tryReserve(courseId)) {
+                waitlistPosition = ticket;
+            }
         }
 
         EnrollmentEntity enrollment = EnrollmentEntity.builder()
-                .student(student)
+                .student(userRepository.getReferenceById(studentId))
                 .course(course)
-                .status("ACTIVE")
+                .status(waitlistPosition == null ? "ACTIVE" : CourseWaitlist.WAITLISTED)
+                .waitlistPosition(waitlistPosition)
                 .build();
         enrollmentRepository.save(enrollment);
+
+        if (waitlistPosition != null) {
+            return new EnrollmentResultDto(CourseWaitlist.WAITLISTED, courseWaitlist.rankOf(enrollment));
+        }
+        eventPublisher.publishEvent(new StudentStandingChangedEvent(List.of(studentId)));
+        return new EnrollmentResultDto("ACTIVE", null);
     }
 
     private boolean checkEnrollmentEligibility(Long studentId) {
-        // [FIX] 수강 이력이 없는 경우(신입생), 출석률 검사를 건너뛰고 수강 신청 허용
-        List<EnrollmentEntity> enrollments = enrollmentRepository.findByStudent_UserId(studentId);
-        if (enrollments.isEmpty()) {
-            return true;
-        }
+        return getStanding(studentId).isEligible();
+    }
 
-        MyCoursesResponseDto myCourses = getMyCoursesAndAttendance(studentId);
-        return myCourses.getOverallAttendanceRate() >= MIN_ATTENDANCE_RATE;
+    /**
+     * 학생의 수강 자격(전체 출석률, 신청 가능 여부)을 반환합니다.
+     * 수강 정보의 출결 카운터로 계산한 값을 캐시하며, 수강/출결 변경 시 무효화됩니다.
+     * (트랜잭션 스냅샷보다 먼저 세대를 확인하도록 트랜잭션의 첫 조회로 호출하는 것이 좋습니다.)
+     */
+    public StudentStanding getStanding(Long studentId) {
+        return studentStandingCache.get(studentId, () -> {
+            // 대기 중인 신청은 출석 기록이 없으므로 제외
+            List<EnrollmentEntity> enrollments = enrollmentRepository.findByStudent_UserId(studentId).stream()
+                    .filter(enrollment -> !CourseWaitlist.WAITLISTED.equals(enrollment.getStatus()))
+                    .collect(Collectors.toList());
+            // [FIX] 수강 이력이 없는 경우(신입생), 출석률 검사를 건너뛰고 수강 신청 허용
+            if (enrollments.isEmpty()) {
+                return new StudentStanding(0.0, true);
+            }
+            double overallRate = enrollments.stream().mapToDouble(EnrollmentEntity::getAttendanceRate).sum() / enrollments.size();
+            return new StudentStanding(overallRate, overallRate >= MIN_ATTENDANCE_RATE);
+        });
     }
 
     @Transactional
     public void cancelEnrollment(Long studentId, Long courseId) {
         EnrollmentEntity enrollment = enrollmentRepository.findByStudent_UserIdAndCourse_CourseId(studentId, courseId)
-                .orElseThrow(() -> new EntityNotFoundException("Enrollment not found for this student and course."));
+                .orElse(null);
+        if (enrollment == null) {
+            // 추첨 전이면 희망 기록만 삭제
+            if (enrollmentPreferenceRepository.deleteByStudentIdAndCourseId(studentId, courseId) == 0) {
+                throw new EntityNotFoundException("Enrollment not found for this student and course.");
+            }
+            return;
+        }
 
         enrollmentRepository.delete(enrollment);
+        if ("ACTIVE".equals(enrollment.getStatus())) {
+            // 반납된 좌석은 같은 트랜잭션에서 대기 1순위에게 넘어갑니다.
+            courseSeatLedger.release(courseId);
+            courseWaitlist.promoteNext(courseId);
+        }
+        eventPublisher.publishEvent(new StudentStandingChangedEvent(List.of(studentId)));
     }
 
     public MyCoursesResponseDto getMyCoursesAndAttendance(Long studentId) {
-        List<EnrollmentEntity> enrollments = enrollmentRepository.findByStudent_UserId(studentId);
-
-        List<MyCoursesResponseDto.MyCourseDto> courseDtos = enrollments.stream()
-                .map(enrollment -> {
-                    List<String> attendanceRecords = attendanceRepository.findStatusByEnrollmentId(enrollment.getEnrollmentId());
-                    return new MyCoursesResponseDto.MyCourseDto(enrollment, attendanceRecords);
-                })
-                .collect(Collectors.toList());
-
-        return new MyCoursesResponseDto(courseDtos);
+        // 출결 횟수는 수강 정보의 누적 카운터를 사용하므로 출결 행을 읽지 않습니다.
+        // 강좌명/교사명/대기 순번까지 한 번의 projection 쿼리로 조회합니다.
+        return new MyCoursesResponseDto(enrollmentRepository.findMyCourses(studentId));
     }
 
     public List<SurveyListDto> getAvailableSurveys(Long studentId) {
-        List<Long> enrolledCourseIds = enrollmentRepository.findActiveCourseIdsByStudent_UserId(studentId);
+        // 수강 중인 강좌의 설문과 전체 설문 중 오늘 진행 중인 것만, 강좌명과 함께 한 번에 조회
+        List<SurveyListDto> activeSurveys = surveyRepository.findActiveSurveysForStudent(studentId, LocalDate.now());
+        if (activeSurveys.isEmpty()) {
+            return List.of();
+        }
 
-        List<SurveyEntity> courseSurveys = surveyRepository.findByCourse_CourseIdIn(enrolledCourseIds);
-        List<SurveyEntity> globalSurveys = surveyRepository.findByCourseIsNull();
+        // 이미 응답한 설문 ID를 한 번의 쿼리로 조회한 뒤 메모리에서 확인
+        Set<Long> answeredSurveyIds = surveyResponseRepository.findAnsweredSurveyIds(studentId,
+                activeSurveys.stream().map(SurveyListDto::getSurveyId).collect(Collectors.toList()));
 
-        LocalDate today = LocalDate.now();
-
-        return Stream.concat(courseSurveys.stream(), globalSurveys.stream())
-                .distinct()
-                .filter(survey -> {
-                    LocalDate start = survey.getStartDate() != null ? survey.getStartDate() : LocalDate.MIN;
-                    LocalDate end = survey.getEndDate() != null ? survey.getEndDate() : LocalDate.MAX;
-                    return !start.isAfter(today) && !end.isBefore(today);
-                })
-                .map(survey -> {
-                    boolean isSubmitted = surveyResponseRepository.existsByQuestion_Survey_SurveyIdAndRespondent_UserId(survey.getSurveyId(), studentId);
-                    return new SurveyListDto(survey, isSubmitted);
-                })
-                .filter(dto -> !dto.isSubmitted())
+        return activeSurveys.stream()
+                .filter(survey -> !answeredSurveyIds.contains(survey.getSurveyId()))
                 .collect(Collectors.toList());
     }
 
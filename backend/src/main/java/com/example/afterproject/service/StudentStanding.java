@@ -0,0 +1,14 @@
+package com.example.afterproject.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 학생의 수강 자격 상태 (전체 출석률과 수강 신청 가능 여부)
+ */
+@Getter
+@AllArgsConstructor
+public class StudentStanding {
+    private final double overallAttendanceRate;
+    private final boolean eligible;
+}
@@ -0,0 +1,68 @@
+package com.example.afterproject.service;
+
+import com.example.afterproject.config.PrimaryReadExecutor;
+import com.example.afterproject.event.StudentStandingChangedEvent;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 학생별 수강 자격(StudentStanding) 캐시입니다.
+ * 해당 학생의 수강 정보나 출결이 바뀐 트랜잭션이 커밋될 때만 무효화됩니다.
+ *
+ * 계산 도중 무효화가 일어나면 이전 값이 캐시에 남지 않도록, 학생 ID를 나눈
+ * 구간(stripe)마다 세대 번호를 두고 계산 전후의 세대가 같을 때만 저장합니다.
+ * 로더는 replica 지연의 영향을 받지 않도록 항상 primary에서 실행합니다.
+ *
+ * 인스턴스별 캐시입니다. 무효화 이벤트는 같은 JVM 안에서만 전달되므로, 서버를 여러 대로 늘리면
+ * 다른 인스턴스에서 일어난 변경은 반영되지 않습니다. (현재는 단일 인스턴스 배포를 전제로 합니다.)
+ */
+@Component
+@RequiredArgsConstructor
+public class StudentStandingCache {
+
+    private static final int STRIPES = 1024;
+
+    private final Map<Long, StudentStanding> standings = new ConcurrentHashMap<>();
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+    private final PrimaryReadExecutor primaryReadExecutor;
+
+    @Value("${student.standing-cache.max-size:20000}")
+    private int maxSize;
+
+    public StudentStanding get(Long studentId, Supplier<StudentStanding> loader) {
+        StudentStanding cached = standings.get(studentId);
+        if (cached != null) {
+            return cached;
+        }
+        int stripe = stripe(studentId);
+        long generation = generations.get(stripe);
+        StudentStanding computed = primaryReadExecutor.read(loader);
+        if (generations.get(stripe) == generation) {
+            if (standings.size() >= maxSize) {
+                standings.clear();
+            }
+            standings.put(studentId, computed);
+        }
+        return computed;
+    }
+
+    public void evict(Long studentId) {
+        generations.incrementAndGet(stripe(studentId));
+        standings.remove(studentId);
+    }
+
+    @TransactionalEventListener
+    public void onStandingChanged(StudentStandingChangedEvent event) {
+        event.getStudentIds().forEach(this::evict);
+    }
+
+    private int stripe(Long studentId) {
+        return Long.hashCode(studentId) & (STRIPES - 1);
+    }
+}
@@ -17,6 +17,8 @@ import com.example.afterproject.entity.NoticeEntity;
 import com.example.afterproject.entity.SurveyEntity;
 import com.example.afterproject.entity.SurveyQuestionEntity;
 import com.example.afterproject.entity.UserEntity;
+import com.example.afterproject.event.CourseCatalogChangedEvent;
+import com.example.afterproject.event.StudentStandingChangedEvent;
 import com.example.afterproject.repository.AttendanceRepository;
 import com.example.afterproject.repository.CourseRepository;
 import com.example.afterproject.repository.EnrollmentRepository;
@@ -26,10 +28,13 @@ import com.example.afterproject.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -44,6 +49,7 @@ public class TeacherCourseService {
     private final EnrollmentRepository enrollmentRepository;
     private final NoticeRepository noticeRepository;
     private final AttendanceRepository attendanceRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CourseDto createCourse(Long teacherId, CourseCreateDto createDto) {
@@ -64,14 +70,8 @@ public class TeacherCourseService {
         if (!userRepository.existsById(teacherId)) {
             throw new EntityNotFoundException("Teacher not found with id: " + teacherId);
         }
-        List<CourseEntity> courses = courseRepository.findByTeacher_UserId(teacherId);
-        return courses.stream()
-                .map(course -> {
-                    CourseDto dto = new CourseDto(course);
-                    long count = enrollmentRepository.countByCourse_CourseIdAndStatus(course.getCourseId(), "ACTIVE");
-                    dto.setCurrentEnrollmentCount(count);
-                    return dto;
-                })
+        return courseRepository.findCourseSummariesByTeacherId(teacherId).stream()
+                .map(CourseDto::new)
                 .collect(Collectors.toList());
     }
 
@@ -106,75 +106,78 @@ public class TeacherCourseService {
         }
 
         CourseEntity updatedCourse = courseRepository.save(course);
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(courseId));
         return new CourseDto(updatedCourse);
     }
 
     @Transactional(readOnly = true)
     public List<EnrolledStudentDto> getEnrolledStudents(Long teacherId, Long courseId) {
-        courseRepository.findByCourseIdAndTeacher_UserId(courseId, teacherId)
-                .orElseThrow(() -> new SecurityException("You do not have permission to view this course's students."));
-
-        List<EnrollmentEntity> enrollments = enrollmentRepository.findByCourse_CourseIdAndStatus(courseId, "ACTIVE");
+        if (!courseRepository.existsByCourseIdAndTeacher_UserId(courseId, teacherId)) {
+            throw new SecurityException("You do not have permission to view this course's students.");
+        }
 
-        return enrollments.stream()
-                .map(enrollment -> new EnrolledStudentDto(enrollment.getStudent()))
-                .collect(Collectors.toList());
+        return enrollmentRepository.findActiveStudentsByCourseId(courseId);
     }
 
     @Transactional(readOnly = true)
     public List<AttendanceDto> getAttendanceByDate(Long teacherId, Long courseId, LocalDate classDate) {
-        courseRepository.findByCourseIdAndTeacher_UserId(courseId, teacherId)
-                .orElseThrow(() -> new SecurityException("You do not have permission to view this course's attendance."));
-
-        List<EnrollmentEntity> enrollments = enrollmentRepository.findByCourse_CourseIdAndStatus(courseId, "ACTIVE");
-        List<AttendanceEntity> attendances = attendanceRepository.findByClassDateAndEnrollment_Course_CourseId(classDate, courseId);
-
-        Map<Long, AttendanceEntity> attendanceMap = attendances.stream()
-                .collect(Collectors.toMap(att -> att.getEnrollment().getEnrollmentId(), att -> att));
-
-        return enrollments.stream()
-                .map(enrollment -> {
-                    AttendanceEntity attendance = attendanceMap.get(enrollment.getEnrollmentId());
-                    if (attendance != null) {
-                        return new AttendanceDto(attendance);
-                    } else {
-                        return new AttendanceDto(enrollment, classDate);
-                    }
-                })
-                .collect(Collectors.toList());
+        if (!courseRepository.existsByCourseIdAndTeacher_UserId(courseId, teacherId)) {
+            throw new SecurityException("You do not have permission to view this course's attendance.");
+        }
+
+        // 수강생 명단과 해당 날짜의 출결 기록을 한 번에 조회 (기록이 없으면 PRESENT)
+        return enrollmentRepository.findAttendanceSheet(courseId, classDate);
     }
 
     @Transactional
     public void recordAttendance(Long teacherId, Long courseId, AttendanceUpdateDto updateDto) {
-        courseRepository.findByCourseIdAndTeacher_UserId(courseId, teacherId)
-                .orElseThrow(() -> new SecurityException("You do not have permission to record attendance for this course."));
+        if (!courseRepository.existsByCourseIdAndTeacher_UserId(courseId, teacherId)) {
+            throw new SecurityException("You do not have permission to record attendance for this course.");
+        }
 
         LocalDate classDate = updateDto.getClassDate();
 
+        Map<Long, String> statusByEnrollmentId = new LinkedHashMap<>();
         for (AttendanceUpdateDto.StudentAttendanceDto studentDto : updateDto.getStudents()) {
-            EnrollmentEntity enrollment = enrollmentRepository.findById(studentDto.getEnrollmentId())
-                    .orElseThrow(() -> new EntityNotFoundException("Enrollment not found with id: " + studentDto.getEnrollmentId()));
+            statusByEnrollmentId.put(studentDto.getEnrollmentId(), studentDto.getStatus());
+        }
+        if (statusByEnrollmentId.isEmpty()) {
+            return;
+        }
+
+        // 1. 모든 수강 ID의 소유권을 한 번에 확인하고 행을 잠급니다. (2~4단계는 잠금 이후에 실행)
+        List<EnrollmentEntity> enrollments = enrollmentRepository
+                .findAllForAttendanceUpdate(statusByEnrollmentId.keySet(), courseId);
+        if (enrollments.size() != statusByEnrollmentId.size()) {
+            Set<Long> ownedIds = enrollments.stream().map(EnrollmentEntity::getEnrollmentId).collect(Collectors.toSet());
+            Long foreignId = statusByEnrollmentId.keySet().stream().filter(id -> !ownedIds.contains(id)).findFirst().orElse(null);
+            throw new SecurityException("Enrollment id " + foreignId + " does not belong to course id " + courseId);
+        }
 
-            if (!enrollment.getCourse().getCourseId().equals(courseId)) {
-                throw new SecurityException("Enrollment id " + enrollment.getEnrollmentId() + " does not belong to course id " + courseId);
-            }
+        // 2. 기존 출결 상태 조회 (출결 카운터 보정용)
+        Map<Long, String> previousStatuses = attendanceRepository
+                .findByClassDateAndEnrollment_EnrollmentIdIn(classDate, statusByEnrollmentId.keySet()).stream()
+                .collect(Collectors.toMap(att -> att.getEnrollment().getEnrollmentId(), AttendanceEntity::getStatus));
 
-            AttendanceEntity attendance = attendanceRepository
-                    .findByEnrollment_EnrollmentIdAndClassDate(enrollment.getEnrollmentId(), classDate)
-                    .orElse(new AttendanceEntity(enrollment, classDate, studentDto.getStatus()));
+        // 3. 출석부 전체를 하나의 배치 UPSERT로 저장
+        attendanceRepository.upsertAll(classDate, statusByEnrollmentId);
 
-            attendance.setStatus(studentDto.getStatus());
-            attendanceRepository.save(attendance);
+        // 4. 수강 정보의 출결 카운터 갱신 (커밋 시 JDBC 배치로 반영)
+        for (EnrollmentEntity enrollment : enrollments) {
+            Long enrollmentId = enrollment.getEnrollmentId();
+            enrollment.applyAttendanceChange(previousStatuses.get(enrollmentId), statusByEnrollmentId.get(enrollmentId));
         }
+        eventPublisher.publishEvent(new StudentStandingChangedEvent(
+                enrollments.stream().map(enrollment -> enrollment.getStudent().getUserId()).collect(Collectors.toList())));
     }
 
     @Transactional(readOnly = true)
     public List<NoticeDto> getCourseNotices(Long teacherId, Long courseId) {
-        courseRepository.findByCourseIdAndTeacher_UserId(courseId, teacherId)
-                .orElseThrow(() -> new SecurityException("You do not have permission to view this course's notices."));
-        
-        List<NoticeEntity> notices = noticeRepository.findByCourse_CourseId(courseId);
-        return notices.stream().map(NoticeDto::new).collect(Collectors.toList());
+        if (!courseRepository.existsByCourseIdAndTeacher_UserId(courseId, teacherId)) {
+            throw new SecurityException("You do not have permission to view this course's notices.");
+        }
+
+        return noticeRepository.findNoticeDtosByCourseId(courseId);
     }
 
     @Transactional
@@ -197,8 +200,9 @@ public class TeacherCourseService {
 
     @Transactional
     public NoticeDto updateCourseNotice(Long teacherId, Long courseId, Long noticeId, NoticeCreateDto updateDto) {
-        courseRepository.findByCourseIdAndTeacher_UserId(courseId, teacherId)
-                .orElseThrow(() -> new SecurityException("You do not have permission to update notices for this course."));
+        if (!courseRepository.existsByCourseIdAndTeacher_UserId(courseId, teacherId)) {
+            throw new SecurityException("You do not have permission to update notices for this course.");
+        }
 
         NoticeEntity notice = noticeRepository.findByNoticeIdAndCourse_CourseId(noticeId, courseId)
                 .orElseThrow(() -> new EntityNotFoundException("Notice not found with id: " + noticeId + " for this course."));
@@ -212,8 +216,9 @@ public class TeacherCourseService {
 
     @Transactional
     public void deleteCourseNotice(Long teacherId, Long courseId, Long noticeId) {
-        courseRepository.findByCourseIdAndTeacher_UserId(courseId, teacherId)
-                .orElseThrow(() -> new SecurityException("You do not have permission to delete notices for this course."));
+        if (!courseRepository.existsByCourseIdAndTeacher_UserId(courseId, teacherId)) {
+            throw new SecurityException("You do not have permission to delete notices for this course.");
+        }
 
         NoticeEntity notice = noticeRepository.findByNoticeIdAndCourse_CourseId(noticeId, courseId)
                 .orElseThrow(() -> new EntityNotFoundException("Notice not found with id: " + noticeId + " for this course."));
@@ -223,8 +228,9 @@ public class TeacherCourseService {
 
     @Transactional(readOnly = true)
     public List<SurveyListDto> getCourseSurveys(Long teacherId, Long courseId) {
-        courseRepository.findByCourseIdAndTeacher_UserId(courseId, teacherId)
-                .orElseThrow(() -> new SecurityException("You do not have permission to view this course's surveys."));
+        if (!courseRepository.existsByCourseIdAndTeacher_UserId(courseId, teacherId)) {
+            throw new SecurityException("You do not have permission to view this course's surveys.");
+        }
 
         List<SurveyEntity> surveys = surveyRepository.findByCourse_CourseId(courseId);
         return surveys.stream()
@@ -0,0 +1,182 @@
+package com.example.afterproject.service;
+
+import com.example.afterproject.dto.admin.UserImportEventDto;
+import com.example.afterproject.entity.UserEntity;
+import com.example.afterproject.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * CSV(email,password,name,role,studentIdNo)로 사용자를 일괄 등록합니다.
+ * 중복 이메일/학번은 IN 쿼리로 한 번에 확인하고, BCrypt 암호화는 코어 수만큼의 고정 스레드 풀에서 병렬로 수행하며,
+ * 저장은 user-import.batch-size 단위의 JDBC 배치로 처리합니다. 진행 상황과 행별 오류는 listener로 전달됩니다.
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    private static final Set<String> ROLES = Set.of("STUDENT", "TEACHER", "ADMIN");
+    private static final int QUERY_CHUNK_SIZE = 1000;
+
+    private record Row(int line, String email, String password, String name, String role, String studentIdNo) {
+    }
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor hashExecutor;
+    private final int batchSize;
+
+    public UserImportService(UserRepository userRepository,
+                             PasswordEncoder passwordEncoder,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${user-import.hash-threads:0}") int hashThreads,
+                             @Value("${user-import.batch-size:200}") int batchSize) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 대기열이 차면 호출 스레드가 직접 암호화하므로 동시에 암호화하는 작업 수가 제한됩니다.
+        this.hashExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads * 2),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "user-import-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.hashExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashExecutor.shutdownNow();
+    }
+
+    public void importCsv(String csv, Consumer<UserImportEventDto> listener) {
+        String[] lines = csv.split("\\r?\\n");
+        List<Row> rows = new ArrayList<>();
+        int total = 0;
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i].trim();
+            if (line.isEmpty() || (i == 0 && line.toLowerCase().startsWith("email"))) {
+                continue;
+            }
+            total++;
+            String[] columns = line.split(",", -1);
+            if (columns.length < 4 || columns.length > 5) {
+                listener.accept(UserImportEventDto.error(i + 1, null, "열 개수가 올바르지 않습니다. (email,password,name,role,studentIdNo)"));
+                continue;
+            }
+            String studentIdNo = columns.length == 5 && !columns[4].isBlank() ? columns[4].trim() : null;
+            rows.add(new Row(i + 1, columns[0].trim(), columns[1].trim(), columns[2].trim(), columns[3].trim().toUpperCase(), studentIdNo));
+        }
+
+        List<Row> valid = validate(rows, listener);
+        int processed = total - valid.size();
+        int imported = 0;
+        for (int from = 0; from < valid.size(); from += batchSize) {
+            List<Row> batch = valid.subList(from, Math.min(from + batchSize, valid.size()));
+            imported += insert(batch, hash(batch), listener);
+            processed += batch.size();
+            listener.accept(UserImportEventDto.progress(processed, imported, total));
+        }
+        log.info("User import finished: {} imported, {} rows", imported, total);
+        listener.accept(UserImportEventDto.done(processed, imported, total));
+    }
+
+    private List<Row> validate(List<Row> rows, Consumer<UserImportEventDto> listener) {
+        Set<String> existingEmails = findExisting(rows.stream().map(Row::email).toList(), userRepository::findExistingEmails);
+        Set<String> existingStudentIdNos = findExisting(rows.stream().map(Row::studentIdNo).filter(id -> id != null).toList(),
+                userRepository::findExistingStudentIdNos);
+
+        Set<String> seenEmails = new HashSet<>();
+        Set<String> seenStudentIdNos = new HashSet<>();
+        List<Row> valid = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            String error = null;
+            if (row.email().isEmpty() || row.password().isEmpty() || row.name().isEmpty()) {
+                error = "이메일, 비밀번호, 이름은 필수입니다.";
+            } else if (!ROLES.contains(row.role())) {
+                error = "역할은 STUDENT, TEACHER, ADMIN 중 하나여야 합니다.";
+            } else if (existingEmails.contains(row.email()) || !seenEmails.add(row.email())) {
+                error = "이미 가입된 이메일입니다.";
+            } else if (row.studentIdNo() != null
+                    && (existingStudentIdNos.contains(row.studentIdNo()) || !seenStudentIdNos.add(row.studentIdNo()))) {
+                error = "이미 등록된 학번입니다.";
+            }
+            if (error != null) {
+                listener.accept(UserImportEventDto.error(row.line(), row.email(), error));
+            } else {
+                valid.add(row);
+            }
+        }
+        return valid;
+    }
+
+    private Set<String> findExisting(List<String> values, Function<List<String>, Set<String>> query) {
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < values.size(); from += QUERY_CHUNK_SIZE) {
+            existing.addAll(query.apply(values.subList(from, Math.min(from + QUERY_CHUNK_SIZE, values.size()))));
+        }
+        return existing;
+    }
+
+    private List<UserEntity> hash(List<Row> batch) {
+        List<CompletableFuture<UserEntity>> futures = batch.stream()
+                .map(row -> CompletableFuture.supplyAsync(() -> toEntity(row), hashExecutor))
+                .toList();
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private UserEntity toEntity(Row row) {
+        UserEntity user = new UserEntity();
+        user.setEmail(row.email());
+        user.setPassword(passwordEncoder.encode(row.password()));
+        user.setName(row.name());
+        user.setRole(row.role());
+        user.setStudentIdNo(row.studentIdNo());
+        return user;
+    }
+
+    private int insert(List<Row> batch, List<UserEntity> users, Consumer<UserImportEventDto> listener) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> userRepository.insertAll(users));
+            return users.size();
+        } catch (DataIntegrityViolationException e) {
+            // 확인 이후 다른 경로로 가입된 사용자가 있으면 행 단위로 다시 저장해 실패한 행만 보고합니다.
+            int imported = 0;
+            for (int i = 0; i < users.size(); i++) {
+                UserEntity user = users.get(i);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> userRepository.insertAll(List.of(user)));
+                    imported++;
+                } catch (DataIntegrityViolationException rowError) {
+                    listener.accept(UserImportEventDto.error(batch.get(i).line(), user.getEmail(), "이미 가입된 이메일 또는 학번입니다."));
+                }
+            }
+            return imported;
+        }
+    }
+}
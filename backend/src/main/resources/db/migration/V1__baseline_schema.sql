@@ -0,0 +1,154 @@
+-- Flyway 도입 전 ddl-auto=update 가 운영 DB에 만들어 둔 스키마(좌석/출결 카운터, 대기자, 추첨 기능 이전)입니다.
+-- 이미 운영 중인 DB는 baseline-on-migrate 로 이 버전을 건너뛰고 V2부터 적용합니다.
+-- 이후의 컬럼/테이블/인덱스 추가는 이 파일이 아니라 새 버전의 마이그레이션으로 작성합니다.
+
+create table after_attendance (
+    class_date date not null,
+    attendance_id bigint not null auto_increment,
+    enrollment_id bigint not null,
+    status varchar(255) not null,
+    primary key (attendance_id)
+) engine=InnoDB;
+
+create table after_courses (
+    after_school_end_date date,
+    capacity integer not null,
+    is_ended bit,
+    quarter integer,
+    course_id bigint not null auto_increment,
+    created_at datetime(6),
+    ended_at datetime(6),
+    teacher_id bigint not null,
+    category varchar(255),
+    course_days varchar(255),
+    course_name varchar(255) not null,
+    course_time varchar(255),
+    location varchar(255),
+    quarter_label varchar(255),
+    status varchar(255) not null,
+    description tinytext,
+    primary key (course_id)
+) engine=InnoDB;
+
+create table after_enrollments (
+    course_id bigint not null,
+    enrolled_at datetime(6),
+    enrollment_id bigint not null auto_increment,
+    student_id bigint not null,
+    status varchar(255) not null,
+    primary key (enrollment_id)
+) engine=InnoDB;
+
+create table after_notices (
+    author_id bigint not null,
+    course_id bigint,
+    created_at datetime(6),
+    notice_id bigint not null auto_increment,
+    updated_at datetime(6),
+    title varchar(255) not null,
+    content longtext,
+    primary key (notice_id)
+) engine=InnoDB;
+
+create table after_survey_questions (
+    question_id bigint not null auto_increment,
+    survey_id bigint not null,
+    question_text varchar(1000) not null,
+    question_type varchar(255) not null,
+    options longtext,
+    primary key (question_id)
+) engine=InnoDB;
+
+create table after_survey_responses (
+    question_id bigint not null,
+    respondent_id bigint not null,
+    response_id bigint not null auto_increment,
+    submitted_at datetime(6),
+    response_content tinytext,
+    primary key (response_id)
+) engine=InnoDB;
+
+create table after_surveys (
+    end_date date,
+    start_date date,
+    author_id bigint not null,
+    course_id bigint,
+    created_at datetime(6),
+    survey_id bigint not null auto_increment,
+    title varchar(255) not null,
+    primary key (survey_id)
+) engine=InnoDB;
+
+create table after_users (
+    user_id bigint not null auto_increment,
+    email varchar(255) not null,
+    name varchar(255) not null,
+    password varchar(255) not null,
+    role varchar(255) not null,
+    student_id_no varchar(255),
+    primary key (user_id)
+) engine=InnoDB;
+
+alter table after_enrollments
+   add constraint UK2m6vou11h9qmsa8gxm66vdkqj unique (student_id, course_id);
+
+alter table after_users
+   add constraint UK6ljlu1767pjha7vqwr0aml0hn unique (email);
+
+alter table after_users
+   add constraint UK9f5dg8ra1qhnv7geuhtc7j07d unique (student_id_no);
+
+alter table after_attendance
+   add constraint FKa6t6kfekio0aj80mbnhkvxl2f
+   foreign key (enrollment_id)
+   references after_enrollments (enrollment_id);
+
+alter table after_courses
+   add constraint FKlgnn15a0g9mof4c6qx1gooo0k
+   foreign key (teacher_id)
+   references after_users (user_id);
+
+alter table after_enrollments
+   add constraint FK7d5y30ua87egdnupnqrpue7n2
+   foreign key (course_id)
+   references after_courses (course_id);
+
+alter table after_enrollments
+   add constraint FKp3cbnast61fx15u4g42qhdcim
+   foreign key (student_id)
+   references after_users (user_id);
+
+alter table after_notices
+   add constraint FKa4fb216dwmykbmmmb0ypbbjvy
+   foreign key (author_id)
+   references after_users (user_id);
+
+alter table after_notices
+   add constraint FKl54xg6dwvitretvx5pjceclmw
+   foreign key (course_id)
+   references after_courses (course_id);
+
+alter table after_survey_questions
+   add constraint FK6xq9p3ygxptsy2a77tr1k8we2
+   foreign key (survey_id)
+   references after_surveys (survey_id);
+
+alter table after_survey_responses
+   add constraint FK3ednf77w18601ebvf3mvs5w93
+   foreign key (question_id)
+   references after_survey_questions (question_id);
+
+alter table after_survey_responses
+   add constraint FK6n2g3ifxe8fllcglf1havvu0c
+   foreign key (respondent_id)
+   references after_users (user_id);
+
+alter table after_surveys
+   add constraint FK7d0eevaoh8og35029ghq7d0ue
+   foreign key (author_id)
+   references after_users (user_id);
+
+alter table after_surveys
+   add constraint FKgpic86ca80f70rudu8leub3i3
+   foreign key (course_id)
+   references after_courses (course_id);
@@ -0,0 +1,40 @@
+-- 강좌별 좌석 카운터와 수강별 출결 카운터
+-- 기존 데이터는 이 마이그레이션에서 한 번만 실제 수강/출결 기록으로 채웁니다. (이후에는 쓰기 경로에서 갱신)
+
+alter table after_courses
+   add column enrolled_count integer not null default 0;
+
+alter table after_enrollments
+   add column present_count integer not null default 0;
+
+alter table after_enrollments
+   add column absent_count integer not null default 0;
+
+alter table after_enrollments
+   add column late_count integer not null default 0;
+
+-- 같은 수업일의 중복 출결 기록은 가장 마지막 기록만 남기고 (수강, 수업일) 유니크 제약을 겁니다.
+-- 출결 카운터 채우기도 이 유니크 인덱스로 수강별 범위 조회가 됩니다.
+delete from after_attendance
+ where attendance_id not in (
+       select latest.attendance_id
+         from (select max(attendance_id) as attendance_id
+                 from after_attendance
+                group by enrollment_id, class_date) latest);
+
+alter table after_attendance
+   add constraint UKg7xhsi83qv9rw50jw2rwoh4c9 unique (enrollment_id, class_date);
+
+update after_courses c
+   set enrolled_count = (select count(*)
+                           from after_enrollments e
+                          where e.course_id = c.course_id
+                            and e.status = 'ACTIVE');
+
+update after_enrollments e
+   set present_count = (select count(*) from after_attendance a
+                         where a.enrollment_id = e.enrollment_id and a.status = 'PRESENT'),
+       absent_count = (select count(*) from after_attendance a
+                        where a.enrollment_id = e.enrollment_id and a.status = 'ABSENT'),
+       late_count = (select count(*) from after_attendance a
+                      where a.enrollment_id = e.enrollment_id and a.status = 'LATE');
@@ -0,0 +1,38 @@
+-- 강좌별 대기자 명단(대기 번호 발급 카운터, 수강별 대기 순번)과 추첨 배정 방식
+-- 기존 수강 정보는 모두 ACTIVE이고 기존 강좌는 선착순이므로 기본값으로 충분합니다.
+
+alter table after_courses
+   add column waitlist_sequence bigint not null default 0;
+
+alter table after_courses
+   add column allocation_mode varchar(255) not null default 'FCFS';
+
+alter table after_enrollments
+   add column waitlist_position bigint;
+
+create index idx_enrollments_course_status_waitlist
+   on after_enrollments (course_id, status, waitlist_position);
+
+create table after_enrollment_preferences (
+    course_id bigint not null,
+    created_at datetime(6),
+    preference_id bigint not null auto_increment,
+    student_id bigint not null,
+    primary key (preference_id)
+) engine=InnoDB;
+
+create index idx_preferences_course
+   on after_enrollment_preferences (course_id);
+
+alter table after_enrollment_preferences
+   add constraint UK4vlmudopre6i0oo9p90t2diea unique (student_id, course_id);
+
+alter table after_enrollment_preferences
+   add constraint FKpx5dhdkf6vmg8s0u84lrotpu1
+   foreign key (course_id)
+   references after_courses (course_id);
+
+alter table after_enrollment_preferences
+   add constraint FK1oi9yd2r8y36ykiegixhqt13d
+   foreign key (student_id)
+   references after_users (user_id);
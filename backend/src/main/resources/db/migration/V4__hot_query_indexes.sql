@@ -0,0 +1,19 @@
+-- 자주 호출되는 조회에 맞춘 복합 인덱스
+-- (course_id, status) 와 (enrollment_id, class_date) 조회는 V3 의 대기자 인덱스와 V2 의 출결 유니크 제약으로 이미 커버됩니다.
+
+-- CourseRepository.searchApprovedCourseSummaries / findCourseSummariesByStatus / findByStatus
+-- 학생 강좌 목록은 승인 상태 + 카테고리로 거르고, 종료 여부는 인덱스 안에서 확인합니다.
+create index idx_courses_status_category
+    on after_courses (status, category, is_ended);
+
+-- EnrollmentRepository.findActiveCourseIdsByStudent_UserId (course_id 까지 포함해 인덱스만으로 응답)
+create index idx_enrollments_student_status
+    on after_enrollments (student_id, status, course_id);
+
+-- SurveyResponseRepository.findAnsweredSurveyIds (응답자 + 문항)
+create index idx_survey_responses_respondent_question
+    on after_survey_responses (respondent_id, question_id);
+
+-- UserRepository.findByRole / findPageAfter / streamAll (role 필터 + user_id 순서)
+create index idx_users_role
+    on after_users (role, user_id);
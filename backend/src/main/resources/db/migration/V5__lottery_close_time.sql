@@ -0,0 +1,6 @@
+-- 추첨(LOTTERY) 강좌의 신청 마감 시각
+-- 마감 전에는 희망 기록만 받고, 일괄 배정은 마감 시각이 지난 추첨 강좌에만 실행합니다.
+-- 기존 추첨 강좌는 마감 시각이 없으므로 관리자가 방식을 다시 지정할 때까지 배정 대상이 아닙니다.
+
+alter table after_courses
+   add column lottery_closes_at datetime(6);
@@ -0,0 +1,6 @@
+-- 사용자별 토큰 버전
+-- 발급한 JWT에 "ver" 클레임으로 담고, 역할 변경 시 1 증가시켜 이전 토큰을 모든 인스턴스에서 무효화합니다.
+-- 기존 토큰에는 버전 클레임이 없으므로 0으로 간주합니다.
+
+alter table after_users
+   add column token_version integer not null default 0;
@@ -0,0 +1,126 @@
+package com.example.afterproject.config;
+
+import com.example.afterproject.entity.CourseEntity;
+import com.example.afterproject.entity.UserEntity;
+import com.example.afterproject.repository.CourseRepository;
+import com.example.afterproject.repository.UserRepository;
+import com.example.afterproject.security.CustomUserDetails;
+import com.example.afterproject.service.StudentService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 개의 H2 인스턴스(primary, replica)로 읽기/쓰기 라우팅과 read-your-writes 보장을 검증합니다.
+ * replica에는 복제가 일어나지 않으므로, primary에만 있는 데이터가 보이는지로 어느 쪽을 읽었는지 판별합니다.
+ */
+@SpringBootTest(properties = {
+        "datasource.replica.enabled=true",
+        "datasource.replica.urls=" + ReplicaRoutingDataSourceTest.REPLICA_URL,
+        "datasource.replica.read-your-writes-seconds=60"
+})
+@ActiveProfiles("test")
+class ReplicaRoutingDataSourceTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:afterproject-replica;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private StudentService studentService;
+    @Autowired
+    private PrimaryReadExecutor primaryReadExecutor;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplicaAndWritesToPrimary() {
+        userRepository.save(user("routing-user@test.com", "STUDENT", "S-ROUTING-1"));
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        Optional<UserEntity> fromReplica = readOnly.execute(status -> userRepository.findByEmail("routing-user@test.com"));
+        Optional<UserEntity> fromPrimary = readWrite.execute(status -> userRepository.findByEmail("routing-user@test.com"));
+
+        assertThat(fromReplica).isEmpty();
+        assertThat(fromPrimary).isPresent();
+    }
+
+    @Test
+    void cacheLoadersReadFromPrimaryInsideReadOnlyTransactions() {
+        userRepository.save(user("routing-cache@test.com", "STUDENT", "S-ROUTING-4"));
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        readOnly.executeWithoutResult(status -> {
+            // 바깥 readOnly 트랜잭션이 이미 replica 커넥션을 잡은 상태에서도 로더는 primary를 읽습니다.
+            assertThat(userRepository.findByEmail("routing-cache@test.com")).isEmpty();
+            assertThat(primaryReadExecutor.read(() -> userRepository.findByEmail("routing-cache@test.com"))).isPresent();
+            assertThat(userRepository.findByEmail("routing-cache@test.com")).isEmpty();
+        });
+    }
+
+    @Test
+    void studentSeesOwnEnrollmentRightAfterEnrolling() {
+        UserEntity teacher = userRepository.save(user("routing-teacher@test.com", "TEACHER", null));
+        CourseEntity course = courseRepository.save(CourseEntity.builder()
+                .teacher(teacher)
+                .courseName("라우팅 강좌")
+                .capacity(10)
+                .status("APPROVED")
+                .build());
+        UserEntity student = userRepository.save(user("routing-student@test.com", "STUDENT", "S-ROUTING-2"));
+        UserEntity other = userRepository.save(user("routing-other@test.com", "STUDENT", "S-ROUTING-3"));
+
+        authenticate(student);
+        studentService.enrollInCourse(student.getUserId(), course.getCourseId());
+        assertThat(studentService.getMyCoursesAndAttendance(student.getUserId()).getCourses()).hasSize(1);
+
+        // 쓰기를 하지 않은 다른 사용자의 읽기는 계속 replica로 갑니다.
+        authenticate(other);
+        assertThat(studentService.getMyCoursesAndAttendance(student.getUserId()).getCourses()).isEmpty();
+    }
+
+    private void authenticate(UserEntity user) {
+        CustomUserDetails principal = new CustomUserDetails(user.getUserId(), user.getEmail(), user.getRole());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private UserEntity user(String email, String role, String studentIdNo) {
+        UserEntity user = new UserEntity();
+        user.setEmail(email);
+        user.setPassword("{noop}password");
+        user.setName(email);
+        user.setRole(role);
+        user.setStudentIdNo(studentIdNo);
+        return user;
+    }
+}
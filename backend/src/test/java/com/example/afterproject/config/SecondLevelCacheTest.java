@@ -0,0 +1,163 @@
+package com.example.afterproject.config;
+
+import com.example.afterproject.entity.CourseEntity;
+import com.example.afterproject.entity.UserEntity;
+import com.example.afterproject.repository.CourseRepository;
+import com.example.afterproject.repository.UserRepository;
+import com.example.afterproject.service.CourseSeatLedger;
+import com.example.afterproject.support.QueryCountingDataSource;
+import com.example.afterproject.support.QueryCountingDataSourceConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 강좌/사용자 엔티티가 2차 캐시에서 읽히고, 카운터(JDBC)와 엔티티 수정 후에는 캐시가 무효화되는지 검증합니다.
+ */
+@SpringBootTest
+@Import(QueryCountingDataSourceConfig.class)
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+    private static final String COURSE_REGION = CourseEntity.class.getName();
+
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CourseSeatLedger courseSeatLedger;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void repeatedFindByIdIsServedFromCache() {
+        CourseEntity course = saveCourse("l2-teacher1@test.com");
+        CacheRegionStatistics statistics = regionStatistics();
+        long hitsBefore = statistics.getHitCount();
+
+        courseRepository.findById(course.getCourseId()).orElseThrow();
+        courseRepository.findById(course.getCourseId()).orElseThrow();
+
+        assertThat(statistics.getHitCount()).isGreaterThan(hitsBefore);
+        assertThat(meterRegistry.find("hibernate.second.level.cache.requests")
+                .tags("region", COURSE_REGION, "result", "hit")
+                .functionCounter()).isNotNull();
+    }
+
+    @Test
+    void seatCounterUpdateEvictsOnlyThatCourse() {
+        CourseEntity course = saveCourse("l2-teacher2@test.com");
+        CourseEntity other = saveCourse("l2-teacher3@test.com");
+        courseRepository.findById(course.getCourseId()).orElseThrow();
+        courseRepository.findById(other.getCourseId()).orElseThrow();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                assertThat(courseSeatLedger.tryReserve(course.getCourseId())).isTrue());
+
+        // 갱신한 강좌만 캐시에서 읽지 않고 DB의 새 값을 읽습니다.
+        CacheRegionStatistics statistics = regionStatistics();
+        long missesBefore = statistics.getMissCount();
+        long hitsBefore = statistics.getHitCount();
+        assertThat(courseRepository.findById(course.getCourseId()).orElseThrow().getEnrolledCount()).isEqualTo(1);
+        assertThat(statistics.getMissCount()).isEqualTo(missesBefore + 1);
+        courseRepository.findById(other.getCourseId()).orElseThrow();
+        assertThat(statistics.getHitCount()).isEqualTo(hitsBefore + 1);
+    }
+
+    /**
+     * 좌석 카운터를 갱신하는 트랜잭션이 커밋되기 전에 DB에서 강좌를 읽은 세션이,
+     * 커밋 이후에 그 (이전) 값을 2차 캐시에 넣어 새 값을 가리지 않는지 검증합니다.
+     */
+    @Test
+    void loadStartedBeforeSeatCounterCommitDoesNotCacheStaleCount() throws Exception {
+        CourseEntity course = saveCourse("l2-teacher5@test.com");
+        entityManagerFactory.getCache().evict(CourseEntity.class, course.getCourseId());
+        CountDownLatch readerQueried = new CountDownLatch(1);
+        CountDownLatch writerCommitted = new CountDownLatch(1);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        AtomicReference<CompletableFuture<Integer>> reader = new AtomicReference<>();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            assertThat(courseSeatLedger.tryReserve(course.getCourseId())).isTrue();
+            reader.set(CompletableFuture.supplyAsync(() -> readOnly.execute(readStatus -> {
+                // 조회 SQL이 커밋 전 스냅숏을 읽은 뒤, 쓰기 트랜잭션이 커밋될 때까지 결과 처리를 멈춥니다.
+                QueryCountingDataSource.afterExecute(() -> {
+                    QueryCountingDataSource.afterExecute(null);
+                    readerQueried.countDown();
+                    await(writerCommitted);
+                });
+                try {
+                    return courseRepository.findById(course.getCourseId()).orElseThrow().getEnrolledCount();
+                } finally {
+                    QueryCountingDataSource.afterExecute(null);
+                }
+            })));
+            await(readerQueried);
+        });
+        writerCommitted.countDown();
+
+        assertThat(reader.get().get(10, TimeUnit.SECONDS)).as("커밋 전에 읽은 값").isZero();
+        assertThat(courseRepository.findById(course.getCourseId()).orElseThrow().getEnrolledCount()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    void entityUpdateIsVisibleThroughCache() {
+        CourseEntity course = saveCourse("l2-teacher4@test.com");
+        courseRepository.findById(course.getCourseId()).orElseThrow();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                courseRepository.findById(course.getCourseId()).orElseThrow().setCourseName("변경된 강좌명"));
+
+        assertThat(courseRepository.findById(course.getCourseId()).orElseThrow().getCourseName()).isEqualTo("변경된 강좌명");
+    }
+
+    private CacheRegionStatistics regionStatistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics()
+                .getDomainDataRegionStatistics(COURSE_REGION);
+    }
+
+    private CourseEntity saveCourse(String teacherEmail) {
+        UserEntity teacher = new UserEntity();
+        teacher.setEmail(teacherEmail);
+        teacher.setPassword("{noop}password");
+        teacher.setName(teacherEmail);
+        teacher.setRole("TEACHER");
+        teacher = userRepository.save(teacher);
+        return courseRepository.save(CourseEntity.builder()
+                .teacher(teacher)
+                .courseName("캐시 강좌")
+                .capacity(10)
+                .status("APPROVED")
+                .build());
+    }
+}
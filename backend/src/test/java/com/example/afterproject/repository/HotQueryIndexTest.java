@@ -0,0 +1,180 @@
+package com.example.afterproject.repository;
+
+import com.example.afterproject.entity.CourseEntity;
+import com.example.afterproject.entity.EnrollmentEntity;
+import com.example.afterproject.entity.NoticeEntity;
+import com.example.afterproject.entity.UserEntity;
+import com.example.afterproject.support.QueryCountingDataSource;
+import com.example.afterproject.support.QueryCountingDataSource.CapturedStatement;
+import com.example.afterproject.support.QueryCountingDataSourceConfig;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자주 호출되는 리포지토리 조회가 Flyway 마이그레이션으로 만든 인덱스를 타는지 검증합니다.
+ * - 리포지토리 메서드를 실제로 호출하고, QueryCountingDataSource로 캡처한 SQL(바인딩 파라미터 포함)을 그대로 EXPLAIN 합니다.
+ * - 실행 계획에 전체 테이블 스캔(tableScan)이 나오면 실패합니다.
+ * - LIKE '%검색어%' 검색과 전체 목록 조회는 인덱스로 줄일 수 없으므로 대상에서 제외합니다.
+ */
+@SpringBootTest
+@Import(QueryCountingDataSourceConfig.class)
+@ActiveProfiles("test")
+class HotQueryIndexTest {
+
+    private static final LocalDate CLASS_DATE = LocalDate.of(2026, 3, 2);
+
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+    @Autowired
+    private NoticeRepository noticeRepository;
+    @Autowired
+    private SurveyRepository surveyRepository;
+    @Autowired
+    private SurveyResponseRepository surveyResponseRepository;
+    @Autowired
+    private EnrollmentPreferenceRepository enrollmentPreferenceRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TestFactory
+    Stream<DynamicTest> hotQueriesUseIndexes() {
+        Dataset d = seed();
+        return hotQueries().entrySet().stream().map(query -> DynamicTest.dynamicTest(query.getKey(), () -> {
+            List<CapturedStatement> selects = capture(d, query.getValue());
+            assertThat(selects).as("%s: 캡처된 SELECT", query.getKey()).isNotEmpty();
+
+            for (CapturedStatement select : selects) {
+                String plan = explain(select);
+                assertThat(plan)
+                        .as("%s 실행 계획:%n%s", query.getKey(), plan)
+                        .doesNotContainIgnoringCase("tableScan");
+            }
+        }));
+    }
+
+    @TestFactory
+    Stream<DynamicTest> categorySearchUsesStatusCategoryIndex() {
+        Dataset d = seed();
+        return Stream.of(DynamicTest.dynamicTest("CourseRepository.searchApprovedCourseSummaries(category)", () -> {
+            List<CapturedStatement> selects = capture(d, data -> courseRepository.searchApprovedCourseSummaries(null, data.category));
+            String plan = explain(selects.get(0));
+
+            assertThat(plan).as("실행 계획:%n%s", plan).containsIgnoringCase("idx_courses_status_category");
+        }));
+    }
+
+    private Map<String, Consumer<Dataset>> hotQueries() {
+        Map<String, Consumer<Dataset>> queries = new LinkedHashMap<>();
+        queries.put("CourseRepository.searchApprovedCourseSummaries", d -> courseRepository.searchApprovedCourseSummaries(null, d.category));
+        queries.put("CourseRepository.findApprovedCourseSummariesByIdIn", d -> courseRepository.findApprovedCourseSummariesByIdIn(List.of(d.course)));
+        queries.put("CourseRepository.findCourseSummariesByTeacherId", d -> courseRepository.findCourseSummariesByTeacherId(d.teacher));
+        queries.put("CourseRepository.findCourseSummariesByStatus", d -> courseRepository.findCourseSummariesByStatus("PENDING"));
+        queries.put("EnrollmentRepository.findActiveCourseIdsByStudent_UserId", d -> enrollmentRepository.findActiveCourseIdsByStudent_UserId(d.student));
+        queries.put("EnrollmentRepository.findByStudent_UserIdAndCourse_CourseId", d -> enrollmentRepository.findByStudent_UserIdAndCourse_CourseId(d.student, d.course));
+        queries.put("EnrollmentRepository.countByCourse_CourseIdAndStatus", d -> enrollmentRepository.countByCourse_CourseIdAndStatus(d.course, "ACTIVE"));
+        queries.put("EnrollmentRepository.findByCourse_CourseIdAndStatusOrderByWaitlistPositionAsc",
+                d -> enrollmentRepository.findByCourse_CourseIdAndStatusOrderByWaitlistPositionAsc(d.course, "WAITLISTED", Limit.of(1)));
+        queries.put("EnrollmentRepository.countByCourse_CourseIdAndStatusAndWaitlistPositionLessThanEqual",
+                d -> enrollmentRepository.countByCourse_CourseIdAndStatusAndWaitlistPositionLessThanEqual(d.course, "WAITLISTED", 3L));
+        queries.put("EnrollmentRepository.findMyCourses", d -> enrollmentRepository.findMyCourses(d.student));
+        queries.put("EnrollmentRepository.findActiveStudentsByCourseId", d -> enrollmentRepository.findActiveStudentsByCourseId(d.course));
+        queries.put("EnrollmentRepository.findAttendanceSheet", d -> enrollmentRepository.findAttendanceSheet(d.course, CLASS_DATE));
+        queries.put("AttendanceRepository.findByEnrollment_EnrollmentIdAndClassDate",
+                d -> attendanceRepository.findByEnrollment_EnrollmentIdAndClassDate(d.enrollment, CLASS_DATE));
+        queries.put("NoticeRepository.findNoticeDtosByCourseId", d -> noticeRepository.findNoticeDtosByCourseId(d.course));
+        queries.put("SurveyRepository.findActiveSurveysForStudent", d -> surveyRepository.findActiveSurveysForStudent(d.student, LocalDate.now()));
+        queries.put("SurveyResponseRepository.findAnsweredSurveyIds", d -> surveyResponseRepository.findAnsweredSurveyIds(d.student, List.of(1L, 2L, 3L)));
+        queries.put("EnrollmentPreferenceRepository.existsByStudent_UserIdAndCourse_CourseId",
+                d -> enrollmentPreferenceRepository.existsByStudent_UserIdAndCourse_CourseId(d.student, d.course));
+        queries.put("UserRepository.findByEmail", d -> userRepository.findByEmail(d.studentEmail));
+        queries.put("UserRepository.findPageAfter", d -> userRepository.findPageAfter(0L, "STUDENT", null, Limit.of(50)));
+        return queries;
+    }
+
+    /**
+     * 트랜잭션 안에서 조회를 실행하고, 그동안 실행된 SELECT 문을 돌려줍니다. (행 잠금 조회도 그대로 실행되도록 트랜잭션을 엽니다)
+     */
+    private List<CapturedStatement> capture(Dataset d, Consumer<Dataset> query) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            QueryCountingDataSource.startCapture();
+            try {
+                query.accept(d);
+            } finally {
+                d.captured = QueryCountingDataSource.stopCapture();
+            }
+        });
+        return d.captured.stream()
+                .filter(statement -> statement.sql().trim().toLowerCase().startsWith("select"))
+                .collect(Collectors.toList());
+    }
+
+    private String explain(CapturedStatement statement) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + statement.sql(), String.class, statement.parameters().toArray());
+    }
+
+    private Dataset seed() {
+        Dataset d = new Dataset();
+        UserEntity teacher = saveUser("hq-teacher-" + System.nanoTime(), "TEACHER");
+        UserEntity student = saveUser("hq-student-" + System.nanoTime(), "STUDENT");
+        d.teacher = teacher.getUserId();
+        d.student = student.getUserId();
+        d.studentEmail = student.getEmail();
+        d.category = "hq";
+
+        CourseEntity course = courseRepository.save(CourseEntity.builder()
+                .teacher(teacher).courseName("hq 강좌").category(d.category).capacity(30).status("APPROVED").build());
+        d.course = course.getCourseId();
+        enrollmentRepository.insertAllocation(d.course, List.of(d.student), List.of(), 0);
+        EnrollmentEntity enrollment = enrollmentRepository.findByStudent_UserIdAndCourse_CourseId(d.student, d.course).orElseThrow();
+        d.enrollment = enrollment.getEnrollmentId();
+        attendanceRepository.upsertAll(CLASS_DATE, Map.of(d.enrollment, "PRESENT"));
+        noticeRepository.save(NoticeEntity.builder().author(teacher).course(course).title("hq 공지").content("내용").build());
+        return d;
+    }
+
+    private UserEntity saveUser(String name, String role) {
+        UserEntity user = new UserEntity();
+        user.setEmail(name + "@test.com");
+        user.setPassword("{noop}password");
+        user.setName(name);
+        user.setRole(role);
+        user.setStudentIdNo("STUDENT".equals(role) ? name : null);
+        return userRepository.save(user);
+    }
+
+    private static class Dataset {
+        Long teacher;
+        Long student;
+        String studentEmail;
+        String category;
+        Long course;
+        Long enrollment;
+        List<CapturedStatement> captured;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.afterproject.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 루프백(신뢰 프록시)에서 들어온 요청은 X-Forwarded-For의 클라이언트 주소로 IP 한도를 적용하는지 검증합니다.
+ * 프록시 주소(127.0.0.1) 하나로 묶이면 모든 사용자가 같은 한도를 나눠 쓰게 됩니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "login.limit.per-ip=2")
+@ActiveProfiles("test")
+class ForwardedClientIpTest {
+
+    private final HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void ipLimitUsesTheForwardedClientAddress() throws Exception {
+        assertThat(login("forwarded-1@test.com", "198.51.100.7")).isNotEqualTo(429);
+        assertThat(login("forwarded-2@test.com", "198.51.100.7")).isNotEqualTo(429);
+        assertThat(login("forwarded-3@test.com", "198.51.100.7")).isEqualTo(429);
+
+        assertThat(login("forwarded-4@test.com", "198.51.100.8")).isNotEqualTo(429);
+    }
+
+    private int login(String email, String clientIp) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .header("X-Forwarded-For", clientIp)
+                .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"" + email + "\",\"password\":\"wrong\"}"))
+                .build();
+        return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
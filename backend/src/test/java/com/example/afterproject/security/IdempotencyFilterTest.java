@@ -0,0 +1,230 @@
+package com.example.afterproject.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Idempotency-Key 재전송, 동시 중복 요청, 저장하지 않는 결과(5xx)의 재실행, 다른 본문 재사용 거절,
+ * 저장소가 가득 찼을 때의 처리를 검증합니다.
+ */
+class IdempotencyFilterTest {
+
+    private static final String PATH = "/api/students/courses/1/enroll";
+
+    private final IdempotencyStore store = new IdempotencyStore(100, 600);
+    private final IdempotencyFilter filter = new IdempotencyFilter(store, new ObjectMapper());
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void retryReplaysStoredResponseWithoutExecutingAgain() throws Exception {
+        FilterChain chain = respondWith(HttpServletResponse.SC_CREATED, "{\"enrollmentId\":7}");
+
+        MockHttpServletResponse first = send("key-1", "{}", chain);
+        MockHttpServletResponse retry = send("key-1", "{}", chain);
+
+        assertThat(executions).hasValue(1);
+        assertThat(retry.getStatus()).isEqualTo(HttpServletResponse.SC_CREATED);
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(first.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    void controllerReadsTheBodyThatWasHashed() throws Exception {
+        FilterChain chain = (request, response) -> {
+            executions.incrementAndGet();
+            response.getOutputStream().write(request.getInputStream().readAllBytes());
+        };
+
+        MockHttpServletResponse response = send("key-1", "{\"reason\":\"수강 신청\"}", chain);
+
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("{\"reason\":\"수강 신청\"}");
+    }
+
+    @Test
+    void sameKeyWithDifferentBodyIsRejected() throws Exception {
+        FilterChain chain = respondWith(HttpServletResponse.SC_OK, "{}");
+
+        send("key-1", "{\"courseId\":1}", chain);
+        MockHttpServletResponse reused = send("key-1", "{\"courseId\":2}", chain);
+
+        assertThat(executions).hasValue(1);
+        assertThat(reused.getStatus()).isEqualTo(422);
+        assertThat(reused.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    void serverErrorIsNotStoredSoRetryExecutesAgain() throws Exception {
+        AtomicInteger status = new AtomicInteger(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        FilterChain chain = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(status.get());
+        };
+
+        assertThat(send("key-1", "{}", chain).getStatus()).isEqualTo(500);
+        status.set(HttpServletResponse.SC_OK);
+        MockHttpServletResponse retry = send("key-1", "{}", chain);
+
+        assertThat(executions).hasValue(2);
+        assertThat(retry.getStatus()).isEqualTo(200);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    void concurrentDuplicateWaitsForFirstAndGetsItsResponse() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain chain = (request, response) -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(release);
+            ((HttpServletResponse) response).setStatus(HttpServletResponse.SC_CREATED);
+            response.getWriter().write("{\"enrollmentId\":7}");
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<MockHttpServletResponse> first = executor.submit(() -> send("key-1", "{}", chain));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<MockHttpServletResponse> duplicate = executor.submit(() -> send("key-1", "{}", chain));
+            Thread.sleep(100);
+            assertThat(duplicate).isNotDone();
+
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(HttpServletResponse.SC_CREATED);
+            MockHttpServletResponse replayed = duplicate.get(5, TimeUnit.SECONDS);
+            assertThat(replayed.getStatus()).isEqualTo(HttpServletResponse.SC_CREATED);
+            assertThat(replayed.getContentAsString()).isEqualTo("{\"enrollmentId\":7}");
+            assertThat(replayed.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+            assertThat(executions).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentDuplicateExecutesItselfWhenFirstIsAbandoned() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain chain = (request, response) -> {
+            if (executions.incrementAndGet() == 1) {
+                started.countDown();
+                await(release);
+                ((HttpServletResponse) response).setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                return;
+            }
+            ((HttpServletResponse) response).setStatus(HttpServletResponse.SC_CREATED);
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<MockHttpServletResponse> first = executor.submit(() -> send("key-1", "{}", chain));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<MockHttpServletResponse> duplicate = executor.submit(() -> send("key-1", "{}", chain));
+            Thread.sleep(100);
+            assertThat(duplicate).isNotDone();
+
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            MockHttpServletResponse retried = duplicate.get(5, TimeUnit.SECONDS);
+            assertThat(retried.getStatus()).isEqualTo(HttpServletResponse.SC_CREATED);
+            assertThat(retried.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+            assertThat(executions).hasValue(2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void fullStoreEvictsOldestCompletedEntries() throws Exception {
+        IdempotencyStore smallStore = new IdempotencyStore(10, 600);
+        IdempotencyFilter smallFilter = new IdempotencyFilter(smallStore, new ObjectMapper());
+        FilterChain chain = respondWith(HttpServletResponse.SC_OK, "{}");
+
+        for (int i = 0; i < 10; i++) {
+            send(smallFilter, "key-" + i, "{}", chain);
+        }
+        MockHttpServletResponse next = send(smallFilter, "key-10", "{}", chain);
+
+        assertThat(next.getStatus()).isEqualTo(200);
+        assertThat(executions).hasValue(11);
+        assertThat(smallStore.size()).isLessThanOrEqualTo(10);
+        // 가장 오래된 키는 내보내져 다시 실행되고, 최근 키는 계속 재전송 응답을 받습니다.
+        send(smallFilter, "key-0", "{}", chain);
+        assertThat(executions).hasValue(12);
+        assertThat(send(smallFilter, "key-10", "{}", chain).getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    void storeFullOfInFlightRequestsRejectsWithServiceUnavailable() throws Exception {
+        IdempotencyStore smallStore = new IdempotencyStore(1, 600);
+        IdempotencyFilter smallFilter = new IdempotencyFilter(smallStore, new ObjectMapper());
+        smallStore.begin("in-flight", new byte[0]);
+
+        MockHttpServletResponse response = send(smallFilter, "key-1", "{}", respondWith(HttpServletResponse.SC_OK, "{}"));
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        assertThat(response.getHeader("Retry-After")).isNotNull();
+        assertThat(executions).hasValue(0);
+    }
+
+    private MockHttpServletResponse send(String key, String body, FilterChain chain) throws Exception {
+        return send(filter, key, body, chain);
+    }
+
+    private MockHttpServletResponse send(IdempotencyFilter target, String key, String body, FilterChain chain) throws Exception {
+        CustomUserDetails principal = new CustomUserDetails(1L, "student@test.com", "STUDENT");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", PATH);
+        request.addHeader(IdempotencyFilter.HEADER, key);
+        request.setContentType("application/json");
+        request.setCharacterEncoding("UTF-8");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        target.doFilter(request, response, chain);
+        return response;
+    }
+
+    private FilterChain respondWith(int status, String body) {
+        return (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(status);
+            response.setContentType("application/json");
+            response.getWriter().write(body);
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
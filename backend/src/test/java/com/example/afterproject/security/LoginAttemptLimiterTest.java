@@ -0,0 +1,65 @@
+package com.example.afterproject.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 계정 기준 잠금, 로그인 성공 시 초기화, 윈도우 만료, IP 보조 한도를 검증합니다.
+ * 시간은 직접 움직이는 시계로 제어합니다.
+ */
+class LoginAttemptLimiterTest {
+
+    private static final long WINDOW_SECONDS = 60;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final LoginAttemptLimiter limiter = new LoginAttemptLimiter(3, 10, WINDOW_SECONDS, now::get);
+
+    @Test
+    void accountIsLockedAfterLimitRegardlessOfIp() {
+        assertThat(limiter.tryAcquire("student@test.com", "203.0.113.1")).isZero();
+        assertThat(limiter.tryAcquire("student@test.com", "203.0.113.2")).isZero();
+        assertThat(limiter.tryAcquire("Student@Test.com", "203.0.113.3")).isZero();
+
+        assertThat(limiter.tryAcquire("student@test.com", "203.0.113.4")).isEqualTo(WINDOW_SECONDS);
+        // 다른 계정은 같은 IP에서도 영향받지 않습니다.
+        assertThat(limiter.tryAcquire("other@test.com", "203.0.113.4")).isZero();
+    }
+
+    @Test
+    void successfulLoginResetsTheAccount() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("student@test.com", "203.0.113.1");
+        }
+        assertThat(limiter.tryAcquire("student@test.com", "203.0.113.1")).isPositive();
+
+        limiter.onSuccess("STUDENT@test.com");
+
+        assertThat(limiter.tryAcquire("student@test.com", "203.0.113.1")).isZero();
+    }
+
+    @Test
+    void lockExpiresWithTheWindow() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("student@test.com", "203.0.113.1");
+            now.addAndGet(10_000);
+        }
+        // 첫 시도 후 30초: 첫 시도가 윈도우를 벗어나기까지 30초 남음
+        assertThat(limiter.tryAcquire("student@test.com", "203.0.113.1")).isEqualTo(30);
+
+        now.addAndGet(30_000);
+        assertThat(limiter.tryAcquire("student@test.com", "203.0.113.1")).isZero();
+    }
+
+    @Test
+    void ipLimitIsABackstopAcrossAccounts() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire("user" + i + "@test.com", "203.0.113.1")).isZero();
+        }
+
+        assertThat(limiter.tryAcquire("user10@test.com", "203.0.113.1")).isPositive();
+        assertThat(limiter.tryAcquire("user10@test.com", "203.0.113.2")).isZero();
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.afterproject.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 버전 캐시의 적중/만료/비우기와, 캐시보다 새 버전의 토큰이 오면 다시 읽는지 검증합니다.
+ * 로더는 DB 대신 맵으로, 시간은 직접 움직이는 시계로 제어합니다.
+ */
+class TokenRevocationRegistryTest {
+
+    private static final long TTL_MILLIS = 30_000;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final Map<Long, Integer> versions = new HashMap<>(Map.of(1L, 0));
+    private final AtomicInteger loads = new AtomicInteger();
+    private final TokenRevocationRegistry registry = new TokenRevocationRegistry(userId -> {
+        loads.incrementAndGet();
+        return Optional.ofNullable(versions.get(userId));
+    }, TTL_MILLIS, 100, now::get);
+
+    @Test
+    void cachedVersionIsReusedUntilTtlExpires() {
+        assertThat(registry.isRevoked(1L, 0)).isFalse();
+        assertThat(registry.isRevoked(1L, 0)).isFalse();
+        assertThat(loads).hasValue(1);
+
+        // 다른 인스턴스에서 무효화되어도 보관 중인 버전이 만료될 때까지는 이전 토큰을 허용합니다.
+        versions.put(1L, 1);
+        now.addAndGet(TTL_MILLIS - 1);
+        assertThat(registry.isRevoked(1L, 0)).isFalse();
+
+        now.addAndGet(1);
+        assertThat(registry.isRevoked(1L, 0)).isTrue();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void evictionOutsideTransactionTakesEffectImmediately() {
+        assertThat(registry.isRevoked(1L, 0)).isFalse();
+
+        versions.put(1L, 1);
+        registry.evictAfterCommit(1L);
+
+        assertThat(registry.isRevoked(1L, 0)).isTrue();
+        assertThat(registry.isRevoked(1L, 1)).isFalse();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void newerTokenThanCachedVersionReloads() {
+        assertThat(registry.isRevoked(1L, 0)).isFalse();
+
+        // 다른 인스턴스에서 역할이 바뀐 뒤 재로그인한 토큰은 ttl을 기다리지 않고 받아들입니다.
+        versions.put(1L, 1);
+        assertThat(registry.isRevoked(1L, 1)).isFalse();
+        assertThat(loads).hasValue(2);
+        assertThat(registry.isRevoked(1L, 0)).isTrue();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void missingUserIsRevokedAndRememberedUntilTtl() {
+        assertThat(registry.isRevoked(2L, 0)).isTrue();
+        assertThat(registry.isRevoked(2L, 0)).isTrue();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void versionLoadedWhileEvictingIsNotCached() {
+        TokenRevocationRegistry[] holder = new TokenRevocationRegistry[1];
+        holder[0] = new TokenRevocationRegistry(userId -> {
+            loads.incrementAndGet();
+            Optional<Integer> stale = Optional.of(0);
+            // 이전 버전을 읽은 직후 무효화가 커밋됩니다.
+            versions.put(1L, 1);
+            holder[0].evictAfterCommit(1L);
+            return stale;
+        }, TTL_MILLIS, 100, now::get);
+
+        holder[0].isRevoked(1L, 0);
+
+        assertThat(holder[0].size()).isZero();
+    }
+
+    @Test
+    void fullCacheDropsEntriesToStayWithinLimit() {
+        TokenRevocationRegistry small = new TokenRevocationRegistry(userId -> Optional.of(0), TTL_MILLIS, 10, now::get);
+
+        for (long userId = 1; userId <= 25; userId++) {
+            small.isRevoked(userId, 0);
+        }
+
+        assertThat(small.size()).isLessThanOrEqualTo(10);
+    }
+}
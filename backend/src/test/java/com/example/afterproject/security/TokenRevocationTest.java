@@ -0,0 +1,94 @@
+package com.example.afterproject.security;
+
+import com.example.afterproject.dto.admin.RoleUpdateDto;
+import com.example.afterproject.entity.UserEntity;
+import com.example.afterproject.repository.UserRepository;
+import com.example.afterproject.service.AdminService;
+import com.example.afterproject.support.QueryCountingDataSource;
+import com.example.afterproject.support.QueryCountingDataSourceConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 역할 변경/계정 삭제 시 이전 토큰이 거부되는지 검증합니다.
+ * 무효화는 사용자 행의 토큰 버전으로 판단하므로, 같은 초(같은 밀리초)에 발급된 토큰도 정확히 구분됩니다.
+ * 버전을 한 번 읽은 뒤의 요청은 DB에 가지 않고, 무효화한 인스턴스에서는 커밋 직후 반영되는지도 확인합니다.
+ */
+@SpringBootTest
+@Import(QueryCountingDataSourceConfig.class)
+@ActiveProfiles("test")
+class TokenRevocationTest {
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    @Autowired
+    private AdminService adminService;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void roleChangeRejectsTokensIssuedBeforeItEvenWithinTheSameSecond() {
+        UserEntity user = userRepository.save(user("revoke-role@test.com"));
+        String before = token(user);
+        assertThat(jwtTokenProvider.authenticate(before)).isNotNull();
+
+        adminService.updateUserRole(user.getUserId(), role("TEACHER"));
+
+        assertThat(jwtTokenProvider.authenticate(before)).isNull();
+        UserEntity updated = userRepository.findById(user.getUserId()).orElseThrow();
+        assertThat(updated.getTokenVersion()).isEqualTo(1);
+        Authentication after = jwtTokenProvider.authenticate(token(updated));
+        assertThat(after).isNotNull();
+        assertThat(after.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_TEACHER");
+    }
+
+    @Test
+    void deletedUserTokensAreRejected() {
+        UserEntity user = userRepository.save(user("revoke-delete@test.com"));
+        String token = token(user);
+        assertThat(jwtTokenProvider.authenticate(token)).isNotNull();
+
+        adminService.deleteUser(user.getUserId());
+
+        assertThat(jwtTokenProvider.authenticate(token)).isNull();
+    }
+
+    @Test
+    void cachedTokenVersionIsCheckedWithoutQueries() {
+        UserEntity user = userRepository.save(user("revoke-cached@test.com"));
+        String token = token(user);
+        assertThat(jwtTokenProvider.authenticate(token)).isNotNull();
+
+        QueryCountingDataSource.reset();
+        for (int i = 0; i < 10; i++) {
+            assertThat(jwtTokenProvider.authenticate(token)).isNotNull();
+        }
+
+        assertThat(QueryCountingDataSource.count()).isZero();
+    }
+
+    private String token(UserEntity user) {
+        return jwtTokenProvider.createToken(user.getUserId(), user.getEmail(), user.getRole(), user.getTokenVersion());
+    }
+
+    private static RoleUpdateDto role(String value) {
+        RoleUpdateDto role = new RoleUpdateDto();
+        role.setRole(value);
+        return role;
+    }
+
+    private static UserEntity user(String email) {
+        UserEntity user = new UserEntity();
+        user.setEmail(email);
+        user.setPassword("{noop}password");
+        user.setName(email);
+        user.setRole("STUDENT");
+        return user;
+    }
+}
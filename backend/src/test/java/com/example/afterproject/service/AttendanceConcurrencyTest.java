@@ -0,0 +1,126 @@
+package com.example.afterproject.service;
+
+import com.example.afterproject.dto.AttendanceUpdateDto;
+import com.example.afterproject.entity.CourseEntity;
+import com.example.afterproject.entity.EnrollmentEntity;
+import com.example.afterproject.entity.UserEntity;
+import com.example.afterproject.repository.CourseRepository;
+import com.example.afterproject.repository.EnrollmentRepository;
+import com.example.afterproject.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 수업일의 출석부를 여러 요청이 동시에(또는 재시도로) 저장해도
+ * 수강 정보의 출결 카운터가 실제 출결 기록과 일치하는지 검증합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AttendanceConcurrencyTest {
+
+    private static final int STUDENTS = 5;
+    private static final int REQUESTS = 32;
+    private static final List<String> STATUSES = List.of("PRESENT", "ABSENT", "LATE");
+
+    @Autowired
+    private TeacherCourseService teacherCourseService;
+    @Autowired
+    private StudentService studentService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentRollCallsForSameDateKeepCountersInSyncWithRecords() throws Exception {
+        UserEntity teacher = userRepository.save(user("attendance-teacher@test.com", "TEACHER", null));
+        CourseEntity course = courseRepository.save(CourseEntity.builder()
+                .teacher(teacher)
+                .courseName("출석 강좌")
+                .capacity(STUDENTS)
+                .status("APPROVED")
+                .build());
+        for (int i = 0; i < STUDENTS; i++) {
+            Long studentId = userRepository.save(user("attendance-student" + i + "@test.com", "STUDENT", "S-ATT-" + i)).getUserId();
+            studentService.enrollInCourse(studentId, course.getCourseId());
+        }
+        List<Long> enrollmentIds = enrollmentRepository.findByCourse_CourseIdAndStatus(course.getCourseId(), "ACTIVE").stream()
+                .map(EnrollmentEntity::getEnrollmentId)
+                .collect(Collectors.toList());
+        LocalDate classDate = LocalDate.of(2026, 3, 2);
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            String status = STATUSES.get(i % STATUSES.size());
+            futures.add(executor.submit(() -> {
+                start.await();
+                teacherCourseService.recordAttendance(teacher.getUserId(), course.getCourseId(),
+                        attendance(classDate, enrollmentIds, status));
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // 한 수업일에는 학생당 출결 기록이 하나이므로, 카운터 합계도 학생당 정확히 1이어야 합니다.
+        for (Long enrollmentId : enrollmentIds) {
+            EnrollmentEntity enrollment = enrollmentRepository.findById(enrollmentId).orElseThrow();
+            String recorded = jdbcTemplate.queryForObject(
+                    "SELECT status FROM after_attendance WHERE enrollment_id = ? AND class_date = ?",
+                    String.class, enrollmentId, classDate);
+            Map<String, Integer> counts = Map.of(
+                    "PRESENT", enrollment.getPresentCount(),
+                    "ABSENT", enrollment.getAbsentCount(),
+                    "LATE", enrollment.getLateCount());
+            assertThat(counts).containsEntry(recorded, 1);
+            assertThat(counts.values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(1);
+        }
+    }
+
+    private static AttendanceUpdateDto attendance(LocalDate classDate, List<Long> enrollmentIds, String status) {
+        AttendanceUpdateDto dto = new AttendanceUpdateDto();
+        dto.setClassDate(classDate);
+        dto.setStudents(enrollmentIds.stream().map(enrollmentId -> {
+            AttendanceUpdateDto.StudentAttendanceDto student = new AttendanceUpdateDto.StudentAttendanceDto();
+            student.setEnrollmentId(enrollmentId);
+            student.setStatus(status);
+            return student;
+        }).collect(Collectors.toList()));
+        return dto;
+    }
+
+    private UserEntity user(String email, String role, String studentIdNo) {
+        UserEntity user = new UserEntity();
+        user.setEmail(email);
+        user.setPassword("{noop}password");
+        user.setName(email);
+        user.setRole(role);
+        user.setStudentIdNo(studentIdNo);
+        return user;
+    }
+}
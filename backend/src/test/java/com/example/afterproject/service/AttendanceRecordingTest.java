@@ -0,0 +1,189 @@
+package com.example.afterproject.service;
+
+import com.example.afterproject.dto.AttendanceUpdateDto;
+import com.example.afterproject.entity.CourseEntity;
+import com.example.afterproject.entity.EnrollmentEntity;
+import com.example.afterproject.entity.UserEntity;
+import com.example.afterproject.repository.CourseRepository;
+import com.example.afterproject.repository.EnrollmentRepository;
+import com.example.afterproject.repository.UserRepository;
+import com.example.afterproject.support.QueryCountingDataSource;
+import com.example.afterproject.support.QueryCountingDataSource.CapturedStatement;
+import com.example.afterproject.support.QueryCountingDataSourceConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 출석부 일괄 저장(UPSERT)을 검증합니다.
+ * - 같은 수업일을 다시 저장하면 새 행을 만들지 않고 상태만 갱신하며, 출결 카운터도 그만큼만 바뀝니다.
+ * - 수강 행을 잠근 뒤 하나의 배치 UPSERT로 저장합니다.
+ * - 다른 강좌의 수강 ID가 섞여 있으면 아무것도 저장하지 않고 거절합니다.
+ */
+@SpringBootTest
+@Import(QueryCountingDataSourceConfig.class)
+@ActiveProfiles("test")
+class AttendanceRecordingTest {
+
+    private static final LocalDate CLASS_DATE = LocalDate.of(2026, 3, 9);
+
+    @Autowired
+    private TeacherCourseService teacherCourseService;
+    @Autowired
+    private StudentService studentService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void rerecordingSameDateUpdatesStatusInPlaceAndMovesCounters() {
+        UserEntity teacher = teacher("upsert");
+        CourseEntity course = course(teacher, "upsert");
+        List<Long> enrollmentIds = enroll(course, "upsert", 2);
+        Long first = enrollmentIds.get(0);
+        Long second = enrollmentIds.get(1);
+
+        teacherCourseService.recordAttendance(teacher.getUserId(), course.getCourseId(),
+                attendance(Map.of(first, "PRESENT", second, "ABSENT")));
+
+        QueryCountingDataSource.startCapture();
+        List<CapturedStatement> captured;
+        try {
+            teacherCourseService.recordAttendance(teacher.getUserId(), course.getCourseId(),
+                    attendance(Map.of(first, "LATE", second, "ABSENT")));
+        } finally {
+            captured = QueryCountingDataSource.stopCapture();
+        }
+
+        assertThat(rowCount(enrollmentIds)).isEqualTo(2);
+        assertThat(recordedStatus(first)).isEqualTo("LATE");
+        assertThat(recordedStatus(second)).isEqualTo("ABSENT");
+        assertThat(counters(first)).containsExactly(0, 0, 1);
+        assertThat(counters(second)).containsExactly(0, 1, 0);
+
+        // 수강 행 잠금이 UPSERT보다 먼저 실행되고, UPSERT는 한 번의 배치로 실행됩니다.
+        List<String> sql = captured.stream()
+                .map(statement -> statement.sql().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toList());
+        int lock = indexOf(sql, "for update");
+        int upsert = indexOf(sql, "on duplicate key update");
+        assertThat(lock).isNotNegative();
+        assertThat(upsert).isGreaterThan(lock);
+        assertThat(sql).filteredOn(statement -> statement.contains("on duplicate key update")).hasSize(1);
+    }
+
+    @Test
+    void foreignEnrollmentIdRejectsWholeRollCall() {
+        UserEntity teacher = teacher("foreign");
+        CourseEntity course = course(teacher, "foreign");
+        Long own = enroll(course, "foreign-own", 1).get(0);
+        CourseEntity other = course(teacher("foreign-other"), "foreign-other");
+        Long foreign = enroll(other, "foreign-other", 1).get(0);
+
+        Map<Long, String> statuses = new LinkedHashMap<>();
+        statuses.put(own, "PRESENT");
+        statuses.put(foreign, "PRESENT");
+        assertThatThrownBy(() -> teacherCourseService.recordAttendance(teacher.getUserId(), course.getCourseId(),
+                attendance(statuses)))
+                .isInstanceOf(SecurityException.class)
+                .hasMessageContaining(String.valueOf(foreign));
+
+        assertThat(rowCount(List.of(own, foreign))).isZero();
+        assertThat(counters(own)).containsExactly(0, 0, 0);
+        assertThat(counters(foreign)).containsExactly(0, 0, 0);
+    }
+
+    private static int indexOf(List<String> sql, String fragment) {
+        for (int i = 0; i < sql.size(); i++) {
+            if (sql.get(i).contains(fragment)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private String recordedStatus(Long enrollmentId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM after_attendance WHERE enrollment_id = ? AND class_date = ?",
+                String.class, enrollmentId, CLASS_DATE);
+    }
+
+    private long rowCount(List<Long> enrollmentIds) {
+        String placeholders = enrollmentIds.stream().map(id -> "?").collect(Collectors.joining(","));
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM after_attendance WHERE enrollment_id IN (" + placeholders + ")",
+                Long.class, enrollmentIds.toArray());
+    }
+
+    /** 출석/결석/지각 카운터 */
+    private List<Integer> counters(Long enrollmentId) {
+        EnrollmentEntity enrollment = enrollmentRepository.findById(enrollmentId).orElseThrow();
+        return List.of(enrollment.getPresentCount(), enrollment.getAbsentCount(), enrollment.getLateCount());
+    }
+
+    private static AttendanceUpdateDto attendance(Map<Long, String> statusByEnrollmentId) {
+        AttendanceUpdateDto dto = new AttendanceUpdateDto();
+        dto.setClassDate(CLASS_DATE);
+        List<AttendanceUpdateDto.StudentAttendanceDto> students = new ArrayList<>();
+        statusByEnrollmentId.forEach((enrollmentId, status) -> {
+            AttendanceUpdateDto.StudentAttendanceDto student = new AttendanceUpdateDto.StudentAttendanceDto();
+            student.setEnrollmentId(enrollmentId);
+            student.setStatus(status);
+            students.add(student);
+        });
+        dto.setStudents(students);
+        return dto;
+    }
+
+    private List<Long> enroll(CourseEntity course, String prefix, int count) {
+        List<Long> enrollmentIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String name = "attendance-" + prefix + "-" + i + "-" + System.nanoTime();
+            Long studentId = userRepository.save(user(name, "STUDENT")).getUserId();
+            studentService.enrollInCourse(studentId, course.getCourseId());
+            enrollmentIds.add(enrollmentRepository.findByCourse_CourseIdAndStudent_UserIdIn(course.getCourseId(), List.of(studentId))
+                    .get(0).getEnrollmentId());
+        }
+        return enrollmentIds;
+    }
+
+    private CourseEntity course(UserEntity teacher, String prefix) {
+        return courseRepository.save(CourseEntity.builder()
+                .teacher(teacher)
+                .courseName("출석부 강좌 " + prefix)
+                .capacity(10)
+                .status("APPROVED")
+                .build());
+    }
+
+    private UserEntity teacher(String prefix) {
+        return userRepository.save(user("attendance-" + prefix + "-teacher-" + System.nanoTime(), "TEACHER"));
+    }
+
+    private static UserEntity user(String name, String role) {
+        UserEntity user = new UserEntity();
+        user.setEmail(name + "@test.com");
+        user.setPassword("{noop}password");
+        user.setName(name);
+        user.setRole(role);
+        user.setStudentIdNo("STUDENT".equals(role) ? name : null);
+        return user;
+    }
+}
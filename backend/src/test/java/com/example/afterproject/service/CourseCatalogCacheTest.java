@@ -0,0 +1,96 @@
+package com.example.afterproject.service;
+
+import com.example.afterproject.dto.student.StudentDto.CourseListResponseDto;
+import com.example.afterproject.entity.CourseEntity;
+import com.example.afterproject.entity.UserEntity;
+import com.example.afterproject.event.CourseCatalogChangedEvent;
+import com.example.afterproject.repository.CourseRepository;
+import com.example.afterproject.repository.UserRepository;
+import com.example.afterproject.support.QueryCountingDataSource;
+import com.example.afterproject.support.QueryCountingDataSourceConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검색어 없는 강좌 목록의 수강 인원이 좌석 카운터 갱신, 강좌 정보 재적재와 겹쳐도 DB 값과 같은지 검증합니다.
+ */
+@SpringBootTest
+@Import(QueryCountingDataSourceConfig.class)
+@ActiveProfiles("test")
+class CourseCatalogCacheTest {
+
+    @Autowired
+    private StudentService studentService;
+    @Autowired
+    private CourseSeatLedger courseSeatLedger;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void seatCountFollowsCounterAcrossCatalogReloads() {
+        UserEntity teacher = saveUser("catalog-teacher@test.com", "TEACHER");
+        UserEntity student = saveUser("catalog-student@test.com", "STUDENT");
+        CourseEntity course = courseRepository.save(CourseEntity.builder()
+                .teacher(teacher).courseName("목록 강좌").category("catalog").capacity(10).status("APPROVED").build());
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> eventPublisher.publishEvent(new CourseCatalogChangedEvent(course.getCourseId())));
+        assertThat(seatCount(student, course)).isZero();
+
+        // 좌석 갱신과 강좌 정보 재적재가 같은 트랜잭션에서 커밋되어도 한 번만 반영됩니다.
+        transaction.executeWithoutResult(status -> {
+            courseSeatLedger.tryReserve(course.getCourseId());
+            eventPublisher.publishEvent(new CourseCatalogChangedEvent(course.getCourseId()));
+        });
+        assertThat(seatCount(student, course)).isEqualTo(1);
+
+        transaction.executeWithoutResult(status -> courseSeatLedger.forceReserve(course.getCourseId(), 2));
+        assertThat(seatCount(student, course)).isEqualTo(3);
+
+        transaction.executeWithoutResult(status -> courseSeatLedger.release(course.getCourseId()));
+        assertThat(seatCount(student, course)).isEqualTo(2);
+    }
+
+    @Test
+    void unchangedSeatCountsAreServedWithoutQueryingCourses() {
+        UserEntity student = saveUser("catalog-reader@test.com", "STUDENT");
+        studentService.getAllCourses(student.getUserId(), null, null);
+
+        QueryCountingDataSource.reset();
+        studentService.getAllCourses(student.getUserId(), null, null);
+
+        // 학생의 수강 강좌 ID 조회 한 번뿐, 강좌 목록과 수강 인원은 메모리/2차 캐시에서 읽습니다.
+        assertThat(QueryCountingDataSource.count()).isEqualTo(1);
+    }
+
+    private long seatCount(UserEntity student, CourseEntity course) {
+        return studentService.getAllCourses(student.getUserId(), null, "catalog").stream()
+                .filter(listed -> listed.getCourseId().equals(course.getCourseId()))
+                .findFirst()
+                .map(CourseListResponseDto::getCurrentEnrollment)
+                .orElseThrow();
+    }
+
+    private UserEntity saveUser(String email, String role) {
+        UserEntity user = new UserEntity();
+        user.setEmail(email);
+        user.setPassword("{noop}password");
+        user.setName(email);
+        user.setRole(role);
+        user.setStudentIdNo("STUDENT".equals(role) ? email : null);
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,261 @@
+package com.example.afterproject.service;
+
+import com.example.afterproject.dto.admin.AllocationModeUpdateDto;
+import com.example.afterproject.dto.admin.LotteryResultDto;
+import com.example.afterproject.dto.student.EnrollmentResultDto;
+import com.example.afterproject.entity.CourseEntity;
+import com.example.afterproject.entity.EnrollmentEntity;
+import com.example.afterproject.entity.EnrollmentPreferenceEntity;
+import com.example.afterproject.entity.UserEntity;
+import com.example.afterproject.repository.CourseRepository;
+import com.example.afterproject.repository.EnrollmentPreferenceRepository;
+import com.example.afterproject.repository.EnrollmentRepository;
+import com.example.afterproject.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 추첨 일괄 배정을 검증합니다.
+ * - 신청 마감 전인 강좌는 배정하지 않고, 마감 후에는 추가 신청을 받지 않습니다.
+ * - 같은 시드면 같은 당첨자/대기 순서가 나옵니다.
+ * - 남은 좌석 수만큼만 배정하고, 이미 수강 중인 학생과 출석률 미달 학생은 제외합니다.
+ * - 낙첨자의 대기 순번은 기존 대기자 뒤에 이어지고, 이후 선착순 대기도 그 뒤에 붙습니다.
+ * - 배정되지 않은 신청이 남아 있으면 선착순으로 전환할 수 없습니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LotteryAllocationServiceTest {
+
+    @Autowired
+    private LotteryAllocationService lotteryAllocationService;
+    @Autowired
+    private StudentService studentService;
+    @Autowired
+    private AdminService adminService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+    @Autowired
+    private EnrollmentPreferenceRepository preferenceRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void openCourseIsNotAllocatedAndClosedCourseRejectsNewApplicants() {
+        CourseEntity course = course("open", 2);
+        List<Long> applicants = students("open", 3);
+        openLottery(course, applicants);
+
+        LotteryResultDto result = lotteryAllocationService.allocate(1L);
+
+        assertThat(result.getCourses()).noneMatch(r -> r.getCourseId().equals(course.getCourseId()));
+        assertThat(enrollmentRepository.findByCourse_CourseIdAndStatus(course.getCourseId(), "ACTIVE")).isEmpty();
+        assertThat(preferenceCount(course)).isEqualTo(3);
+
+        closeLottery(course);
+        Long late = students("open-late", 1).get(0);
+        assertThatThrownBy(() -> studentService.enrollInCourse(late, course.getCourseId()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void sameSeedDrawsSameWinnersAndWaitlistOrder() {
+        CourseEntity course = course("seed", 2);
+        openLottery(course, students("seed", 6));
+        closeLottery(course);
+
+        List<List<Long>> first = drawAndRollback(course, 42L);
+        List<List<Long>> second = drawAndRollback(course, 42L);
+
+        assertThat(first.get(0)).hasSize(2);
+        assertThat(first.get(1)).hasSize(4);
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    void allocatesOnlyRemainingSeatsToEligibleNewApplicants() {
+        CourseEntity course = course("filter", 3);
+        Long alreadyEnrolled = students("filter-enrolled", 1).get(0);
+        studentService.enrollInCourse(alreadyEnrolled, course.getCourseId());
+
+        List<Long> eligible = students("filter", 4);
+        openLottery(course, eligible);
+        Long ineligible = ineligibleStudent("filter-absent");
+        preferenceRepository.save(EnrollmentPreferenceEntity.builder()
+                .student(userRepository.getReferenceById(ineligible)).course(course).build());
+        preferenceRepository.save(EnrollmentPreferenceEntity.builder()
+                .student(userRepository.getReferenceById(alreadyEnrolled)).course(course).build());
+        closeLottery(course);
+
+        LotteryResultDto.CourseResult result = resultOf(lotteryAllocationService.allocate(7L), course);
+
+        assertThat(result.getApplicants()).isEqualTo(6);
+        assertThat(result.getAllocated()).isEqualTo(2);
+        assertThat(result.getWaitlisted()).isEqualTo(2);
+        assertThat(result.getIneligible()).isEqualTo(1);
+        assertThat(courseRepository.findById(course.getCourseId()).orElseThrow().getEnrolledCount()).isEqualTo(3);
+        assertThat(studentIds(course, "ACTIVE")).hasSize(3).contains(alreadyEnrolled).doesNotContain(ineligible);
+        assertThat(studentIds(course, "WAITLISTED")).hasSize(2).doesNotContain(ineligible);
+        assertThat(preferenceCount(course)).isZero();
+    }
+
+    @Test
+    void losersContinueExistingWaitlistAndLaterApplicantsQueueBehindThem() {
+        CourseEntity course = course("continuity", 1);
+        List<Long> fcfs = students("continuity-fcfs", 2);
+        fcfs.forEach(studentId -> studentService.enrollInCourse(studentId, course.getCourseId()));
+
+        List<Long> lottery = students("continuity", 2);
+        openLottery(course, lottery);
+        closeLottery(course);
+        LotteryResultDto.CourseResult result = resultOf(lotteryAllocationService.allocate(3L), course);
+
+        assertThat(result.getAllocated()).isZero();
+        assertThat(result.getWaitlisted()).isEqualTo(2);
+        List<EnrollmentEntity> waitlist = waitlist(course);
+        assertThat(waitlist).extracting(EnrollmentEntity::getWaitlistPosition).containsExactly(1L, 2L, 3L);
+        assertThat(waitlist.get(0).getStudent().getUserId()).isEqualTo(fcfs.get(1));
+
+        // 배정 후 강좌는 선착순으로 돌아가며, 새 신청자는 추첨 낙첨자 뒤에 섭니다.
+        Long later = students("continuity-later", 1).get(0);
+        EnrollmentResultDto enrolled = studentService.enrollInCourse(later, course.getCourseId());
+        assertThat(enrolled.getStatus()).isEqualTo("WAITLISTED");
+        assertThat(enrolled.getWaitlistRank()).isEqualTo(4);
+    }
+
+    @Test
+    void switchingToFcfsIsRejectedWhileApplicationsRemain() {
+        CourseEntity course = course("switch", 2);
+        openLottery(course, students("switch", 3));
+
+        assertThatThrownBy(() -> adminService.updateAllocationMode(course.getCourseId(), fcfs()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(courseRepository.findById(course.getCourseId()).orElseThrow().isLotteryMode()).isTrue();
+        assertThat(preferenceCount(course)).isEqualTo(3);
+
+        // 배정으로 신청 기록이 모두 처리된 뒤에는 전환할 수 있습니다.
+        closeLottery(course);
+        lotteryAllocationService.allocate(5L);
+        adminService.updateAllocationMode(course.getCourseId(), fcfs());
+
+        CourseEntity switched = courseRepository.findById(course.getCourseId()).orElseThrow();
+        assertThat(switched.isLotteryMode()).isFalse();
+        assertThat(switched.getLotteryClosesAt()).isNull();
+    }
+
+    /** 배정 결과(당첨자 ID, 대기 순서대로의 낙첨자 ID)를 읽고 롤백합니다. */
+    private List<List<Long>> drawAndRollback(CourseEntity course, long seed) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            lotteryAllocationService.allocate(seed);
+            List<Long> active = studentIds(course, "ACTIVE").stream().sorted().collect(Collectors.toList());
+            List<Long> waitlisted = waitlist(course).stream()
+                    .map(enrollment -> enrollment.getStudent().getUserId())
+                    .collect(Collectors.toList());
+            status.setRollbackOnly();
+            return List.of(active, waitlisted);
+        });
+    }
+
+    private LotteryResultDto.CourseResult resultOf(LotteryResultDto result, CourseEntity course) {
+        return result.getCourses().stream()
+                .filter(r -> r.getCourseId().equals(course.getCourseId()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private List<Long> studentIds(CourseEntity course, String status) {
+        return enrollmentRepository.findByCourse_CourseIdAndStatus(course.getCourseId(), status).stream()
+                .map(enrollment -> enrollment.getStudent().getUserId())
+                .collect(Collectors.toList());
+    }
+
+    private List<EnrollmentEntity> waitlist(CourseEntity course) {
+        return enrollmentRepository.findByCourse_CourseIdAndStatus(course.getCourseId(), "WAITLISTED").stream()
+                .sorted(Comparator.comparing(EnrollmentEntity::getWaitlistPosition))
+                .collect(Collectors.toList());
+    }
+
+    private long preferenceCount(CourseEntity course) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM after_enrollment_preferences WHERE course_id = ?",
+                Long.class, course.getCourseId());
+    }
+
+    private void openLottery(CourseEntity course, List<Long> applicants) {
+        adminService.updateAllocationMode(course.getCourseId(), allocationMode(Instant.now().plusSeconds(3600)));
+        applicants.forEach(studentId -> studentService.enrollInCourse(studentId, course.getCourseId()));
+    }
+
+    private void closeLottery(CourseEntity course) {
+        adminService.updateAllocationMode(course.getCourseId(), allocationMode(Instant.now().minusSeconds(1)));
+    }
+
+    private AllocationModeUpdateDto allocationMode(Instant closesAt) {
+        AllocationModeUpdateDto mode = new AllocationModeUpdateDto();
+        mode.setAllocationMode(CourseEntity.ALLOCATION_LOTTERY);
+        mode.setLotteryClosesAt(closesAt);
+        return mode;
+    }
+
+    private AllocationModeUpdateDto fcfs() {
+        AllocationModeUpdateDto mode = new AllocationModeUpdateDto();
+        mode.setAllocationMode(CourseEntity.ALLOCATION_FCFS);
+        return mode;
+    }
+
+    /** 다른 강좌에서 결석만 있는 학생 (배정 시점 출석률 0%) */
+    private Long ineligibleStudent(String prefix) {
+        Long studentId = students(prefix, 1).get(0);
+        CourseEntity past = course(prefix + "-past", 10);
+        enrollmentRepository.insertAllocation(past.getCourseId(), List.of(studentId), List.of(), 0);
+        jdbcTemplate.update("UPDATE after_enrollments SET absent_count = 5 WHERE course_id = ? AND student_id = ?",
+                past.getCourseId(), studentId);
+        return studentId;
+    }
+
+    private CourseEntity course(String prefix, int capacity) {
+        UserEntity teacher = userRepository.save(user("lottery-" + prefix + "-teacher-" + System.nanoTime(), "TEACHER"));
+        return courseRepository.save(CourseEntity.builder()
+                .teacher(teacher)
+                .courseName("추첨 강좌 " + prefix)
+                .capacity(capacity)
+                .status("APPROVED")
+                .build());
+    }
+
+    private List<Long> students(String prefix, int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(userRepository.save(user("lottery-" + prefix + "-" + i + "-" + System.nanoTime(), "STUDENT")).getUserId());
+        }
+        return ids;
+    }
+
+    private UserEntity user(String name, String role) {
+        UserEntity user = new UserEntity();
+        user.setEmail(name + "@test.com");
+        user.setPassword("{noop}password");
+        user.setName(name);
+        user.setRole(role);
+        user.setStudentIdNo("STUDENT".equals(role) ? name : null);
+        return user;
+    }
+}
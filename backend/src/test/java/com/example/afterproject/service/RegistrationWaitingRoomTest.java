@@ -0,0 +1,132 @@
+package com.example.afterproject.service;
+
+import com.example.afterproject.service.RegistrationWaitingRoom.Admission;
+import com.example.afterproject.service.RegistrationWaitingRoom.Status;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 대기실의 상태 전이(즉시 입장 → 대기 → 순서대로 입장, 폴링 중단 시 이탈, 입장 유효시간 만료, 대기열 가득 참)를 검증합니다.
+ * 시간은 직접 움직이는 시계로 제어하고, 입장 처리(admit)는 스케줄러 대신 직접 호출합니다.
+ */
+class RegistrationWaitingRoomTest {
+
+    private static final int ADMIT_PER_SECOND = 2;
+    private static final long PASS_SECONDS = 60;
+    private static final long ABANDON_SECONDS = 5;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final RegistrationWaitingRoom room =
+            new RegistrationWaitingRoom(true, ADMIT_PER_SECOND, 3, PASS_SECONDS, ABANDON_SECONDS, now::get);
+
+    @Test
+    void admitsImmediatelyUntilRateIsUsedThenQueuesInOrder() {
+        assertThat(room.enter(1L).isAdmitted()).isTrue();
+        assertThat(room.enter(2L).isAdmitted()).isTrue();
+
+        Admission third = room.enter(3L);
+        Admission fourth = room.enter(4L);
+        assertThat(third.status()).isEqualTo(Status.WAITING);
+        assertThat(third.position()).isEqualTo(1);
+        assertThat(fourth.position()).isEqualTo(2);
+        assertThat(room.getWaitingCount()).isEqualTo(2);
+
+        // 같은 사용자가 다시 요청해도 새 번호를 받지 않습니다.
+        assertThat(room.enter(4L).token()).isEqualTo(fourth.token());
+    }
+
+    @Test
+    void queuedUsersAreAdmittedInOrderAsPermitsRefill() {
+        room.enter(1L);
+        room.enter(2L);
+        Admission third = room.enter(3L);
+        Admission fourth = room.enter(4L);
+
+        // 0.5초 → 허용량 1: 맨 앞 대기자만 입장
+        now.addAndGet(500);
+        room.admit();
+
+        assertThat(room.poll(3L, third.token()).isAdmitted()).isTrue();
+        assertThat(room.enter(3L).isAdmitted()).isTrue();
+        Admission stillWaiting = room.poll(4L, fourth.token());
+        assertThat(stillWaiting.status()).isEqualTo(Status.WAITING);
+        assertThat(stillWaiting.position()).isEqualTo(1);
+
+        now.addAndGet(500);
+        room.admit();
+        assertThat(room.poll(4L, fourth.token()).isAdmitted()).isTrue();
+        assertThat(room.getWaitingCount()).isZero();
+    }
+
+    @Test
+    void waiterWhoStopsPollingIsSkippedAndMustRejoin() {
+        room.enter(1L);
+        room.enter(2L);
+        Admission abandoned = room.enter(3L);
+        Admission polling = room.enter(4L);
+
+        now.addAndGet(ABANDON_SECONDS * 1000 + 1);
+        room.poll(4L, polling.token());
+        now.addAndGet(500);
+        room.admit();
+
+        // 폴링을 멈춘 3번은 허용량을 쓰지 않고 빠지고, 4번이 그 자리에 입장합니다.
+        assertThat(room.poll(3L, abandoned.token())).isNull();
+        assertThat(room.poll(4L, polling.token()).isAdmitted()).isTrue();
+
+        // 남은 허용량을 다른 학생이 쓴 뒤 3번이 돌아오면 예전 번호가 아닌 새 번호로 줄을 섭니다.
+        assertThat(room.enter(5L).isAdmitted()).isTrue();
+        Admission rejoined = room.enter(3L);
+        assertThat(rejoined.status()).isEqualTo(Status.WAITING);
+        assertThat(rejoined.token()).isNotEqualTo(abandoned.token());
+    }
+
+    @Test
+    void passExpiresAfterPassSeconds() {
+        Admission admitted = room.enter(1L);
+        room.enter(2L);
+        Admission waiting = room.enter(3L);
+
+        now.addAndGet(PASS_SECONDS * 1000 - 1);
+        room.poll(3L, waiting.token());
+        assertThat(room.enter(1L).isAdmitted()).isTrue();
+
+        now.addAndGet(1);
+        room.admit();
+
+        // 만료된 입장권은 정리되고, 허용량이 남지 않은 상태에서 다시 요청하면 새 번호로 줄을 섭니다.
+        assertThat(room.poll(1L, admitted.token())).isNull();
+        room.enter(4L);
+        Admission requeued = room.enter(1L);
+        assertThat(requeued.token()).isNotEqualTo(admitted.token());
+        assertThat(requeued.isAdmitted()).isFalse();
+    }
+
+    @Test
+    void rejectsNewWaitersWhenQueueIsFull() {
+        room.enter(1L);
+        room.enter(2L);
+        room.enter(3L);
+        room.enter(4L);
+        room.enter(5L);
+
+        Admission rejected = room.enter(6L);
+
+        assertThat(rejected.status()).isEqualTo(Status.FULL);
+        assertThat(rejected.token()).isNull();
+        assertThat(rejected.retryAfterSeconds()).isPositive();
+    }
+
+    @Test
+    void tokenOfAnotherUserIsNotVisible() {
+        room.enter(1L);
+        room.enter(2L);
+        Admission waiting = room.enter(3L);
+
+        assertThat(room.poll(4L, waiting.token())).isNull();
+        assertThat(room.poll(3L, "unknown-token")).isNull();
+    }
+}
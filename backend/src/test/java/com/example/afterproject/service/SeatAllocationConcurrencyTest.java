@@ -0,0 +1,156 @@
+package com.example.afterproject.service;
+
+import com.example.afterproject.dto.student.EnrollmentResultDto;
+import com.example.afterproject.dto.student.StudentDto.CourseDetailResponseDto;
+import com.example.afterproject.entity.CourseEntity;
+import com.example.afterproject.entity.EnrollmentEntity;
+import com.example.afterproject.entity.UserEntity;
+import com.example.afterproject.repository.CourseRepository;
+import com.example.afterproject.repository.EnrollmentRepository;
+import com.example.afterproject.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 강좌에 동시 수강 신청이 몰려도 정원을 초과해 배정되지 않고,
+ * 초과 신청자는 대기자 명단에 순서대로 등록되는지 검증합니다.
+ * 강좌 상세에 본인의 신청 상태와 대기 순번이 내려가는지도 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SeatAllocationConcurrencyTest {
+
+    private static final int CAPACITY = 25;
+    private static final int APPLICANTS = 400;
+
+    @Autowired
+    private StudentService studentService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Test
+    void concurrentEnrollmentsNeverOverbookAndOverflowToWaitlist() throws Exception {
+        UserEntity teacher = userRepository.save(user("seat-teacher@test.com", "TEACHER", null));
+        CourseEntity course = courseRepository.save(CourseEntity.builder()
+                .teacher(teacher)
+                .courseName("인기 강좌")
+                .capacity(CAPACITY)
+                .status("APPROVED")
+                .build());
+
+        List<Long> studentIds = new ArrayList<>();
+        for (int i = 0; i < APPLICANTS; i++) {
+            studentIds.add(userRepository.save(user("seat-student" + i + "@test.com", "STUDENT", "S-SEAT-" + i)).getUserId());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger waitlisted = new AtomicInteger();
+        List<Long> activeStudentIds = Collections.synchronizedList(new ArrayList<>());
+        List<Future<?>> futures = new ArrayList<>();
+        for (Long studentId : studentIds) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                EnrollmentResultDto result = studentService.enrollInCourse(studentId, course.getCourseId());
+                if ("ACTIVE".equals(result.getStatus())) {
+                    succeeded.incrementAndGet();
+                    activeStudentIds.add(studentId);
+                } else {
+                    waitlisted.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(succeeded.get()).isEqualTo(CAPACITY);
+        assertThat(waitlisted.get()).isEqualTo(APPLICANTS - CAPACITY);
+        assertThat(enrollmentRepository.countByCourse_CourseIdAndStatus(course.getCourseId(), "ACTIVE")).isEqualTo(CAPACITY);
+        assertThat(courseRepository.findById(course.getCourseId()).orElseThrow().getEnrolledCount()).isEqualTo(CAPACITY);
+
+        // 수강 취소 시 같은 트랜잭션에서 대기 1순위가 수강 확정됩니다.
+        EnrollmentEntity head = enrollmentRepository.findByCourse_CourseIdAndStatus(course.getCourseId(), "WAITLISTED").stream()
+                .min(Comparator.comparing(EnrollmentEntity::getWaitlistPosition))
+                .orElseThrow();
+        studentService.cancelEnrollment(activeStudentIds.get(0), course.getCourseId());
+
+        EnrollmentEntity promoted = enrollmentRepository.findById(head.getEnrollmentId()).orElseThrow();
+        assertThat(promoted.getStatus()).isEqualTo("ACTIVE");
+        assertThat(promoted.getWaitlistPosition()).isNull();
+        assertThat(enrollmentRepository.countByCourse_CourseIdAndStatus(course.getCourseId(), "ACTIVE")).isEqualTo(CAPACITY);
+        assertThat(enrollmentRepository.countByCourse_CourseIdAndStatus(course.getCourseId(), "WAITLISTED"))
+                .isEqualTo(APPLICANTS - CAPACITY - 1);
+        assertThat(courseRepository.findById(course.getCourseId()).orElseThrow().getEnrolledCount()).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    void courseDetailShowsOwnEnrollmentStatusAndWaitlistRank() {
+        UserEntity teacher = userRepository.save(user("detail-teacher@test.com", "TEACHER", null));
+        CourseEntity course = courseRepository.save(CourseEntity.builder()
+                .teacher(teacher)
+                .courseName("상세 강좌")
+                .capacity(1)
+                .status("APPROVED")
+                .build());
+        Long active = userRepository.save(user("detail-active@test.com", "STUDENT", "S-DETAIL-1")).getUserId();
+        Long first = userRepository.save(user("detail-wait1@test.com", "STUDENT", "S-DETAIL-2")).getUserId();
+        Long second = userRepository.save(user("detail-wait2@test.com", "STUDENT", "S-DETAIL-3")).getUserId();
+        Long none = userRepository.save(user("detail-none@test.com", "STUDENT", "S-DETAIL-4")).getUserId();
+        for (Long studentId : List.of(active, first, second)) {
+            studentService.enrollInCourse(studentId, course.getCourseId());
+        }
+
+        CourseDetailResponseDto activeDetail = studentService.getCourseDetails(active, course.getCourseId());
+        assertThat(activeDetail.isEnrolled()).isTrue();
+        assertThat(activeDetail.getEnrollmentStatus()).isEqualTo("ACTIVE");
+        assertThat(activeDetail.getWaitlistRank()).isNull();
+        assertThat(activeDetail.getCurrentEnrollment()).isEqualTo(1);
+
+        CourseDetailResponseDto waitingDetail = studentService.getCourseDetails(second, course.getCourseId());
+        assertThat(waitingDetail.isEnrolled()).isFalse();
+        assertThat(waitingDetail.getEnrollmentStatus()).isEqualTo("WAITLISTED");
+        assertThat(waitingDetail.getWaitlistRank()).isEqualTo(2);
+
+        // 앞 순번이 취소하면 순번이 당겨집니다.
+        studentService.cancelEnrollment(first, course.getCourseId());
+        assertThat(studentService.getCourseDetails(second, course.getCourseId()).getWaitlistRank()).isEqualTo(1);
+
+        CourseDetailResponseDto noneDetail = studentService.getCourseDetails(none, course.getCourseId());
+        assertThat(noneDetail.getEnrollmentStatus()).isNull();
+        assertThat(noneDetail.getCurrentEnrollment()).isEqualTo(1);
+    }
+
+    private UserEntity user(String email, String role, String studentIdNo) {
+        UserEntity user = new UserEntity();
+        user.setEmail(email);
+        user.setPassword("{noop}password");
+        user.setName(email);
+        user.setRole(role);
+        user.setStudentIdNo(studentIdNo);
+        return user;
+    }
+}
@@ -0,0 +1,486 @@
+package com.example.afterproject.service;
+
+import com.example.afterproject.dto.AttendanceUpdateDto;
+import com.example.afterproject.dto.CourseCreateDto;
+import com.example.afterproject.dto.CourseUpdateDto;
+import com.example.afterproject.dto.NoticeCreateDto;
+import com.example.afterproject.dto.SurveyCreateDto;
+import com.example.afterproject.dto.admin.AllocationModeUpdateDto;
+import com.example.afterproject.dto.admin.BulkAssignmentRequestDto;
+import com.example.afterproject.dto.admin.RoleUpdateDto;
+import com.example.afterproject.dto.admin.StatusUpdateDto;
+import com.example.afterproject.dto.student.SubmitSurveyRequestDto;
+import com.example.afterproject.entity.CourseEntity;
+import com.example.afterproject.entity.EnrollmentEntity;
+import com.example.afterproject.entity.NoticeEntity;
+import com.example.afterproject.entity.SurveyEntity;
+import com.example.afterproject.entity.SurveyQuestionEntity;
+import com.example.afterproject.entity.SurveyResponseEntity;
+import com.example.afterproject.entity.UserEntity;
+import com.example.afterproject.repository.AttendanceRepository;
+import com.example.afterproject.repository.CourseRepository;
+import com.example.afterproject.repository.EnrollmentRepository;
+import com.example.afterproject.repository.NoticeRepository;
+import com.example.afterproject.repository.SurveyRepository;
+import com.example.afterproject.repository.SurveyResponseRepository;
+import com.example.afterproject.repository.UserRepository;
+import com.example.afterproject.support.QueryCountingDataSource;
+import com.example.afterproject.support.QueryCountingDataSourceConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서비스 public 메서드별 SQL 실행 횟수 회귀 테스트 (N+1 검출)
+ * - 같은 시나리오를 적은 데이터(SMALL)와 많은 데이터(LARGE)에서 실행해, 데이터가 늘어도 쿼리 수가 늘지 않는지 확인합니다.
+ * - 각 메서드는 BUDGETS에 선언한 횟수를 넘으면 실패합니다. 새 public 메서드를 추가하면 예산과 시나리오도 추가해야 합니다.
+ * - 입력 크기에 비례하는 메서드(출결 기록, 일괄 배정/취소)는 입력을 INPUT_SIZE로 고정하고 DB 데이터만 늘립니다.
+ * - 2차 캐시는 측정 전마다 비워, 캐시 적중으로 N+1이 가려지지 않게 합니다.
+ */
+@SpringBootTest
+@Import(QueryCountingDataSourceConfig.class)
+@ActiveProfiles("test")
+class ServiceQueryCountTest {
+
+    private static final int SMALL = 5;
+    private static final int LARGE = 200;
+    private static final int INPUT_SIZE = 20;
+
+    private static final Map<String, Integer> BUDGETS = new LinkedHashMap<>();
+
+    static {
+        BUDGETS.put("StudentService.getAllCourses", 2);
+        BUDGETS.put("StudentService.getStanding", 1);
+        BUDGETS.put("StudentService.getCourseDetails", 4);
+        BUDGETS.put("StudentService.getMyCoursesAndAttendance", 1);
+        BUDGETS.put("StudentService.getAvailableSurveys", 2);
+        BUDGETS.put("StudentService.getSurveyForResponse", 4);
+        BUDGETS.put("StudentService.submitSurvey", 10);
+        BUDGETS.put("StudentService.enrollInCourse", 5);
+        BUDGETS.put("StudentService.cancelEnrollment", 4);
+
+        BUDGETS.put("TeacherCourseService.getMyCourses", 2);
+        BUDGETS.put("TeacherCourseService.getEnrolledStudents", 2);
+        BUDGETS.put("TeacherCourseService.getAttendanceByDate", 2);
+        BUDGETS.put("TeacherCourseService.getCourseNotices", 2);
+        BUDGETS.put("TeacherCourseService.getCourseSurveys", 2);
+        BUDGETS.put("TeacherCourseService.createCourse", 2);
+        BUDGETS.put("TeacherCourseService.updateCourse", 2);
+        BUDGETS.put("TeacherCourseService.recordAttendance", 5);
+        BUDGETS.put("TeacherCourseService.createCourseNotice", 3);
+        BUDGETS.put("TeacherCourseService.updateCourseNotice", 4);
+        BUDGETS.put("TeacherCourseService.deleteCourseNotice", 3);
+        BUDGETS.put("TeacherCourseService.createCourseSurvey", 6);
+
+        BUDGETS.put("AdminService.getUsers", 1);
+        BUDGETS.put("AdminService.forEachUser", 1);
+        BUDGETS.put("AdminService.getPendingCourses", 1);
+        BUDGETS.put("AdminService.getAllCourses", 1);
+        BUDGETS.put("AdminService.parseAssignmentsCsv", 0);
+        BUDGETS.put("AdminService.updateUserRole", 1);
+        BUDGETS.put("AdminService.deleteUser", 3);
+        BUDGETS.put("AdminService.updateCourseStatus", 3);
+        BUDGETS.put("AdminService.updateAllocationMode", 3);
+        BUDGETS.put("AdminService.endCourse", 3);
+        BUDGETS.put("AdminService.enrollStudent", 5);
+        BUDGETS.put("AdminService.unenrollStudent", 6);
+        BUDGETS.put("AdminService.bulkEnroll", 5);
+        BUDGETS.put("AdminService.bulkUnenroll", 6);
+        BUDGETS.put("AdminService.createGlobalNotice", 2);
+        BUDGETS.put("AdminService.createGlobalSurvey", 5);
+    }
+
+    @Autowired
+    private StudentService studentService;
+    @Autowired
+    private TeacherCourseService teacherCourseService;
+    @Autowired
+    private AdminService adminService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+    @Autowired
+    private NoticeRepository noticeRepository;
+    @Autowired
+    private SurveyRepository surveyRepository;
+    @Autowired
+    private SurveyResponseRepository surveyResponseRepository;
+    @Autowired
+    private CourseSeatLedger courseSeatLedger;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void everyPublicServiceMethodHasABudget() {
+        List<String> methods = Stream.of(StudentService.class, TeacherCourseService.class, AdminService.class)
+                .flatMap(type -> Arrays.stream(type.getDeclaredMethods())
+                        .filter(method -> Modifier.isPublic(method.getModifiers()) && !method.isSynthetic())
+                        .map(method -> key(type, method)))
+                .collect(Collectors.toList());
+
+        assertThat(BUDGETS.keySet()).containsAll(methods);
+        assertThat(scenarios().keySet()).containsExactlyInAnyOrderElementsOf(BUDGETS.keySet());
+    }
+
+    @TestFactory
+    Stream<DynamicTest> queryCountStaysWithinBudgetAndDoesNotGrowWithData() {
+        Map<String, Integer> small = measure(seed("qc-small", SMALL));
+        Map<String, Integer> large = measure(seed("qc-large", LARGE));
+
+        return BUDGETS.entrySet().stream().map(budget -> DynamicTest.dynamicTest(budget.getKey(), () -> {
+            int smallCount = small.get(budget.getKey());
+            int largeCount = large.get(budget.getKey());
+            assertThat(largeCount)
+                    .as("%s: 데이터가 %d배로 늘었을 때 쿼리 수 (%d -> %d)", budget.getKey(), LARGE / SMALL, smallCount, largeCount)
+                    .isLessThanOrEqualTo(smallCount);
+            assertThat(Math.max(smallCount, largeCount))
+                    .as("%s: 쿼리 예산", budget.getKey())
+                    .isLessThanOrEqualTo(budget.getValue());
+        }));
+    }
+
+    private Map<String, Integer> measure(Dataset data) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        scenarios().forEach((name, scenario) -> {
+            entityManagerFactory.getCache().evictAll();
+            QueryCountingDataSource.reset();
+            scenario.accept(data);
+            counts.put(name, QueryCountingDataSource.count());
+        });
+        return counts;
+    }
+
+    /**
+     * 메서드별 시나리오. 같은 데이터셋에서 순서대로 실행되므로, 변경 시나리오는 서로 겹치지 않는 대상을 사용합니다.
+     */
+    private Map<String, Consumer<Dataset>> scenarios() {
+        Map<String, Consumer<Dataset>> scenarios = new LinkedHashMap<>();
+
+        // 학생
+        scenarios.put("StudentService.getAllCourses", d -> studentService.getAllCourses(d.me, "qc", null));
+        scenarios.put("StudentService.getStanding", d -> studentService.getStanding(d.me));
+        scenarios.put("StudentService.getCourseDetails", d -> studentService.getCourseDetails(d.me, d.mainCourse));
+        scenarios.put("StudentService.getMyCoursesAndAttendance", d -> studentService.getMyCoursesAndAttendance(d.me));
+        scenarios.put("StudentService.getAvailableSurveys", d -> studentService.getAvailableSurveys(d.me));
+        scenarios.put("StudentService.getSurveyForResponse", d -> studentService.getSurveyForResponse(d.me, d.openSurvey));
+        scenarios.put("StudentService.submitSurvey", d -> studentService.submitSurvey(d.me, d.openSurvey, answers(d.openSurveyQuestions)));
+        scenarios.put("StudentService.enrollInCourse", d -> studentService.enrollInCourse(d.newcomer, d.openCourse));
+        scenarios.put("StudentService.cancelEnrollment", d -> studentService.cancelEnrollment(d.me, d.myCourses.get(0)));
+
+        // 교사
+        scenarios.put("TeacherCourseService.getMyCourses", d -> teacherCourseService.getMyCourses(d.teacher));
+        scenarios.put("TeacherCourseService.getEnrolledStudents", d -> teacherCourseService.getEnrolledStudents(d.teacher, d.mainCourse));
+        scenarios.put("TeacherCourseService.getAttendanceByDate", d -> teacherCourseService.getAttendanceByDate(d.teacher, d.mainCourse, d.classDates.get(0)));
+        scenarios.put("TeacherCourseService.getCourseNotices", d -> teacherCourseService.getCourseNotices(d.teacher, d.mainCourse));
+        scenarios.put("TeacherCourseService.getCourseSurveys", d -> teacherCourseService.getCourseSurveys(d.teacher, d.mainCourse));
+        scenarios.put("TeacherCourseService.createCourse", d -> teacherCourseService.createCourse(d.teacher, courseCreate()));
+        scenarios.put("TeacherCourseService.updateCourse", d -> teacherCourseService.updateCourse(d.teacher, d.pendingCourses.get(0), courseUpdate()));
+        scenarios.put("TeacherCourseService.recordAttendance", d -> teacherCourseService.recordAttendance(d.teacher, d.mainCourse,
+                attendance(LocalDate.of(2026, 6, 1), d.attendanceEnrollments)));
+        scenarios.put("TeacherCourseService.createCourseNotice", d -> teacherCourseService.createCourseNotice(d.teacher, d.mainCourse, notice()));
+        scenarios.put("TeacherCourseService.updateCourseNotice", d -> teacherCourseService.updateCourseNotice(d.teacher, d.mainCourse, d.notices.get(0), notice()));
+        scenarios.put("TeacherCourseService.deleteCourseNotice", d -> teacherCourseService.deleteCourseNotice(d.teacher, d.mainCourse, d.notices.get(1)));
+        scenarios.put("TeacherCourseService.createCourseSurvey", d -> teacherCourseService.createCourseSurvey(d.teacher, d.mainCourse, courseSurvey()));
+
+        // 관리자
+        scenarios.put("AdminService.getUsers", d -> adminService.getUsers("STUDENT", null, null, 50));
+        scenarios.put("AdminService.forEachUser", d -> adminService.forEachUser("TEACHER", null, user -> { }));
+        scenarios.put("AdminService.getPendingCourses", d -> adminService.getPendingCourses());
+        scenarios.put("AdminService.getAllCourses", d -> adminService.getAllCourses());
+        scenarios.put("AdminService.parseAssignmentsCsv", d -> adminService.parseAssignmentsCsv("courseId,studentId\n1,2\n3,4"));
+        scenarios.put("AdminService.updateUserRole", d -> adminService.updateUserRole(d.roster.get(d.roster.size() - 1), role("STUDENT")));
+        scenarios.put("AdminService.deleteUser", d -> adminService.deleteUser(d.spare));
+        scenarios.put("AdminService.updateCourseStatus", d -> adminService.updateCourseStatus(d.pendingCourses.get(1), status("APPROVED")));
+        scenarios.put("AdminService.updateAllocationMode", d -> adminService.updateAllocationMode(d.pendingCourses.get(2), allocationMode(CourseEntity.ALLOCATION_LOTTERY)));
+        scenarios.put("AdminService.endCourse", d -> adminService.endCourse(d.finishedCourse));
+        scenarios.put("AdminService.enrollStudent", d -> adminService.enrollStudent(d.openCourse, d.walkIn));
+        scenarios.put("AdminService.unenrollStudent", d -> adminService.unenrollStudent(d.mainCourse, d.roster.get(d.roster.size() - 2)));
+        scenarios.put("AdminService.bulkEnroll", d -> adminService.bulkEnroll(d.bulkStudents.stream()
+                .map(studentId -> new BulkAssignmentRequestDto.Assignment(d.openCourse, studentId))
+                .collect(Collectors.toList())));
+        scenarios.put("AdminService.bulkUnenroll", d -> adminService.bulkUnenroll(d.mainCourse, d.roster.subList(INPUT_SIZE, 2 * INPUT_SIZE)));
+        scenarios.put("AdminService.createGlobalNotice", d -> adminService.createGlobalNotice(d.admin, adminNotice()));
+        scenarios.put("AdminService.createGlobalSurvey", d -> adminService.createGlobalSurvey(d.admin, globalSurvey()));
+        return scenarios;
+    }
+
+    /**
+     * volume에 비례하는 데이터셋을 만듭니다.
+     * 수강생/대기자/학생의 수강 강좌/공지/설문/출결 기록/승인 대기 강좌가 volume만큼 늘어납니다.
+     */
+    private Dataset seed(String prefix, int volume) {
+        Dataset d = new Dataset();
+        d.admin = saveUser(prefix + "-admin", "ADMIN");
+        d.teacher = saveUser(prefix + "-teacher", "TEACHER");
+        d.me = saveUser(prefix + "-me", "STUDENT");
+        d.newcomer = saveUser(prefix + "-newcomer", "STUDENT");
+        d.walkIn = saveUser(prefix + "-walkin", "STUDENT");
+        d.spare = saveUser(prefix + "-spare", "STUDENT");
+        d.roster = insertStudents(prefix + "-roster", 2 * INPUT_SIZE + 10 + volume);
+        List<Long> waitlisted = insertStudents(prefix + "-waitlist", INPUT_SIZE + 10 + volume);
+        d.bulkStudents = insertStudents(prefix + "-bulk", INPUT_SIZE);
+        UserEntity teacher = userRepository.getReferenceById(d.teacher);
+
+        List<Long> mainRoster = new ArrayList<>(d.roster);
+        mainRoster.add(d.me);
+        d.mainCourse = saveCourse(teacher, prefix + " 대표 강좌", mainRoster.size(), "APPROVED", null);
+        enrollmentRepository.insertAllocation(d.mainCourse, mainRoster, waitlisted, 1);
+        d.openCourse = saveCourse(teacher, prefix + " 신청 강좌", 1000, "APPROVED", null);
+        d.finishedCourse = saveCourse(teacher, prefix + " 종료 강좌", 10, "APPROVED", LocalDate.now().minusDays(1));
+        for (int i = 0; i < volume; i++) {
+            Long courseId = saveCourse(teacher, prefix + " 수강 강좌 " + i, 30, "APPROVED", null);
+            enrollmentRepository.insertAllocation(courseId, List.of(d.me), List.of(), 0);
+            d.myCourses.add(courseId);
+            d.pendingCourses.add(saveCourse(teacher, prefix + " 승인 대기 강좌 " + i, 30, "PENDING", null));
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            courseSeatLedger.forceReserve(d.mainCourse, mainRoster.size());
+            d.myCourses.forEach(courseId -> courseSeatLedger.forceReserve(courseId, 1));
+        });
+        // 출석률 조건을 만족하도록 누적 출석 횟수를 채웁니다.
+        jdbcTemplate.update("UPDATE after_enrollments SET present_count = 10 WHERE student_id = ?", d.me);
+
+        // 수강 취소 시나리오 대상 학생에게는 출결 기록을 남기지 않습니다. (출결 기록이 있는 수강 정보는 삭제할 수 없음)
+        List<Long> unenrolled = new ArrayList<>(d.roster.subList(INPUT_SIZE, 2 * INPUT_SIZE));
+        unenrolled.add(d.roster.get(d.roster.size() - 2));
+        List<EnrollmentEntity> mainEnrollments = enrollmentRepository.findByCourse_CourseIdAndStatus(d.mainCourse, "ACTIVE").stream()
+                .filter(enrollment -> !unenrolled.contains(enrollment.getStudent().getUserId()))
+                .collect(Collectors.toList());
+        for (int day = 0; day <= volume / SMALL; day++) {
+            LocalDate classDate = LocalDate.of(2026, 3, 2).plusDays(day);
+            d.classDates.add(classDate);
+            String status = day % 3 == 0 ? "ABSENT" : "PRESENT";
+            Map<Long, String> statuses = new LinkedHashMap<>();
+            mainEnrollments.forEach(enrollment -> statuses.put(enrollment.getEnrollmentId(), status));
+            attendanceRepository.upsertAll(classDate, statuses);
+        }
+        d.attendanceEnrollments = mainEnrollments.stream()
+                .map(EnrollmentEntity::getEnrollmentId)
+                .limit(INPUT_SIZE)
+                .collect(Collectors.toList());
+
+        CourseEntity mainCourse = courseRepository.getReferenceById(d.mainCourse);
+        UserEntity me = userRepository.getReferenceById(d.me);
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < volume; i++) {
+            d.notices.add(noticeRepository.save(NoticeEntity.builder().author(teacher).course(mainCourse)
+                    .title("공지 " + i).content("내용").build()).getNoticeId());
+            SurveyEntity courseSurvey = saveSurvey(teacher, mainCourse, "강좌 설문 " + i, today);
+            saveSurvey(teacher, null, "전체 설문 " + i, today);
+            if (i % 2 == 0) {
+                surveyResponseRepository.save(SurveyResponseEntity.builder().respondent(me)
+                        .question(courseSurvey.getQuestions().get(0)).responseContent("응답").build());
+            }
+        }
+        SurveyEntity openSurvey = saveSurvey(teacher, mainCourse, "미응답 설문", today);
+        d.openSurvey = openSurvey.getSurveyId();
+        d.openSurveyQuestions = openSurvey.getQuestions().stream().map(SurveyQuestionEntity::getQuestionId).collect(Collectors.toList());
+        return d;
+    }
+
+    private Long saveUser(String name, String role) {
+        UserEntity user = new UserEntity();
+        user.setEmail(name + "@test.com");
+        user.setPassword("{noop}password");
+        user.setName(name);
+        user.setRole(role);
+        user.setStudentIdNo("STUDENT".equals(role) ? name : null);
+        return userRepository.save(user).getUserId();
+    }
+
+    private List<Long> insertStudents(String prefix, int count) {
+        List<UserEntity> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            UserEntity user = new UserEntity();
+            user.setEmail(prefix + i + "@test.com");
+            user.setPassword("{noop}password");
+            user.setName(prefix + i);
+            user.setRole("STUDENT");
+            user.setStudentIdNo(prefix + i);
+            users.add(user);
+        }
+        userRepository.insertAll(users);
+        return jdbcTemplate.queryForList("SELECT user_id FROM after_users WHERE email LIKE ? ORDER BY user_id",
+                Long.class, prefix + "%@test.com");
+    }
+
+    private Long saveCourse(UserEntity teacher, String name, int capacity, String status, LocalDate endDate) {
+        return courseRepository.save(CourseEntity.builder()
+                .teacher(teacher)
+                .courseName(name)
+                .category("qc")
+                .capacity(capacity)
+                .status(status)
+                .afterSchoolEndDate(endDate)
+                .build()).getCourseId();
+    }
+
+    private SurveyEntity saveSurvey(UserEntity author, CourseEntity course, String title, LocalDate today) {
+        SurveyEntity survey = SurveyEntity.builder().author(author).course(course).title(title)
+                .startDate(today.minusDays(1)).endDate(today.plusDays(7)).build();
+        for (int i = 0; i < 3; i++) {
+            survey.addQuestion(SurveyQuestionEntity.builder().questionText("문항 " + i).questionType("TEXT").build());
+        }
+        return surveyRepository.save(survey);
+    }
+
+    private static String key(Class<?> type, Method method) {
+        return type.getSimpleName() + "." + method.getName();
+    }
+
+    private static SubmitSurveyRequestDto answers(List<Long> questionIds) {
+        SubmitSurveyRequestDto request = new SubmitSurveyRequestDto();
+        request.setResponses(questionIds.stream().map(questionId -> {
+            SubmitSurveyRequestDto.ResponseItemDto item = new SubmitSurveyRequestDto.ResponseItemDto();
+            item.setQuestionId(questionId);
+            item.setContent("응답");
+            return item;
+        }).collect(Collectors.toList()));
+        return request;
+    }
+
+    private static AttendanceUpdateDto attendance(LocalDate classDate, List<Long> enrollmentIds) {
+        AttendanceUpdateDto update = new AttendanceUpdateDto();
+        update.setClassDate(classDate);
+        update.setStudents(enrollmentIds.stream().map(enrollmentId -> {
+            AttendanceUpdateDto.StudentAttendanceDto student = new AttendanceUpdateDto.StudentAttendanceDto();
+            student.setEnrollmentId(enrollmentId);
+            student.setStatus("LATE");
+            return student;
+        }).collect(Collectors.toList()));
+        return update;
+    }
+
+    private static CourseCreateDto courseCreate() {
+        CourseCreateDto create = new CourseCreateDto();
+        create.setCourseName("새 강좌");
+        create.setCapacity(20);
+        create.setQuarter(1);
+        return create;
+    }
+
+    private static CourseUpdateDto courseUpdate() {
+        CourseUpdateDto update = new CourseUpdateDto();
+        update.setCourseName("수정된 강좌");
+        update.setCapacity(25);
+        update.setQuarter(2);
+        return update;
+    }
+
+    private static NoticeCreateDto notice() {
+        NoticeCreateDto notice = new NoticeCreateDto();
+        notice.setTitle("강좌 공지");
+        notice.setContent("내용");
+        return notice;
+    }
+
+    private static com.example.afterproject.dto.admin.NoticeCreateDto adminNotice() {
+        com.example.afterproject.dto.admin.NoticeCreateDto notice = new com.example.afterproject.dto.admin.NoticeCreateDto();
+        notice.setTitle("전체 공지");
+        notice.setContent("내용");
+        return notice;
+    }
+
+    private static SurveyCreateDto courseSurvey() {
+        SurveyCreateDto survey = new SurveyCreateDto();
+        survey.setTitle("강좌 설문");
+        survey.setStartDate(LocalDate.now());
+        survey.setEndDate(LocalDate.now().plusDays(7));
+        survey.setQuestions(Stream.of("문항 1", "문항 2", "문항 3").map(text -> {
+            SurveyCreateDto.QuestionDto question = new SurveyCreateDto.QuestionDto();
+            question.setQuestionText(text);
+            question.setQuestionType("TEXT");
+            return question;
+        }).collect(Collectors.toList()));
+        return survey;
+    }
+
+    private static com.example.afterproject.dto.admin.SurveyCreateDto globalSurvey() {
+        com.example.afterproject.dto.admin.SurveyCreateDto survey = new com.example.afterproject.dto.admin.SurveyCreateDto();
+        survey.setTitle("전체 설문");
+        survey.setStartDate(LocalDate.now());
+        survey.setEndDate(LocalDate.now().plusDays(7));
+        survey.setQuestions(Stream.of("문항 1", "문항 2", "문항 3").map(text -> {
+            com.example.afterproject.dto.admin.SurveyCreateDto.QuestionDto question =
+                    new com.example.afterproject.dto.admin.SurveyCreateDto.QuestionDto();
+            question.setQuestionText(text);
+            question.setQuestionType("TEXT");
+            return question;
+        }).collect(Collectors.toList()));
+        return survey;
+    }
+
+    private static RoleUpdateDto role(String value) {
+        RoleUpdateDto role = new RoleUpdateDto();
+        role.setRole(value);
+        return role;
+    }
+
+    private static StatusUpdateDto status(String value) {
+        StatusUpdateDto status = new StatusUpdateDto();
+        status.setStatus(value);
+        return status;
+    }
+
+    private static AllocationModeUpdateDto allocationMode(String value) {
+        AllocationModeUpdateDto mode = new AllocationModeUpdateDto();
+        mode.setAllocationMode(value);
+        if (CourseEntity.ALLOCATION_LOTTERY.equals(value)) {
+            mode.setLotteryClosesAt(Instant.now().plusSeconds(3600));
+        }
+        return mode;
+    }
+
+    private static class Dataset {
+        Long admin;
+        Long teacher;
+        Long me;
+        Long newcomer;
+        Long walkIn;
+        Long spare;
+        List<Long> roster;
+        List<Long> bulkStudents;
+        Long mainCourse;
+        Long openCourse;
+        Long finishedCourse;
+        List<Long> myCourses = new ArrayList<>();
+        List<Long> pendingCourses = new ArrayList<>();
+        List<LocalDate> classDates = new ArrayList<>();
+        List<Long> attendanceEnrollments;
+        List<Long> notices = new ArrayList<>();
+        Long openSurvey;
+        List<Long> openSurveyQuestions;
+    }
+}
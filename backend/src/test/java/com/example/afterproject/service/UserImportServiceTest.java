@@ -0,0 +1,137 @@
+package com.example.afterproject.service;
+
+import com.example.afterproject.dto.admin.UserImportEventDto;
+import com.example.afterproject.entity.UserEntity;
+import com.example.afterproject.repository.UserRepository;
+import com.example.afterproject.support.QueryCountingDataSource;
+import com.example.afterproject.support.QueryCountingDataSourceConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CSV 일괄 등록의 중복 처리를 검증합니다.
+ * - 파일 안에서 중복된 이메일/학번은 첫 행만 등록하고 나머지는 행 오류로 보고합니다.
+ * - 이미 가입된 이메일/학번은 등록하지 않습니다.
+ * - 중복 확인 이후 다른 경로로 같은 이메일이 가입되면 배치 INSERT가 실패하고, 행 단위로 다시 저장해 그 행만 오류로 보고합니다.
+ */
+@SpringBootTest
+@Import(QueryCountingDataSourceConfig.class)
+@ActiveProfiles("test")
+class UserImportServiceTest {
+
+    private static final String HEADER = "email,password,name,role,studentIdNo\n";
+
+    @Autowired
+    private UserImportService userImportService;
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void clearHook() {
+        QueryCountingDataSource.afterExecute(null);
+    }
+
+    @Test
+    void duplicatesWithinFileKeepOnlyTheFirstRow() {
+        String p = prefix();
+        String csv = HEADER
+                + p + "a@test.com,pw,첫째,STUDENT," + p + "-1\n"
+                + p + "a@test.com,pw,둘째,STUDENT," + p + "-2\n"
+                + p + "b@test.com,pw,셋째,STUDENT," + p + "-1\n"
+                + p + "c@test.com,pw,넷째,teacher,\n";
+
+        List<UserImportEventDto> events = importCsv(csv);
+
+        assertThat(errors(events)).extracting(UserImportEventDto::getLine).containsExactly(3, 4);
+        assertThat(errors(events)).extracting(UserImportEventDto::getMessage)
+                .containsExactly("이미 가입된 이메일입니다.", "이미 등록된 학번입니다.");
+        assertThat(done(events).getImported()).isEqualTo(2);
+        assertThat(done(events).getTotal()).isEqualTo(4);
+        assertThat(userRepository.findByEmail(p + "a@test.com")).get().extracting(UserEntity::getName).isEqualTo("첫째");
+        assertThat(userRepository.findByEmail(p + "b@test.com")).isEmpty();
+        assertThat(userRepository.findByEmail(p + "c@test.com")).get().extracting(UserEntity::getRole).isEqualTo("TEACHER");
+    }
+
+    @Test
+    void existingEmailsAndStudentIdsAreNotImported() {
+        String p = prefix();
+        userRepository.save(user(p + "old@test.com", "기존", p + "-1"));
+        String csv = HEADER
+                + p + "old@test.com,pw,새이름,STUDENT,\n"
+                + p + "new@test.com,pw,학번중복,STUDENT," + p + "-1\n"
+                + p + "ok@test.com,pw,정상,STUDENT," + p + "-2\n";
+
+        List<UserImportEventDto> events = importCsv(csv);
+
+        assertThat(errors(events)).extracting(UserImportEventDto::getEmail)
+                .containsExactly(p + "old@test.com", p + "new@test.com");
+        assertThat(done(events).getImported()).isEqualTo(1);
+        assertThat(userRepository.findByEmail(p + "old@test.com")).get().extracting(UserEntity::getName).isEqualTo("기존");
+        assertThat(userRepository.findByEmail(p + "ok@test.com")).isPresent();
+    }
+
+    @Test
+    void rowRegisteredAfterValidationFallsBackToRowByRowInsert() {
+        String p = prefix();
+        String csv = HEADER
+                + p + "a@test.com,pw,가,STUDENT,\n"
+                + p + "b@test.com,pw,나,STUDENT,\n"
+                + p + "c@test.com,pw,다,STUDENT,\n";
+
+        // 중복 확인 조회 직후, 다른 경로(다른 커넥션)로 b가 먼저 가입합니다.
+        QueryCountingDataSource.afterExecute(() -> {
+            QueryCountingDataSource.afterExecute(null);
+            CompletableFuture.runAsync(() -> userRepository.save(user(p + "b@test.com", "동시 가입", null))).join();
+        });
+        List<UserImportEventDto> events = importCsv(csv);
+
+        assertThat(errors(events)).singleElement().satisfies(error -> {
+            assertThat(error.getLine()).isEqualTo(3);
+            assertThat(error.getEmail()).isEqualTo(p + "b@test.com");
+            assertThat(error.getMessage()).isEqualTo("이미 가입된 이메일 또는 학번입니다.");
+        });
+        assertThat(done(events).getImported()).isEqualTo(2);
+        assertThat(userRepository.findByEmail(p + "a@test.com")).isPresent();
+        assertThat(userRepository.findByEmail(p + "c@test.com")).isPresent();
+        assertThat(userRepository.findByEmail(p + "b@test.com")).get().extracting(UserEntity::getName).isEqualTo("동시 가입");
+    }
+
+    private List<UserImportEventDto> importCsv(String csv) {
+        List<UserImportEventDto> events = new ArrayList<>();
+        userImportService.importCsv(csv, events::add);
+        return events;
+    }
+
+    private static List<UserImportEventDto> errors(List<UserImportEventDto> events) {
+        return events.stream().filter(event -> "error".equals(event.getType())).collect(Collectors.toList());
+    }
+
+    private static UserImportEventDto done(List<UserImportEventDto> events) {
+        return events.get(events.size() - 1);
+    }
+
+    private static String prefix() {
+        return "import-" + System.nanoTime() + "-";
+    }
+
+    private static UserEntity user(String email, String name, String studentIdNo) {
+        UserEntity user = new UserEntity();
+        user.setEmail(email);
+        user.setPassword("{noop}password");
+        user.setName(name);
+        user.setRole("STUDENT");
+        user.setStudentIdNo(studentIdNo);
+        return user;
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.afterproject.support;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 실행된 SQL 문 수를 스레드별로 세는 테스트용 DataSource
+ * - Statement의 execute* 호출 한 번을 1로 셉니다. JDBC 배치(executeBatch)는 한 번의 왕복이므로 1로 셉니다.
+ * - JPA와 JdbcTemplate이 같은 DataSource를 쓰므로 두 경로의 쿼리가 모두 집계됩니다.
+ * - startCapture()와 stopCapture() 사이에 실행된 SQL은 바인딩 파라미터와 함께 기록됩니다.
+ * - afterExecute()로 등록한 동작은 현재 스레드의 SQL 실행 직후(결과를 읽기 전)에 실행됩니다. 동시성 순서를 재현할 때 사용합니다.
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+    private static final ThreadLocal<List<CapturedStatement>> CAPTURED = new ThreadLocal<>();
+    private static final ThreadLocal<Runnable> AFTER_EXECUTE = new ThreadLocal<>();
+
+    /**
+     * 실행된 SQL 한 건과 실행 시점의 바인딩 파라미터(1번부터 순서대로)
+     */
+    public record CapturedStatement(String sql, List<Object> parameters) {
+    }
+
+    public QueryCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    public static int count() {
+        return COUNT.get()[0];
+    }
+
+    public static void startCapture() {
+        CAPTURED.set(new ArrayList<>());
+    }
+
+    public static List<CapturedStatement> stopCapture() {
+        List<CapturedStatement> captured = CAPTURED.get();
+        CAPTURED.remove();
+        return captured == null ? List.of() : captured;
+    }
+
+    public static void afterExecute(Runnable hook) {
+        if (hook == null) {
+            AFTER_EXECUTE.remove();
+        } else {
+            AFTER_EXECUTE.set(hook);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(super.getConnection(username, password));
+    }
+
+    private static Connection countingConnection(Connection connection) {
+        return proxy(Connection.class, connection, (method, args, result) -> {
+            if (result instanceof CallableStatement statement) {
+                return countingStatement(CallableStatement.class, statement, (String) args[0]);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return countingStatement(PreparedStatement.class, statement, (String) args[0]);
+            }
+            if (result instanceof Statement statement && "createStatement".equals(method.getName())) {
+                return countingStatement(Statement.class, statement, null);
+            }
+            return result;
+        });
+    }
+
+    private static <T extends Statement> T countingStatement(Class<T> type, T statement, String preparedSql) {
+        Map<Integer, Object> parameters = new TreeMap<>();
+        return proxy(type, statement, (method, args, result) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters.put(index, "setNull".equals(name) ? null : args[1]);
+            } else if ("clearParameters".equals(name)) {
+                parameters.clear();
+            } else if (name.startsWith("execute")) {
+                COUNT.get()[0]++;
+                List<CapturedStatement> captured = CAPTURED.get();
+                if (captured != null) {
+                    String sql = preparedSql != null ? preparedSql : args != null ? (String) args[0] : "batch";
+                    captured.add(new CapturedStatement(sql, new ArrayList<>(parameters.values())));
+                }
+                Runnable hook = AFTER_EXECUTE.get();
+                if (hook != null) {
+                    hook.run();
+                }
+            }
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, ResultHandler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> {
+            try {
+                return handler.handle(method, args, method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        };
+        return (T) Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+    }
+
+    private interface ResultHandler {
+        Object handle(Method method, Object[] args, Object result);
+    }
+}
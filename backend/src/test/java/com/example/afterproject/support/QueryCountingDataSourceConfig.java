@@ -0,0 +1,27 @@
+package com.example.afterproject.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션의 "dataSource" 빈을 {@link QueryCountingDataSource}로 감싸는 테스트 설정
+ * - 쿼리 수 측정과 실행 SQL 캡처가 필요한 테스트에서 @Import 해 사용합니다.
+ */
+@TestConfiguration
+public class QueryCountingDataSourceConfig {
+
+    @Bean
+    static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource && "dataSource".equals(beanName)
+                        ? new QueryCountingDataSource(dataSource)
+                        : bean;
+            }
+        };
+    }
+}
@@ -26,21 +26,20 @@ const resolveQuarterLabel = value => QUARTER_OPTIONS[value] || QUARTER_OPTIONS[S
 // API 호출 함수들
 // ===============================
 
-// 사용자 목록 조회
-async function loadUsers(role = '', name = '') {
+// 사용자 목록 조회 (한 페이지)
+// 서버는 userId 기준 커서 페이지로 응답하므로, 다음 페이지는 응답의 nextCursor를 넘겨 요청
+async function loadUsers(role = '', name = '', cursor = null) {
   try {
-    let endpoint = '/api/admin/users';
     const params = new URLSearchParams();
     if (role) params.append('role', role);
     if (name) params.append('name', name);
-    if (params.toString()) endpoint += `?${params.toString()}`;
+    if (cursor !== null && cursor !== undefined) params.append('cursor', cursor);
 
-    const data = await apiRequest(endpoint);
-    return data;
+    return await apiRequest(`/api/admin/users?${params.toString()}`);
   } catch (error) {
     console.error('Failed to load users:', error);
     alert('사용자 목록을 불러오는데 실패했습니다.');
-    return [];
+    return { users: [], nextCursor: null };
   }
 }
 
@@ -180,6 +179,10 @@ document.querySelectorAll('.menu-item').forEach(btn => {
 // ===============================
 // 1. 사용자 관리
 // ===============================
+// 목록 상태: 현재 검색 조건, 다음 페이지 커서, 진행 중인 요청 번호(검색어가 바뀌면 이전 응답은 버림)
+const userListState = { role: '', name: '', cursor: null, requestId: 0 };
+
+// 검색 조건으로 첫 페이지부터 다시 표시
 async function renderUsers() {
   const tbody = document.getElementById('userTbody');
   tbody.innerHTML = '<tr><td colspan="5">로딩 중...</td></tr>';
@@ -193,12 +196,35 @@ async function renderUsers() {
     '교사': 'TEACHER',
     '관리자': 'ADMIN'
   };
-  const roleFilter = roleMap[roleFilterValue] || roleFilterValue;
+  userListState.role = roleMap[roleFilterValue] || roleFilterValue;
+  userListState.name = keyword;
+  userListState.cursor = null;
 
-  const users = await loadUsers(roleFilter, keyword);
+  await loadMoreUsers(true);
+}
 
-  tbody.innerHTML = '';
+// 다음 페이지를 불러와 목록 뒤에 붙임
+async function loadMoreUsers(reset = false) {
+  const tbody = document.getElementById('userTbody');
+  const moreBtn = document.getElementById('userLoadMore');
+  const requestId = ++userListState.requestId;
+  moreBtn.disabled = true;
+
+  const page = await loadUsers(userListState.role, userListState.name, userListState.cursor);
+  if (requestId !== userListState.requestId) return;
+
+  if (reset) tbody.innerHTML = '';
+  appendUserRows(tbody, page.users || []);
+  if (reset && tbody.children.length === 0) {
+    tbody.innerHTML = '<tr><td colspan="5">사용자가 없습니다.</td></tr>';
+  }
+
+  userListState.cursor = page.nextCursor ?? null;
+  moreBtn.classList.toggle('hidden', userListState.cursor === null);
+  moreBtn.disabled = false;
+}
 
+function appendUserRows(tbody, users) {
   users.forEach(u => {
     const tr = document.createElement('tr');
     
@@ -233,6 +259,7 @@ async function renderUsers() {
   });
 }
 
+document.getElementById('userLoadMore').addEventListener('click', () => loadMoreUsers());
 document.getElementById('userSearch').addEventListener('input', renderUsers);
 document.getElementById('roleFilter').addEventListener('change', renderUsers);
 
@@ -86,6 +86,15 @@ async function apiRequest(endpoint, options = {}) {
       throw new Error('Unauthorized');
     }
 
+    // 429 Too Many Requests - 수강 신청 대기실: 입장할 때까지 순번을 조회한 뒤 같은 요청을 다시 보냅니다.
+    if (response.status === 429) {
+      const waiting = await response.json();
+      if (waiting.queueToken) {
+        await waitForAdmission(waiting);
+        return apiRequest(endpoint, options);
+      }
+    }
+
     // 403 Forbidden - 권한 없음
     if (response.status === 403) {
       let errorMessage = '접근 권한이 없습니다.';
@@ -159,6 +168,68 @@ async function apiRequest(endpoint, options = {}) {
   }
 }
 
+/* -------------------------------------
+   멱등 요청 (수강 신청/취소, 설문 제출)
+   같은 Idempotency-Key로 재전송하므로 네트워크 오류로 재시도해도 한 번만 처리됩니다.
+------------------------------------- */
+async function apiRequestIdempotent(endpoint, options = {}, retries = 2) {
+  const key = (window.crypto && crypto.randomUUID)
+    ? crypto.randomUUID()
+    : `${Date.now()}-${Math.random().toString(36).slice(2)}`;
+  const idempotentOptions = {
+    ...options,
+    headers: { ...options.headers, 'Idempotency-Key': key },
+  };
+  for (let attempt = 0; ; attempt++) {
+    try {
+      return await apiRequest(endpoint, idempotentOptions);
+    } catch (error) {
+      if (attempt >= retries || !error.message.includes('서버에 연결할 수 없습니다')) {
+        throw error;
+      }
+      await new Promise(resolve => setTimeout(resolve, 500 * (attempt + 1)));
+    }
+  }
+}
+
+/* -------------------------------------
+   수강 신청 대기실
+------------------------------------- */
+async function waitForAdmission(waiting) {
+  let status = { status: 'WAITING', position: waiting.position, retryAfterSeconds: waiting.retryAfterSeconds };
+  try {
+    while (status.status === 'WAITING') {
+      showWaitingRoomBanner(status.position);
+      await new Promise(resolve => setTimeout(resolve, Math.max(1, status.retryAfterSeconds) * 1000));
+      status = await apiRequest(`/api/students/waiting-room/${waiting.queueToken}`);
+    }
+  } finally {
+    hideWaitingRoomBanner();
+  }
+}
+
+// 대기 순번 안내 (페이지에 #waitingRoomBanner가 없으면 만들어 붙입니다)
+function showWaitingRoomBanner(position) {
+  let banner = document.getElementById('waitingRoomBanner');
+  if (!banner) {
+    banner = document.createElement('div');
+    banner.id = 'waitingRoomBanner';
+    banner.className = 'waiting-banner';
+    banner.setAttribute('role', 'status');
+    banner.setAttribute('aria-live', 'polite');
+    document.body.appendChild(banner);
+  }
+  banner.textContent = `접속자가 많아 대기 중입니다. 내 앞에 ${Math.max(0, position - 1)}명 (대기 순번 ${position}번)`;
+  banner.classList.remove('hidden');
+}
+
+function hideWaitingRoomBanner() {
+  const banner = document.getElementById('waitingRoomBanner');
+  if (banner) {
+    banner.classList.add('hidden');
+  }
+}
+
 /* -------------------------------------
    페이지 접근 권한 확인
 ------------------------------------- */
@@ -63,6 +63,8 @@ async function getCourseDetail(courseId) {
       enrolled: data.currentEnrollment,
       desc: data.description || '',
       isEnrolled: data.isEnrolled || false,
+      enrollmentStatus: data.enrollmentStatus || null, // 'ACTIVE' | 'WAITLISTED' | 'LOTTERY' | null
+      waitlistRank: data.waitlistRank ?? null,
       canEnroll: data.canEnroll !== undefined ? data.canEnroll : true // API에서 제공하는 신청 가능 여부
     };
   } catch (error) {
@@ -86,6 +88,7 @@ async function loadMyCourses() {
       absentCount: course.absentCount || 0,
       lateCount: course.lateCount || 0,
       status: course.status || 'ACTIVE',
+      waitlistRank: course.waitlistRank || null,
       days: [],
       time: ''
     }));
@@ -101,11 +104,11 @@ async function loadMyCourses() {
 // 수강 신청
 async function enrollCourse(courseId) {
   try {
-    await apiRequest(`/api/students/courses/${courseId}/enroll`, {
+    // 응답: { message } (정원 마감 시 대기자 명단 등록 안내 포함)
+    return await apiRequestIdempotent(`/api/students/courses/${courseId}/enroll`, {
       method: 'POST',
       body: JSON.stringify({})
     });
-    return true;
   } catch (error) {
     console.error('Failed to enroll course:', error);
     throw error;
@@ -115,7 +118,7 @@ async function enrollCourse(courseId) {
 // 수강 취소
 async function cancelEnrollment(courseId) {
   try {
-    await apiRequest(`/api/students/courses/${courseId}/enroll`, {
+    await apiRequestIdempotent(`/api/students/courses/${courseId}/enroll`, {
       method: 'DELETE'
     });
     return true;
@@ -174,7 +177,7 @@ async function getSurveyDetail(surveyId) {
 // 설문조사 제출
 async function submitSurvey(surveyId, responses) {
   try {
-    await apiRequest(`/api/students/surveys/${surveyId}/responses`, {
+    await apiRequestIdempotent(`/api/students/surveys/${surveyId}/responses`, {
       method: 'POST',
       body: JSON.stringify(responses)
     });
@@ -196,7 +199,8 @@ function remainSeats(c) { return Math.max(0, c.capacity - c.enrolled); }
 // 수강 신청 여부 확인 (API에서 제공하는 isEnrolled 사용)
 function isApplied(courseId) {
   const course = COURSES.find(c => c.id === courseId);
-  return course ? course.isEnrolled : false;
+  // 대기(WAITLISTED)나 추첨 신청(LOTTERY) 상태도 신청한 것으로 보고 취소할 수 있게 합니다
+  return course ? Boolean(course.isEnrolled || course.enrollmentStatus) : false;
 }
 
 // ===============================
@@ -330,18 +334,25 @@ async function openCourseModal(courseId) {
     const blocked = course.canEnroll === false;
     warning.classList.toggle("hidden", !blocked);
 
-    const applied = course.isEnrolled;
-    const isFull = remainSeats(course) <= 0 && !applied;
+    const status = course.enrollmentStatus || (course.isEnrolled ? 'ACTIVE' : null);
+    const isFull = remainSeats(course) <= 0 && !status;
 
-    if (applied) {
+    if (status === 'WAITLISTED') {
+      btn.textContent = course.waitlistRank ? `대기 취소 (대기 ${course.waitlistRank}번)` : "대기 취소";
+      btn.disabled = false;
+    } else if (status === 'LOTTERY') {
+      btn.textContent = "추첨 신청 취소";
+      btn.disabled = false;
+    } else if (status) {
       btn.textContent = "수강 취소";
       btn.disabled = blocked;
-    } else if (isFull) {
-      btn.textContent = "정원 마감";
-      btn.disabled = true;
     } else if (blocked) {
       btn.textContent = "신청 불가";
       btn.disabled = true;
+    } else if (isFull) {
+      // 정원이 찬 강좌는 대기자 명단에 등록됩니다
+      btn.textContent = "대기 신청";
+      btn.disabled = false;
     } else {
       btn.textContent = "신청하기";
       btn.disabled = false;
@@ -364,6 +375,9 @@ async function openCourseModal(courseId) {
       c.capacity = detail.capacity || c.capacity;
       c.enrolled = detail.enrolled ?? c.enrolled;
       c.canEnroll = detail.canEnroll ?? c.canEnroll;
+      c.isEnrolled = detail.isEnrolled;
+      c.enrollmentStatus = detail.enrollmentStatus;
+      c.waitlistRank = detail.waitlistRank;
       applyToUI(c);
     }
   } catch (e) {
@@ -403,20 +417,17 @@ async function toggleApply() {
       MY_COURSES = MY_COURSES.filter(course => course.id !== c.id);
 
     } else {
-      if (remainSeats(c) <= 0) {
-        alert("정원이 가득 찼습니다.");
-        btn.disabled = false;
-        return;
-      }
-
-      if (!confirm(`'${c.name}' 수강을 신청할까요?`)) {
+      const confirmMessage = remainSeats(c) <= 0
+        ? `'${c.name}' 강좌는 정원이 가득 찼습니다. 대기자 명단에 등록할까요?`
+        : `'${c.name}' 수강을 신청할까요?`;
+      if (!confirm(confirmMessage)) {
         btn.disabled = false;
         return;
       }
 
-      // API 호출: 수강 신청
-      await enrollCourse(c.id);
-      alert('수강 신청이 완료되었습니다.');
+      // API 호출: 수강 신청 (정원 마감 시 대기 등록)
+      const result = await enrollCourse(c.id);
+      alert((result && result.message) || '수강 신청이 완료되었습니다.');
 
       // 내 수강 목록에 추가 (임시)
       MY_COURSES.push({